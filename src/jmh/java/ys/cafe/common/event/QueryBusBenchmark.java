@@ -0,0 +1,75 @@
+package ys.cafe.common.event;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ys.cafe.member.domain.vo.MemberStatus;
+import ys.cafe.member.service.dto.request.MemberAdmissionQuery;
+import ys.cafe.member.service.dto.response.MemberAdmission;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryBus 전달 방식별 처리량
+ * 결제 → 회원 요약 정보 조회(MemberAdmissionQuery) 한 번을 REFERENCE(참조 전달)와 JSON(직렬화 복사본 전달)으로 비교합니다.
+ * 핸들러는 회원 캐시 적중을 가정하여 미리 만든 결과를 반환하므로 전달 비용만 측정됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryBusBenchmark {
+
+    @Param({"REFERENCE", "JSON"})
+    private QueryDispatchMode dispatchMode;
+
+    private QueryBus queryBus;
+    private MemberAdmissionQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MemberAdmission admission = new MemberAdmission(
+                1L, MemberStatus.ACTIVE, "홍길동", "01012345678", "MALE", "1990-01-01", "2025-01-01T12:00:00");
+
+        QueryHandler<MemberAdmissionQuery, MemberAdmission> handler = new QueryHandler<>() {
+            @Override
+            public Class<MemberAdmissionQuery> queryType() {
+                return MemberAdmissionQuery.class;
+            }
+
+            @Override
+            public Class<MemberAdmission> resultType() {
+                return MemberAdmission.class;
+            }
+
+            @Override
+            public MemberAdmission handle(MemberAdmissionQuery query) {
+                return admission;
+            }
+
+            @Override
+            public QueryDispatchMode dispatchMode() {
+                return dispatchMode;
+            }
+        };
+
+        queryBus = new QueryBus(List.of(handler), JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build());
+        query = new MemberAdmissionQuery(1L);
+    }
+
+    @Benchmark
+    public MemberAdmission ask() {
+        return queryBus.ask(query);
+    }
+}
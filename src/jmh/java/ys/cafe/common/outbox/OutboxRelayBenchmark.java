@@ -0,0 +1,131 @@
+package ys.cafe.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이 배치 크기별 발행 처리량 (ops = 발행한 이벤트 수)
+ * 매 호출마다 EVENT_COUNT건의 미발행 이벤트를 릴레이가 모두 발행할 때까지 실행합니다.
+ * 저장소는 메모리로 대체하고, 점유/발행 완료/실패 기록 호출마다 roundTripMicros 만큼 대기하여 DB 왕복 비용을 흉내 냅니다.
+ * (배치가 클수록 왕복 비용이 이벤트 수에 나뉘어 줄어들고, 배치당 점유 유지 시간과 리스너 지연은 길어짐)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutboxRelayBenchmark {
+
+    private static final int EVENT_COUNT = 10_000;
+
+    @Param({"1", "10", "100", "500"})
+    private int batchSize;
+
+    @Param({"0", "200"})
+    private long roundTripMicros;
+
+    private InMemoryOutboxStore outboxStore;
+    private OutboxRelay outboxRelay;
+
+    // 리스너가 받은 마지막 이벤트 (벤치마크 반환값으로 소비하여 발행이 제거되지 않도록 함)
+    private Object lastPublished;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+        List<ClaimedOutboxEvent> events = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            OrderStatusChangedEvent event = new OrderStatusChangedEvent(
+                    (long) i, 1L, OrderStatus.PREPARING, LocalDateTime.of(2025, 1, 1, 12, 0));
+            events.add(new ClaimedOutboxEvent((long) i, event.getClass().getName(), objectMapper.writeValueAsString(event)));
+        }
+
+        outboxStore = new InMemoryOutboxStore(events, roundTripMicros);
+        OutboxRelayProperties properties = new OutboxRelayProperties(
+                batchSize, Duration.ofMinutes(1), Duration.ofSeconds(10), 10, Duration.ofDays(7));
+        outboxRelay = new OutboxRelay(outboxStore, event -> lastPublished = event, objectMapper, properties);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetStore() {
+        outboxStore.reset();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public Object relay() {
+        outboxRelay.relay();
+        return lastPublished;
+    }
+
+    /**
+     * 미발행 이벤트를 앞에서부터 점유하는 메모리 저장소
+     */
+    private static final class InMemoryOutboxStore implements OutboxStore {
+
+        private final List<ClaimedOutboxEvent> events;
+        private final long roundTripNanos;
+        private int nextIndex;
+
+        private InMemoryOutboxStore(List<ClaimedOutboxEvent> events, long roundTripMicros) {
+            this.events = events;
+            this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        }
+
+        private void reset() {
+            nextIndex = 0;
+        }
+
+        @Override
+        public List<ClaimedOutboxEvent> claim(int limit, LocalDateTime claimedUntil) {
+            roundTrip();
+            int toIndex = Math.min(nextIndex + limit, events.size());
+            List<ClaimedOutboxEvent> batch = events.subList(nextIndex, toIndex);
+            nextIndex = toIndex;
+            return batch;
+        }
+
+        @Override
+        public void markPublished(List<Long> eventIds, LocalDateTime publishedAt) {
+            roundTrip();
+        }
+
+        @Override
+        public void markFailed(List<Long> eventIds, LocalDateTime retryAt) {
+            roundTrip();
+        }
+
+        @Override
+        public int purgePublishedBefore(LocalDateTime publishedBefore, int limit) {
+            return 0;
+        }
+
+        // 스레드를 재우면 타이머 해상도에 따라 대기 시간이 크게 달라지므로 바쁜 대기로 왕복 시간을 맞춤
+        private void roundTrip() {
+            if (roundTripNanos == 0) {
+                return;
+            }
+            long deadline = System.nanoTime() + roundTripNanos;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
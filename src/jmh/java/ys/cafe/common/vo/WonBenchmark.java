@@ -0,0 +1,80 @@
+package ys.cafe.common.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 총액 계산 + 결제 포트 전달 경로 비교
+ * - bigDecimal*: 기존 BigDecimal 기반 Won (라인별 multiply/add 할당, toPlainString → new BigDecimal 문자열 왕복)
+ * - long*: long 기반 Won (overflow 검사 연산, 결제 포트에 long 그대로 전달)
+ *
+ * 할당량 비교는 gc 프로파일러의 gc.alloc.rate.norm (build.gradle jmh 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WonBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int lineCount;
+
+    private long[] prices;
+    private int[] quantities;
+    private List<BigDecimal> bigDecimalPrices;
+    private List<Won> wonPrices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        prices = new long[lineCount];
+        quantities = new int[lineCount];
+        bigDecimalPrices = new ArrayList<>(lineCount);
+        wonPrices = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            prices[i] = 4_500L + i * 500L;
+            quantities[i] = 1 + i % 3;
+            bigDecimalPrices.add(BigDecimal.valueOf(prices[i]));
+            wonPrices.add(Won.of(prices[i]));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            total = total.add(bigDecimalPrices.get(i).multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Won longTotal() {
+        List<Won> lineTotals = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lineTotals.add(wonPrices.get(i).multiply(quantities[i]));
+        }
+        return Won.sum(lineTotals);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotalAcrossPaymentPort() {
+        // 주문 → 결제 포트: 문자열 직렬화 후 결제 모듈에서 다시 파싱
+        return new BigDecimal(bigDecimalTotal().toPlainString());
+    }
+
+    @Benchmark
+    public long longTotalAcrossPaymentPort() {
+        return longTotal().getAmount();
+    }
+}
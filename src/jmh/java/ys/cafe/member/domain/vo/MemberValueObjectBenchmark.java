@@ -0,0 +1,50 @@
+package ys.cafe.member.domain.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 회원 Value Object 생성(검증) 비용
+ * 회원 가입/정보 변경 요청마다 만드는 Value Object의 검증 비용을 측정합니다.
+ * Password.of는 암호화(BCrypt) 비용을 제외하고 정규식 검증만 보도록 인코더를 그대로 반환하는 함수로 대신합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberValueObjectBenchmark {
+
+    private static final Function<String, String> NO_OP_ENCODER = Function.identity();
+
+    private String rawPassword = "password1!";
+    private String phoneNumber = "010-1234-5678";
+    private String lastName = "김";
+    private String firstName = "철수";
+    private String birthDate = "1990-05-15";
+
+    @Benchmark
+    public Password password() {
+        return Password.of(rawPassword, NO_OP_ENCODER);
+    }
+
+    @Benchmark
+    public PhoneNumber phoneNumber() {
+        return PhoneNumber.of(phoneNumber);
+    }
+
+    @Benchmark
+    public MemberName memberName() {
+        return MemberName.of(lastName, firstName);
+    }
+
+    @Benchmark
+    public BirthDate birthDate() {
+        return BirthDate.of(birthDate);
+    }
+}
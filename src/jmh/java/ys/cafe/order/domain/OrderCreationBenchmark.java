@@ -0,0 +1,65 @@
+package ys.cafe.order.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ys.cafe.order.service.dto.OrderResponse;
+import ys.cafe.order.service.dto.ProductDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 처리량
+ * 상품 포트에서 받은 가격(long)으로 OrderLine을 만들고 Order.create로 총액을 계산하는 경로를 측정합니다.
+ * (상품 → 주문 간 가격 문자열 변환 없음, 공용 Won 캐시 인스턴스 사용)
+ * 주문 항목 하나의 생성(OrderLine.create)과 주문 응답 변환(OrderResponse.from)도 따로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderCreationBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int lineCount;
+
+    private List<ProductDTO> products;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        products = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            products.add(ProductDTO.of((long) i + 1, "상품" + i, 4_500L + i * 500L));
+        }
+        order = createOrder();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        List<OrderLine> orderLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            ProductDTO product = products.get(i);
+            orderLines.add(OrderLine.create(product.productId(), product.name(), 1 + i % 3, product.price()));
+        }
+        return Order.create(1L, orderLines);
+    }
+
+    @Benchmark
+    public OrderLine createOrderLine() {
+        ProductDTO product = products.get(0);
+        return OrderLine.create(product.productId(), product.name(), 2, product.price());
+    }
+
+    @Benchmark
+    public OrderResponse orderResponse() {
+        return OrderResponse.from(order);
+    }
+}
@@ -0,0 +1,80 @@
+package ys.cafe.order.service;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 SSE 구독 수별 힙 사용량 (연결 수 vs 힙)
+ * 매 반복마다 connections개의 회원별 구독을 등록하고, 등록 전후의 GC 이후 힙 사용량 차이를 보조 지표로 보고합니다.
+ * - heapBytesPerConnection: 구독 하나가 유지하는 힙 (SseEmitter + 구독 집합 항목)
+ * - heapMegabytes: 전체 구독이 유지하는 힙
+ * 톰캣의 연결별 소켓 버퍼와 비동기 요청 객체는 포함되지 않으므로, 실제 노드 용량은 이 값에 연결별 톰캣 비용을 더해 산정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class OrderStatusSubscriptionBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int connections;
+
+    private OrderStatusNotifier notifier;
+
+    @Benchmark
+    public OrderStatusNotifier subscribe(HeapUsage heapUsage) {
+        long before = HeapUsage.usedAfterGc();
+
+        notifier = new OrderStatusNotifier(Duration.ofMinutes(30), Duration.ofSeconds(10), 32, Runnable::run);
+        for (int i = 0; i < connections; i++) {
+            notifier.subscribeMember((long) i);
+        }
+
+        long retained = HeapUsage.usedAfterGc() - before;
+        heapUsage.heapBytesPerConnection = (double) retained / connections;
+        heapUsage.heapMegabytes = retained / (1024.0 * 1024.0);
+        return notifier;
+    }
+
+    // 이전 반복의 구독이 다음 반복의 측정 기준 힙에 남지 않도록 해제
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        notifier = null;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+        public double heapBytesPerConnection;
+        public double heapMegabytes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            heapBytesPerConnection = 0;
+            heapMegabytes = 0;
+        }
+
+        static long usedAfterGc() {
+            Runtime runtime = Runtime.getRuntime();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ys.cafe.order.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderLine;
+import ys.cafe.order.service.dto.OrderResponse;
+import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSerializer 직렬화/역직렬화 처리량
+ * 주문 응답(OrderResponse, 주문 항목 lineCount개)과 결제 정보 응답(PaymentInfoResponse)을
+ * 스프링 기본 설정 ObjectMapper(DEFAULT)와 Blackbird 모듈을 등록한 ObjectMapper(BLACKBIRD)로 비교합니다.
+ * String 경로와 byte[] 경로(중간 String 없음)를 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataSerializerBenchmark {
+
+    @Param({"DEFAULT", "BLACKBIRD"})
+    private String mapper;
+
+    @Param({"1", "5"})
+    private int lineCount;
+
+    private DataSerializer dataSerializer;
+    private OrderResponse orderResponse;
+    private PaymentInfoResponse paymentInfoResponse;
+    private String orderResponseJson;
+    private byte[] orderResponseBytes;
+    private String paymentInfoResponseJson;
+    private byte[] paymentInfoResponseBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 스프링 부트 자동 구성과 같은 설정 (JavaTimeModule, 날짜 문자열 출력, 없는 필드 무시)
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if ("BLACKBIRD".equals(mapper)) {
+            builder.addModule(new BlackbirdModule());
+        }
+        dataSerializer = new DataSerializer(builder.build());
+
+        List<OrderLine> orderLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            orderLines.add(OrderLine.create((long) i + 1, "상품" + i, 1 + i % 3, 4_500L + i * 500L));
+        }
+        orderResponse = OrderResponse.from(Order.create(1L, orderLines));
+        paymentInfoResponse = PaymentInfoResponse.of(1L, 1L, "15000", "SUCCESS");
+
+        orderResponseJson = dataSerializer.serialize(orderResponse);
+        orderResponseBytes = dataSerializer.serializeToBytes(orderResponse);
+        paymentInfoResponseJson = dataSerializer.serialize(paymentInfoResponse);
+        paymentInfoResponseBytes = dataSerializer.serializeToBytes(paymentInfoResponse);
+    }
+
+    @Benchmark
+    public String serializeOrderResponse() {
+        return dataSerializer.serialize(orderResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderResponseToBytes() {
+        return dataSerializer.serializeToBytes(orderResponse);
+    }
+
+    @Benchmark
+    public OrderResponse deserializeOrderResponse() {
+        return dataSerializer.deserialize(orderResponseJson, OrderResponse.class);
+    }
+
+    @Benchmark
+    public OrderResponse deserializeOrderResponseFromBytes() {
+        return dataSerializer.deserialize(orderResponseBytes, OrderResponse.class);
+    }
+
+    @Benchmark
+    public String serializePaymentInfoResponse() {
+        return dataSerializer.serialize(paymentInfoResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePaymentInfoResponseToBytes() {
+        return dataSerializer.serializeToBytes(paymentInfoResponse);
+    }
+
+    @Benchmark
+    public PaymentInfoResponse deserializePaymentInfoResponse() {
+        return dataSerializer.deserialize(paymentInfoResponseJson, PaymentInfoResponse.class);
+    }
+
+    @Benchmark
+    public PaymentInfoResponse deserializePaymentInfoResponseFromBytes() {
+        return dataSerializer.deserialize(paymentInfoResponseBytes, PaymentInfoResponse.class);
+    }
+}
@@ -0,0 +1,66 @@
+package ys.cafe.product.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ys.cafe.common.vo.Won;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 조회/생성 비용
+ * 상품 목록에서 판매 가능 상품을 거르는 Products.getAvailableProducts와
+ * 상품 등록 시 만드는 ProductName/ImageUrl의 검증 비용을 측정합니다.
+ * (상품 10개 중 1개는 품절 상태)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductsBenchmark {
+
+    @Param({"10", "100"})
+    private int productCount;
+
+    private Products products;
+    private String productName = "아메리카노";
+    private String imageUrl = "https://cdn.cafe.ys/products/americano.png";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Product> productList = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            ProductStatus status = i % 10 == 9 ? ProductStatus.SOLD_OUT : ProductStatus.AVAILABLE;
+            productList.add(Product.create(
+                    ProductName.of("상품" + i),
+                    "설명" + i,
+                    List.of(ImageUrl.of("https://cdn.cafe.ys/products/" + i + ".png")),
+                    Won.of(4_500L + i * 500L),
+                    status
+            ));
+        }
+        products = Products.from(productList);
+    }
+
+    @Benchmark
+    public List<Product> availableProducts() {
+        return products.getAvailableProducts();
+    }
+
+    @Benchmark
+    public ProductName productName() {
+        return ProductName.of(productName);
+    }
+
+    @Benchmark
+    public ImageUrl imageUrl() {
+        return ImageUrl.of(imageUrl);
+    }
+}
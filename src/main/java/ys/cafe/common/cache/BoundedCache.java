@@ -0,0 +1,201 @@
+package ys.cafe.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * 최대 항목 수가 제한된 인메모리 LRU 캐시
+ * 용량을 넘으면 가장 오래 사용되지 않은 항목을 제거하며, 적중/실패/제거 횟수를 집계합니다.
+ * TTL을 지정하면 저장 후 TTL이 지난 항목은 조회 시 만료(실패)로 처리합니다.
+ *
+ * DB에서 읽은 값을 적재할 때는 조회 전에 invalidationEpoch()를 읽어 두고 putIfNotInvalidated로 저장합니다.
+ * 조회 이후 무효화가 있었으면 저장하지 않으므로, 변경 커밋 전에 읽은 이전 값이 커밋 이후 무효화보다 늦게 적재되어
+ * 만료 없이 남는 경우를 막습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedCache<K, V> {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    // 무효화할 때마다 증가 (entries 잠금 안에서 변경)
+    private long invalidationEpoch;
+
+    public BoundedCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * @param ttl 저장 후 만료까지의 시간 (null이면 만료 없음)
+     */
+    public BoundedCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    BoundedCache(int maxSize, Duration ttl, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("캐시 TTL은 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl == null ? NO_EXPIRY : ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<V> get(K key) {
+        V value;
+        synchronized (entries) {
+            value = valueOf(key, entries.get(key));
+        }
+
+        if (value == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(value);
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, newEntry(value));
+        }
+    }
+
+    /**
+     * 현재 무효화 세대
+     * DB 조회 전에 읽어 두었다가 putIfNotInvalidated에 전달합니다.
+     */
+    public long invalidationEpoch() {
+        synchronized (entries) {
+            return invalidationEpoch;
+        }
+    }
+
+    /**
+     * 조회 이후 무효화가 없었을 때만 저장
+     * 무효화 세대는 캐시 전체에 하나이므로, 다른 키의 무효화가 있었어도 저장하지 않습니다. (다음 조회 시 다시 적재)
+     *
+     * @param epoch 값을 조회하기 전에 읽은 invalidationEpoch()
+     * @return 저장 여부
+     */
+    public boolean putIfNotInvalidated(K key, V value, long epoch) {
+        synchronized (entries) {
+            if (invalidationEpoch != epoch) {
+                return false;
+            }
+            entries.put(key, newEntry(value));
+            return true;
+        }
+    }
+
+    /**
+     * 기존 값과 병합하여 저장
+     * 기존 값이 없거나 만료되었으면 value를 저장하고, 있으면 remapping 결과를 저장합니다.
+     * remapping이 기존 값을 그대로 반환하면 항목(만료 시각 포함)을 변경하지 않습니다.
+     *
+     * @param remapping (기존 값, 새 값) → 저장할 값
+     */
+    public void merge(K key, V value, BinaryOperator<V> remapping) {
+        synchronized (entries) {
+            V existing = valueOf(key, entries.get(key));
+            if (existing == null) {
+                entries.put(key, newEntry(value));
+                return;
+            }
+
+            V merged = remapping.apply(existing, value);
+            if (merged != existing) {
+                entries.put(key, newEntry(merged));
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            invalidationEpoch++;
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidationEpoch++;
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+                hits.sum(),
+                misses.sum(),
+                evictions.sum(),
+                invalidations.sum(),
+                expirations.sum(),
+                size()
+        );
+    }
+
+    // entries 잠금 안에서 호출 (만료된 항목은 제거하고 null 반환)
+    private V valueOf(K key, Entry<V> entry) {
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt != NO_EXPIRY && ticker.getAsLong() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            expirations.increment();
+            return null;
+        }
+        return entry.value;
+    }
+
+    private Entry<V> newEntry(V value) {
+        return new Entry<>(value, ttlNanos == NO_EXPIRY ? NO_EXPIRY : ticker.getAsLong() + ttlNanos);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,30 @@
+package ys.cafe.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 경계를 고려한 캐시 무효화
+ */
+public final class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 중이면 커밋 이후 한 번 더 무효화합니다.
+     * 커밋 전에 다른 요청이 이전 값을 다시 적재한 경우도 커밋 시점에 정리됩니다.
+     */
+    public static void nowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
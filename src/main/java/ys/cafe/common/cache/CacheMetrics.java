@@ -0,0 +1,53 @@
+package ys.cafe.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * BoundedCache 기반 캐시 지표 등록
+ *
+ * cache.gets{cache, result=hit|miss}: 조회 적중/실패 누적 건수
+ * cache.hit.ratio{cache}: 누적 적중률 (0~1)
+ * cache.removals{cache, cause=size|invalidated|expired}: 제거 사유별 누적 항목 수
+ * cache.size{cache}: 현재 항목 수
+ */
+public final class CacheMetrics {
+
+    private CacheMetrics() {
+    }
+
+    public static <T> void bind(MeterRegistry registry, String cacheName, T cache, Function<T, CacheStats> stats) {
+        counter(registry, "cache.gets", cacheName, cache, stats, CacheStats::hits, "result", "hit");
+        counter(registry, "cache.gets", cacheName, cache, stats, CacheStats::misses, "result", "miss");
+        counter(registry, "cache.removals", cacheName, cache, stats, CacheStats::evictions, "cause", "size");
+        counter(registry, "cache.removals", cacheName, cache, stats, CacheStats::invalidations, "cause", "invalidated");
+        counter(registry, "cache.removals", cacheName, cache, stats, CacheStats::expirations, "cause", "expired");
+
+        Gauge.builder("cache.hit.ratio", cache, target -> stats.apply(target).hitRate())
+                .tag("cache", cacheName)
+                .register(registry);
+        Gauge.builder("cache.size", cache, target -> stats.apply(target).size())
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+
+    private static <T> void counter(
+            MeterRegistry registry,
+            String name,
+            String cacheName,
+            T cache,
+            Function<T, CacheStats> stats,
+            ToLongFunction<CacheStats> count,
+            String tagKey,
+            String tagValue
+    ) {
+        FunctionCounter.builder(name, cache, target -> count.applyAsLong(stats.apply(target)))
+                .tag("cache", cacheName)
+                .tag(tagKey, tagValue)
+                .register(registry);
+    }
+}
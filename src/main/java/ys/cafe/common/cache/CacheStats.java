@@ -0,0 +1,26 @@
+package ys.cafe.common.cache;
+
+/**
+ * 캐시 통계 스냅샷
+ *
+ * @param hits          조회 적중 횟수
+ * @param misses        조회 실패 횟수
+ * @param evictions     용량 초과로 제거된 항목 수
+ * @param invalidations 명시적으로 무효화된 항목 수
+ * @param expirations   TTL이 지나 만료된 항목 수
+ * @param size          현재 항목 수
+ */
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long invalidations,
+        long expirations,
+        long size
+) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
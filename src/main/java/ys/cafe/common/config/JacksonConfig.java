@@ -0,0 +1,22 @@
+package ys.cafe.common.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스프링 ObjectMapper 설정
+ * Module 빈은 스프링 부트가 자동 구성 ObjectMapper에 등록하므로 API 응답, 주문 내보내기, 아웃박스,
+ * DataSerializer 모두 같은 설정을 사용합니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * 리플렉션 대신 LambdaMetafactory로 생성한 접근자로 프로퍼티를 읽고 쓰는 모듈 (직렬화/역직렬화 CPU 사용량 감소)
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
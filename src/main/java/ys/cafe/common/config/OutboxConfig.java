@@ -0,0 +1,14 @@
+package ys.cafe.common.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import ys.cafe.common.outbox.OutboxRelayProperties;
+
+/**
+ * 트랜잭셔널 아웃박스 설정
+ * 릴레이 스케줄(@Scheduled)은 payment.config.SchedulingConfig의 @EnableScheduling으로 실행됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxConfig {
+}
@@ -0,0 +1,10 @@
+package ys.cafe.common.event;
+
+/**
+ * 모듈 간 조회 요청
+ * 구현체는 불변 record로 작성하며, QueryBus가 같은 인스턴스를 핸들러에 그대로 전달합니다.
+ *
+ * @param <R> 조회 결과 타입
+ */
+public interface Query<R> {
+}
@@ -0,0 +1,71 @@
+package ys.cafe.common.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모듈 간 직접 의존을 피하기 위한 인프로세스 쿼리 버스
+ * 시작 시 쿼리 타입 → 핸들러 맵을 만들어 두고, 요청마다 쿼리 클래스로 핸들러 하나를 찾아 바로 호출합니다.
+ * (ApplicationEvent처럼 모든 리스너에 브로드캐스트하거나 JSON 문자열로 결과를 주고받지 않음)
+ *
+ * 기본(REFERENCE)은 불변 record를 참조로 전달하며, 핸들러가 JSON 방식을 선택한 경우에만 직렬화한 복사본을 전달합니다.
+ * 핸들러에서 발생한 예외는 호출자에게 그대로 전달됩니다.
+ */
+@Component
+public class QueryBus {
+
+    private final Map<Class<?>, QueryHandler<?, ?>> handlers;
+    private final ObjectMapper objectMapper;
+
+    public QueryBus(List<QueryHandler<?, ?>> queryHandlers, ObjectMapper objectMapper) {
+        Map<Class<?>, QueryHandler<?, ?>> handlersByQueryType = new HashMap<>();
+        for (QueryHandler<?, ?> handler : queryHandlers) {
+            QueryHandler<?, ?> registered = handlersByQueryType.putIfAbsent(handler.queryType(), handler);
+            if (registered != null) {
+                throw new IllegalStateException("쿼리 핸들러가 중복 등록되었습니다. queryType: "
+                        + handler.queryType().getName() + ", handlers: "
+                        + registered.getClass().getName() + ", " + handler.getClass().getName());
+            }
+        }
+        this.handlers = Map.copyOf(handlersByQueryType);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 쿼리 실행
+     *
+     * @param query 조회 요청 (불변 record)
+     * @return 핸들러의 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R ask(Query<R> query) {
+        QueryHandler<Query<R>, R> handler = (QueryHandler<Query<R>, R>) handlers.get(query.getClass());
+        if (handler == null) {
+            throw new IllegalArgumentException("등록된 쿼리 핸들러가 없습니다. queryType: " + query.getClass().getName());
+        }
+
+        if (handler.dispatchMode() == QueryDispatchMode.JSON) {
+            return askAsJson(handler, query);
+        }
+        return handler.handle(query);
+    }
+
+    private <R> R askAsJson(QueryHandler<Query<R>, R> handler, Query<R> query) {
+        Query<R> copiedQuery = copy(query, handler.queryType());
+        R result = handler.handle(copiedQuery);
+        return result == null ? null : copy(result, handler.resultType());
+    }
+
+    private <T> T copy(Object value, Class<T> type) {
+        try {
+            return objectMapper.readValue(objectMapper.writeValueAsBytes(value), type);
+        } catch (IOException e) {
+            throw new IllegalStateException("쿼리 JSON 변환 실패 - type: " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ys.cafe.common.event;
+
+/**
+ * 쿼리 전달 방식
+ */
+public enum QueryDispatchMode {
+
+    /**
+     * 쿼리와 결과를 참조로 전달 (직렬화 없음, 기본값)
+     */
+    REFERENCE,
+
+    /**
+     * 쿼리와 결과를 JSON으로 직렬화한 복사본으로 전달
+     * 호출자와 핸들러가 같은 객체를 공유하면 안 되는 경계(원격 전환 예정 모듈 등)에서만 사용
+     */
+    JSON
+}
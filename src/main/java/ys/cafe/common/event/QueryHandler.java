@@ -0,0 +1,24 @@
+package ys.cafe.common.event;
+
+/**
+ * 쿼리 핸들러
+ * 스프링 빈으로 등록하면 QueryBus가 시작 시 queryType별로 한 번만 등록합니다.
+ *
+ * @param <Q> 처리하는 쿼리 타입
+ * @param <R> 조회 결과 타입
+ */
+public interface QueryHandler<Q extends Query<R>, R> {
+
+    Class<Q> queryType();
+
+    /**
+     * JSON 전달 방식에서 결과를 역직렬화할 타입
+     */
+    Class<R> resultType();
+
+    R handle(Q query);
+
+    default QueryDispatchMode dispatchMode() {
+        return QueryDispatchMode.REFERENCE;
+    }
+}
@@ -0,0 +1,15 @@
+package ys.cafe.common.outbox;
+
+/**
+ * 릴레이가 점유한 발행 대상 이벤트
+ *
+ * @param eventId   아웃박스 이벤트 ID
+ * @param eventType 이벤트 본문 타입 (OutboxPayload 구현체 클래스명)
+ * @param payload   이벤트 본문 (JSON)
+ */
+public record ClaimedOutboxEvent(Long eventId, String eventType, String payload) {
+
+    public static ClaimedOutboxEvent from(OutboxEvent outboxEvent) {
+        return new ClaimedOutboxEvent(outboxEvent.getEventId(), outboxEvent.getEventType(), outboxEvent.getPayload());
+    }
+}
@@ -0,0 +1,58 @@
+package ys.cafe.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * outbox_event 테이블 기반 OutboxStore
+ * 행 잠금(SKIP LOCKED)과 점유 정보 갱신을 한 트랜잭션에서 처리하여
+ * 여러 노드가 동시에 릴레이를 실행해도 서로 겹치지 않는 이벤트를 가져갑니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaOutboxStore implements OutboxStore {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayProperties properties;
+
+    @Override
+    @Transactional
+    public List<ClaimedOutboxEvent> claim(int limit, LocalDateTime claimedUntil) {
+        List<Long> eventIds = outboxEventRepository.lockClaimableEventIds(
+                properties.maxAttempts(),
+                LocalDateTime.now(),
+                limit
+        );
+
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        outboxEventRepository.claimEvents(eventIds, claimedUntil);
+        return outboxEventRepository.findByEventIdInOrderByEventIdAsc(eventIds).stream()
+                .map(ClaimedOutboxEvent::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markPublished(List<Long> eventIds, LocalDateTime publishedAt) {
+        outboxEventRepository.markPublished(eventIds, publishedAt);
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(List<Long> eventIds, LocalDateTime retryAt) {
+        outboxEventRepository.markFailed(eventIds, retryAt);
+    }
+
+    @Override
+    @Transactional
+    public int purgePublishedBefore(LocalDateTime publishedBefore, int limit) {
+        return outboxEventRepository.deletePublishedBefore(publishedBefore, limit);
+    }
+}
@@ -0,0 +1,39 @@
+package ys.cafe.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 트랜잭셔널 아웃박스 기록
+ * 상태 변경과 같은 트랜잭션에서만 호출할 수 있으며(MANDATORY), 상태 변경이 롤백되면 이벤트도 함께 롤백됩니다.
+ * 리스너 호출은 OutboxRelay가 커밋 이후 별도 스레드에서 처리하므로 요청 경로에서 대기하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxPayload payload) {
+        outboxEventRepository.save(OutboxEvent.create(
+                payload.aggregateType(),
+                payload.aggregateId(),
+                payload.getClass().getName(),
+                serialize(payload)
+        ));
+    }
+
+    private String serialize(OutboxPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패 - eventType: " + payload.getClass().getName(), e);
+        }
+    }
+}
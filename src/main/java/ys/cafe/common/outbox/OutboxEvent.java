@@ -0,0 +1,100 @@
+package ys.cafe.common.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * 주문/결제 상태 변경과 같은 트랜잭션에서 저장되며, OutboxRelay가 커밋된 이벤트를 배치로 읽어 인프로세스 리스너에 전달합니다.
+ * published_at이 비어 있는 이벤트가 발행 대상이며, 발행에 실패하면 시도 횟수를 늘리고 retry-delay 이후 다시 발행합니다.
+ */
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEvent {
+    // 상태 변경 INSERT와 함께 배치 전송되도록 id_sequence 테이블에서 50개 단위로 ID를 미리 할당받음
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_event_id_generator")
+    @TableGenerator(
+            name = "outbox_event_id_generator",
+            table = "id_sequence",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "outbox_event",
+            allocationSize = 50
+    )
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    protected OutboxEvent() {}
+
+    public static OutboxEvent create(String aggregateType, String aggregateId, String eventType, String payload) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.aggregateType = aggregateType;
+        outboxEvent.aggregateId = aggregateId;
+        outboxEvent.eventType = eventType;
+        outboxEvent.payload = payload;
+        outboxEvent.createdAt = LocalDateTime.now();
+        return outboxEvent;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public LocalDateTime getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,73 @@
+package ys.cafe.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 발행 대상 이벤트 ID 조회 및 행 잠금
+     * 다른 노드가 잠근 행은 건너뛰므로(SKIP LOCKED) 노드마다 서로 다른 이벤트를 가져감
+     * 발행되지 않았고 시도 횟수가 남았으며 점유하지 않았거나 점유(재시도 대기)가 만료된 이벤트만 대상
+     */
+    @Query(value = """
+            SELECT event_id
+            FROM outbox_event
+            WHERE published_at IS NULL
+              AND attempts < :maxAttempts
+              AND (claimed_until IS NULL OR claimed_until < :now)
+            ORDER BY event_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockClaimableEventIds(int maxAttempts, LocalDateTime now, int limit);
+
+    /**
+     * 잠금을 획득한 이벤트 점유 (lockClaimableEventIds와 같은 트랜잭션에서 실행)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = :claimedUntil WHERE e.eventId IN :eventIds")
+    int claimEvents(List<Long> eventIds, LocalDateTime claimedUntil);
+
+    List<OutboxEvent> findByEventIdInOrderByEventIdAsc(Collection<Long> eventIds);
+
+    /**
+     * 발행 완료 일괄 처리 및 점유 해제
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.publishedAt = :publishedAt, e.claimedUntil = null
+            WHERE e.eventId IN :eventIds
+            """)
+    int markPublished(List<Long> eventIds, LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 일괄 기록 (retryAt까지 점유를 유지하여 재시도 간격 확보)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.attempts = e.attempts + 1, e.claimedUntil = :retryAt
+            WHERE e.eventId IN :eventIds
+            """)
+    int markFailed(List<Long> eventIds, LocalDateTime retryAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제 (limit 단위로 나누어 삭제하여 긴 잠금 방지)
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM outbox_event
+            WHERE published_at < :publishedBefore
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deletePublishedBefore(LocalDateTime publishedBefore, int limit);
+}
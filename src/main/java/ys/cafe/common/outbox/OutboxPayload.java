@@ -0,0 +1,19 @@
+package ys.cafe.common.outbox;
+
+/**
+ * 아웃박스에 기록되는 이벤트 본문
+ * 구현체(record)는 JSON으로 직렬화되어 저장되고, 발행 시 같은 타입으로 역직렬화되어 리스너에 전달됩니다.
+ * (aggregateType/aggregateId는 get 접두사가 없어 본문에 직렬화되지 않음)
+ */
+public interface OutboxPayload {
+
+    /**
+     * 이벤트가 발생한 애그리거트 종류 (ORDER, PAYMENT)
+     */
+    String aggregateType();
+
+    /**
+     * 이벤트가 발생한 애그리거트 ID (주문 ID, 결제 키)
+     */
+    String aggregateId();
+}
@@ -0,0 +1,135 @@
+package ys.cafe.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아웃박스 이벤트 릴레이
+ * 커밋된 아웃박스 이벤트를 배치 단위로 점유하여 인프로세스 리스너(@EventListener)에 발행합니다.
+ *
+ * 1) 발행되지 않은 이벤트를 batch-size 만큼 ID 순으로 점유 (SKIP LOCKED, 여러 노드가 서로 다른 이벤트를 점유)
+ * 2) 트랜잭션 밖에서 이벤트 본문을 역직렬화하여 ApplicationEventPublisher로 발행 (리스너는 릴레이 스레드에서 실행)
+ * 3) 발행 성공 건은 배치당 한 번의 UPDATE로 발행 완료 처리, 실패 건은 시도 횟수를 늘리고 retry-delay 이후 재시도
+ *
+ * 점유가 만료된 이벤트는 다시 발행될 수 있으므로(at-least-once) 리스너는 같은 이벤트를 여러 번 받아도 안전해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final OutboxStore outboxStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelayProperties properties;
+
+    private final Map<String, Class<?>> payloadTypes = new ConcurrentHashMap<>();
+
+    /**
+     * 발행 대상 이벤트가 없을 때까지 배치 단위로 발행
+     * 이전 실행이 끝난 뒤 outbox.relay.fixed-delay(기본 1초) 후 다시 실행
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:1s}")
+    public void relay() {
+        int batchSize = properties.batchSize();
+        int publishedCount = 0;
+        int failedCount = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            LocalDateTime claimedUntil = LocalDateTime.now().plus(properties.leaseDuration());
+            List<ClaimedOutboxEvent> batch = outboxStore.claim(batchSize, claimedUntil);
+
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            BatchResult result = publishBatch(batch);
+            if (!result.publishedEventIds().isEmpty()) {
+                outboxStore.markPublished(result.publishedEventIds(), LocalDateTime.now());
+            }
+            if (!result.failedEventIds().isEmpty()) {
+                outboxStore.markFailed(result.failedEventIds(), LocalDateTime.now().plus(properties.retryDelay()));
+            }
+
+            publishedCount += result.publishedEventIds().size();
+            failedCount += result.failedEventIds().size();
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (publishedCount > 0 || failedCount > 0) {
+            log.debug("아웃박스 이벤트 발행 - 성공: {}건, 실패(재시도 예약): {}건", publishedCount, failedCount);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     * 매일 04:30 실행
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgePublishedEvents() {
+        LocalDateTime publishedBefore = LocalDateTime.now().minus(properties.retention());
+        int purgedCount = 0;
+        int deletedCount;
+
+        do {
+            deletedCount = outboxStore.purgePublishedBefore(publishedBefore, PURGE_CHUNK_SIZE);
+            purgedCount += deletedCount;
+        } while (deletedCount == PURGE_CHUNK_SIZE && !Thread.currentThread().isInterrupted());
+
+        log.info("발행 완료 아웃박스 이벤트 삭제 - 기준 일시: {}, 삭제: {}건", publishedBefore, purgedCount);
+    }
+
+    private BatchResult publishBatch(List<ClaimedOutboxEvent> batch) {
+        List<Long> publishedEventIds = new ArrayList<>(batch.size());
+        List<Long> failedEventIds = new ArrayList<>();
+
+        for (ClaimedOutboxEvent event : batch) {
+            if (publish(event)) {
+                publishedEventIds.add(event.eventId());
+            } else {
+                failedEventIds.add(event.eventId());
+            }
+        }
+
+        return new BatchResult(publishedEventIds, failedEventIds);
+    }
+
+    private boolean publish(ClaimedOutboxEvent event) {
+        try {
+            Object payload = objectMapper.readValue(event.payload(), payloadType(event.eventType()));
+            eventPublisher.publishEvent(payload);
+            return true;
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 발행 실패 - eventId: {}, eventType: {}, error: {}",
+                    event.eventId(), event.eventType(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private Class<?> payloadType(String eventType) throws ClassNotFoundException {
+        Class<?> payloadType = payloadTypes.get(eventType);
+        if (payloadType == null) {
+            payloadType = Class.forName(eventType);
+            payloadTypes.put(eventType, payloadType);
+        }
+        return payloadType;
+    }
+
+    private record BatchResult(List<Long> publishedEventIds, List<Long> failedEventIds) {
+    }
+}
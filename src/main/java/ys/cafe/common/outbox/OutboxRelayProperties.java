@@ -0,0 +1,44 @@
+package ys.cafe.common.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 릴레이 설정
+ * (실행 간격은 outbox.relay.fixed-delay로 @Scheduled에서 직접 읽음)
+ *
+ * @param batchSize     한 번에 점유/발행/갱신하는 이벤트 건수
+ * @param leaseDuration 점유 유지 시간 (배치 발행 시간보다 길어야 하며, 만료 시 다른 노드가 다시 점유)
+ * @param retryDelay    발행 실패 이벤트를 다시 점유하기까지의 대기 시간
+ * @param maxAttempts   최대 발행 시도 횟수 (도달한 이벤트는 발행하지 않고 테이블에 남김)
+ * @param retention     발행 완료 이벤트 보관 기간
+ */
+@ConfigurationProperties(prefix = "outbox.relay")
+public record OutboxRelayProperties(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1m") Duration leaseDuration,
+        @DefaultValue("10s") Duration retryDelay,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("7d") Duration retention
+) {
+
+    public OutboxRelayProperties {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("outbox.relay.batch-size는 1 이상이어야 합니다.");
+        }
+        if (leaseDuration == null || leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("outbox.relay.lease-duration은 0보다 커야 합니다.");
+        }
+        if (retryDelay == null || retryDelay.isNegative()) {
+            throw new IllegalArgumentException("outbox.relay.retry-delay는 0 이상이어야 합니다.");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("outbox.relay.max-attempts는 1 이상이어야 합니다.");
+        }
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("outbox.relay.retention은 0보다 커야 합니다.");
+        }
+    }
+}
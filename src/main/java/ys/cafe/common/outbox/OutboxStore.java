@@ -0,0 +1,38 @@
+package ys.cafe.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 점유/발행 결과 저장소
+ * 각 메서드는 짧은 트랜잭션으로 실행되며, 리스너 호출은 트랜잭션 밖에서 이루어집니다.
+ */
+public interface OutboxStore {
+
+    /**
+     * 발행되지 않은 이벤트를 ID 순으로 점유
+     *
+     * @param limit        최대 점유 건수 (배치 크기)
+     * @param claimedUntil 점유 만료 일시 (만료 후 다른 노드가 다시 점유 가능)
+     */
+    List<ClaimedOutboxEvent> claim(int limit, LocalDateTime claimedUntil);
+
+    /**
+     * 발행 완료 처리 및 점유 해제
+     */
+    void markPublished(List<Long> eventIds, LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 기록 (시도 횟수 증가, retryAt 이후 다시 점유 가능)
+     */
+    void markFailed(List<Long> eventIds, LocalDateTime retryAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     *
+     * @param publishedBefore 이 일시 이전에 발행된 이벤트 삭제
+     * @param limit           한 번에 삭제할 최대 건수
+     * @return 삭제된 이벤트 건수
+     */
+    int purgePublishedBefore(LocalDateTime publishedBefore, int limit);
+}
@@ -0,0 +1,138 @@
+package ys.cafe.common.vo;
+
+import ys.cafe.common.exception.MoneyValidationException;
+import ys.cafe.common.exception.errorcode.MoneyValidationErrorCode;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 원화 금액 (주문/결제/상품 공용 불변 값 객체)
+ * 원화는 소수 단위가 없으므로 long으로 보관하며, 연산은 overflow를 검사(Math.*Exact)합니다.
+ * 자주 쓰이는 금액(0 ~ 100,000원, 100원 단위)은 미리 만든 인스턴스를 재사용합니다.
+ * 엔티티에는 WonConverter로 금액 컬럼 하나에 매핑됩니다.
+ */
+public final class Won {
+
+    private static final long CACHE_UNIT = 100L;
+    private static final long CACHE_MAX = 100_000L;
+    private static final Won[] CACHE = new Won[(int) (CACHE_MAX / CACHE_UNIT) + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Won(i * CACHE_UNIT);
+        }
+    }
+
+    private final long amount;
+
+    private Won(long amount) {
+        this.amount = amount;
+    }
+
+    public static Won of(long amount) {
+        if (amount < 0L) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_NEGATIVE);
+        }
+        if (amount <= CACHE_MAX && amount % CACHE_UNIT == 0L) {
+            return CACHE[(int) (amount / CACHE_UNIT)];
+        }
+        return new Won(amount);
+    }
+
+    public static Won of(BigDecimal amount) {
+        if (amount == null) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_REQUIRED);
+        }
+        try {
+            return of(amount.longValueExact());
+        } catch (ArithmeticException e) {
+            // 원 단위 미만 금액 또는 long 범위 초과
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_INVALID);
+        }
+    }
+
+    public static Won of(String amount) {
+        if (amount == null || amount.isBlank()) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_REQUIRED);
+        }
+        try {
+            return of(new BigDecimal(amount));
+        } catch (NumberFormatException e) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_INVALID);
+        }
+    }
+
+    public static Won zero() {
+        return CACHE[0];
+    }
+
+    /**
+     * 금액 합계
+     * 중간 Won 객체 없이 long으로 누적합니다.
+     */
+    public static Won sum(List<Won> wons) {
+        long total = 0L;
+        for (Won won : wons) {
+            total = addExact(total, won.amount);
+        }
+        return of(total);
+    }
+
+    private static long addExact(long left, long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_TOO_HIGH);
+        }
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public Won add(Won other) {
+        return of(addExact(this.amount, other.amount));
+    }
+
+    public Won subtract(Won other) {
+        long result = this.amount - other.amount;
+        if (result < 0L) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_NEGATIVE);
+        }
+        return of(result);
+    }
+
+    public Won multiply(int factor) {
+        if (factor < 0) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_INVALID);
+        }
+        try {
+            return of(Math.multiplyExact(this.amount, factor));
+        } catch (ArithmeticException e) {
+            throw new MoneyValidationException(MoneyValidationErrorCode.MONEY_TOO_HIGH);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Won)) return false;
+        Won won = (Won) o;
+        return amount == won.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return amount + "원";
+    }
+
+    public String toPlainString() {
+        return Long.toString(amount);
+    }
+}
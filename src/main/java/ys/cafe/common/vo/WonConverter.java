@@ -0,0 +1,22 @@
+package ys.cafe.common.vo;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Won ↔ 금액 컬럼(DECIMAL(19, 0)) 변환
+ * 모든 엔티티의 Won 필드에 자동 적용됩니다. (통화 컬럼은 DB 기본값 KRW 사용)
+ */
+@Converter(autoApply = true)
+public class WonConverter implements AttributeConverter<Won, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Won won) {
+        return won == null ? null : won.getAmount();
+    }
+
+    @Override
+    public Won convertToEntityAttribute(Long amount) {
+        return amount == null ? null : Won.of(amount);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import ys.cafe.common.exception.CommonErrorCode;
 import ys.cafe.common.exception.ErrorCode;
 import ys.cafe.member.exception.errorcode.MemberDomainErrorCode;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
 
 /**
  * ErrorCode를 HttpStatus로 매핑하는 전략 클래스
@@ -36,6 +37,14 @@ public class MemberErrorCodeHttpStatusMapper {
             };
         }
 
+        // 멱등성 키 재사용 충돌은 CONFLICT, 동시 내보내기 한도 초과는 TOO_MANY_REQUESTS, 그 외 주문 검증 오류는 BAD_REQUEST
+        if (errorCode == OrderValidationErrorCode.ORDER_IDEMPOTENCY_KEY_CONFLICT) {
+            return HttpStatus.CONFLICT;
+        }
+        if (errorCode == OrderValidationErrorCode.ORDER_EXPORT_BUSY) {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        }
+
         // MemberValidationErrorCode는 모두 BAD_REQUEST
         return HttpStatus.BAD_REQUEST;
     }
@@ -0,0 +1,21 @@
+package ys.cafe.member.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ys.cafe.common.cache.CacheMetrics;
+import ys.cafe.member.service.MemberAdmissionCache;
+
+/**
+ * 회원 주문 가능 여부 캐시 지표 등록
+ *
+ * cache.gets / cache.hit.ratio / cache.removals / cache.size{cache=member.admission}: 적중률과 제거 사유 (CacheMetrics)
+ */
+@Configuration
+public class MemberCacheConfig {
+
+    @Bean
+    public MeterBinder memberAdmissionCacheMetrics(MemberAdmissionCache memberAdmissionCache) {
+        return registry -> CacheMetrics.bind(registry, "member.admission", memberAdmissionCache, MemberAdmissionCache::stats);
+    }
+}
@@ -0,0 +1,65 @@
+package ys.cafe.member.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ys.cafe.common.cache.BoundedCache;
+import ys.cafe.common.cache.CacheInvalidation;
+import ys.cafe.common.cache.CacheStats;
+import ys.cafe.member.service.dto.response.MemberAdmission;
+
+import java.util.Optional;
+
+/**
+ * 회원 주문/결제 가능 여부 캐시
+ * 회원 ID별로 상태와 결제에 필요한 정보(이름, 생년월일, 전화번호 등)만 보관하며,
+ * 주문 검증(OrderService)과 결제(MemberPortAdapter)가 함께 사용합니다.
+ * 회원 상태가 바뀌는 탈퇴/탈퇴 철회/상태 변경/일괄 비활성화 시 커밋 이후 무효화됩니다.
+ * DB 조회 중 무효화가 있었으면 조회한 값을 적재하지 않아, 탈퇴/비활성화 커밋 전에 읽은 ACTIVE 상태가 남지 않습니다.
+ */
+@Component
+public class MemberAdmissionCache {
+
+    private final BoundedCache<Long, MemberAdmission> cache;
+
+    public MemberAdmissionCache(@Value("${member.admission-cache.max-size:10000}") int maxSize) {
+        this.cache = new BoundedCache<>(maxSize);
+    }
+
+    public Optional<MemberAdmission> get(Long memberId) {
+        return cache.get(memberId);
+    }
+
+    /**
+     * 적재 기준 세대 (DB 조회 전에 읽어 put에 전달)
+     */
+    public long loadEpoch() {
+        return cache.invalidationEpoch();
+    }
+
+    /**
+     * DB에서 조회한 회원 적재
+     * 조회 이후(loadEpoch 이후) 무효화가 있었으면 적재하지 않습니다.
+     */
+    public void put(MemberAdmission memberAdmission, long loadEpoch) {
+        cache.putIfNotInvalidated(memberAdmission.memberId(), memberAdmission, loadEpoch);
+    }
+
+    /**
+     * 회원 무효화 (즉시 + 커밋 이후)
+     */
+    public void evictAfterCommit(Long memberId) {
+        CacheInvalidation.nowAndAfterCommit(() -> cache.invalidate(memberId));
+    }
+
+    /**
+     * 전체 무효화 (즉시 + 커밋 이후)
+     * 대상 회원을 알 수 없는 일괄 상태 변경 시 사용
+     */
+    public void evictAllAfterCommit() {
+        CacheInvalidation.nowAndAfterCommit(cache::invalidateAll);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
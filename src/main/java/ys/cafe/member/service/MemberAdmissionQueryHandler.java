@@ -0,0 +1,33 @@
+package ys.cafe.member.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ys.cafe.common.event.QueryHandler;
+import ys.cafe.member.service.dto.request.MemberAdmissionQuery;
+import ys.cafe.member.service.dto.response.MemberAdmission;
+
+/**
+ * 다른 모듈의 회원 요약 정보 조회 처리
+ * 회원 캐시를 사용하는 MemberService.getMemberAdmission 결과(불변 record)를 그대로 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberAdmissionQueryHandler implements QueryHandler<MemberAdmissionQuery, MemberAdmission> {
+
+    private final MemberService memberService;
+
+    @Override
+    public Class<MemberAdmissionQuery> queryType() {
+        return MemberAdmissionQuery.class;
+    }
+
+    @Override
+    public Class<MemberAdmission> resultType() {
+        return MemberAdmission.class;
+    }
+
+    @Override
+    public MemberAdmission handle(MemberAdmissionQuery query) {
+        return memberService.getMemberAdmission(query.memberId());
+    }
+}
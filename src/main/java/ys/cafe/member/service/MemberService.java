@@ -12,6 +12,7 @@ import ys.cafe.member.domain.vo.MemberStatus;
 import ys.cafe.member.domain.vo.PhoneNumber;
 import ys.cafe.member.persistence.MemberRepository;
 import ys.cafe.member.service.dto.request.MemberSignUpRequest;
+import ys.cafe.member.service.dto.response.MemberAdmission;
 import ys.cafe.member.service.dto.response.MemberResponse;
 
 import java.time.LocalDateTime;
@@ -23,6 +24,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberAdmissionCache memberAdmissionCache;
 
     @Transactional
     public MemberResponse signUp(MemberSignUpRequest request) {
@@ -55,6 +57,22 @@ public class MemberService {
 
     }
 
+    /**
+     * 주문/결제용 회원 요약 정보 조회 (회원 캐시 사용)
+     * 캐시에 없을 때만 DB에서 조회하여 적재하며, 조회 중 회원 상태가 변경(무효화)되면 적재하지 않습니다.
+     */
+    public MemberAdmission getMemberAdmission(Long memberId) {
+        return memberAdmissionCache.get(memberId)
+                .orElseGet(() -> {
+                    long loadEpoch = memberAdmissionCache.loadEpoch();
+                    Member member = memberRepository.findById(memberId)
+                            .orElseThrow(() -> new CommonException(CommonErrorCode.NOT_FOUND, "존재하지 않는 회원입니다."));
+                    MemberAdmission memberAdmission = MemberAdmission.from(member);
+                    memberAdmissionCache.put(memberAdmission, loadEpoch);
+                    return memberAdmission;
+                });
+    }
+
     /**
      * 회원 탈퇴
      * 회원 상태를 WITHDRAW_REQUESTED로 변경하고 탈퇴 요청 일시를 기록합니다.
@@ -70,6 +88,7 @@ public class MemberService {
 
         member.withdraw();
         memberRepository.save(member);
+        memberAdmissionCache.evictAfterCommit(memberId);
 
         log.info("회원 탈퇴 요청 완료 - memberId: {}, withdrawRequestedAt: {}", memberId, member.getWithdrawRequestedAt());
 
@@ -91,6 +110,7 @@ public class MemberService {
 
         member.cancelWithdraw();
         memberRepository.save(member);
+        memberAdmissionCache.evictAfterCommit(memberId);
 
         log.info("회원 탈퇴 철회 완료 - memberId: {}, status: {}", memberId, member.getStatus());
 
@@ -101,6 +121,9 @@ public class MemberService {
     public void deactivateExpiredWithdrawnMembers() {
         LocalDateTime deadline = LocalDateTime.now().minusDays(30);
         int deactivatedCount = memberRepository.bulkDeactivate(deadline, MemberStatus.DELETED);
+        if (deactivatedCount > 0) {
+            memberAdmissionCache.evictAllAfterCommit();
+        }
 
         log.info("deactivateExpiredWithdrawnMembers : deactivatedCount = {}", deactivatedCount);
     }
@@ -116,6 +139,7 @@ public class MemberService {
                 .orElseThrow(() -> new CommonException(CommonErrorCode.NOT_FOUND, "존재하지 않는 회원입니다."));
 
         member.changeStatus(status);
+        memberAdmissionCache.evictAfterCommit(memberId);
 
         return MemberResponse.from(member);
     }
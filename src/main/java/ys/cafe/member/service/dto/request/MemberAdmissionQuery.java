@@ -0,0 +1,12 @@
+package ys.cafe.member.service.dto.request;
+
+import ys.cafe.common.event.Query;
+import ys.cafe.member.service.dto.response.MemberAdmission;
+
+/**
+ * 주문/결제용 회원 요약 정보 조회 쿼리 (QueryBus)
+ *
+ * @param memberId 회원 ID
+ */
+public record MemberAdmissionQuery(Long memberId) implements Query<MemberAdmission> {
+}
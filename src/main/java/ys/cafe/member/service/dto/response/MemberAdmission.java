@@ -0,0 +1,36 @@
+package ys.cafe.member.service.dto.response;
+
+import ys.cafe.member.domain.Member;
+import ys.cafe.member.domain.vo.MemberStatus;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 주문/결제 가능 여부 판단에 필요한 회원 요약 정보 (회원 캐시 항목)
+ */
+public record MemberAdmission(
+        Long memberId,
+        MemberStatus status,
+        String fullName,
+        String phoneNumber,
+        String gender,
+        String birthDate,
+        String registrationDateTime
+) {
+
+    public static MemberAdmission from(Member member) {
+        return new MemberAdmission(
+                member.getMemberId(),
+                member.getStatus(),
+                member.getName().getFullName(),
+                member.getPhoneNumber().getValue(),
+                member.getGender().name(),
+                member.getBirthDate().getFormatted(),
+                member.getRegistrationDateTime().format(DateTimeFormatter.ISO_DATE_TIME)
+        );
+    }
+
+    public boolean isActive() {
+        return status == MemberStatus.ACTIVE;
+    }
+}
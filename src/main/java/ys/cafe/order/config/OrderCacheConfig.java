@@ -0,0 +1,41 @@
+package ys.cafe.order.config;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ys.cafe.common.cache.CacheMetrics;
+import ys.cafe.order.service.OrderIdempotencyStore;
+import ys.cafe.order.service.OrderResponseCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 캐시 지표 등록
+ *
+ * cache.gets / cache.hit.ratio / cache.removals / cache.size{cache=order.response}: 주문 조회 캐시 적중률과 제거 사유 (CacheMetrics)
+ * cache.gets / cache.hit.ratio / cache.removals / cache.size{cache=order.idempotency}: 처리 완료된 멱등성 키 캐시 적중률과 제거 사유
+ * order.response-cache.staleness: 캐시에서 응답한 항목이 저장된 뒤 지난 시간 (count, sum → 평균 staleness)
+ */
+@Configuration
+public class OrderCacheConfig {
+
+    @Bean
+    public MeterBinder orderResponseCacheMetrics(OrderResponseCache orderResponseCache) {
+        return registry -> {
+            CacheMetrics.bind(registry, "order.response", orderResponseCache, OrderResponseCache::stats);
+
+            FunctionTimer.builder("order.response-cache.staleness", orderResponseCache,
+                            OrderResponseCache::servedCount,
+                            cache -> cache.servedAge(TimeUnit.NANOSECONDS),
+                            TimeUnit.NANOSECONDS)
+                    .description("캐시에서 응답한 주문이 저장된 뒤 지난 시간")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder orderIdempotencyCacheMetrics(OrderIdempotencyStore orderIdempotencyStore) {
+        return registry -> CacheMetrics.bind(registry, "order.idempotency", orderIdempotencyStore, OrderIdempotencyStore::stats);
+    }
+}
@@ -0,0 +1,49 @@
+package ys.cafe.order.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * SSE 전송 스레드 풀 설정
+ *
+ * sseExecutor: 주문 상태 알림과 바리스타 화면 SSE의 소켓 쓰기 전용 스레드 풀
+ * 아웃박스 릴레이와 스케줄러 스레드는 연결별 전송 큐에 이벤트를 넣기만 하므로, 응답을 읽지 않는 클라이언트가 있어도
+ * 이벤트 발행과 다른 스케줄 작업(결제 취소 배치 등)이 지연되지 않습니다.
+ * 느린 연결이 스레드를 점유하는 시간은 연결별 send-timeout과 max-pending으로 제한합니다. (SseConnection)
+ */
+@Configuration
+public class SseConfig {
+
+    /**
+     * 작업 큐는 연결별 전송 큐가 대신하므로(연결당 작업 최대 1개) 스레드 수만 제한합니다.
+     * 가상 스레드 모드에서는 전송 작업마다 가상 스레드를 생성합니다.
+     */
+    @Bean(name = "sseExecutor")
+    public ExecutorService sseExecutor(
+            @Value("${order.sse.writer-threads:4}") int writerThreads,
+            Environment environment
+    ) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("sse-vt-", 0).factory()
+            );
+        }
+
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(writerThreads);
+        threadPoolTaskExecutor.setMaxPoolSize(writerThreads);
+        threadPoolTaskExecutor.setKeepAliveSeconds(60);
+        threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+        threadPoolTaskExecutor.setThreadNamePrefix("sse-");
+        threadPoolTaskExecutor.initialize();
+
+        return threadPoolTaskExecutor.getThreadPoolExecutor();
+    }
+}
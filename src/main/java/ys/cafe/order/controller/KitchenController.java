@@ -0,0 +1,68 @@
+package ys.cafe.order.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ys.cafe.order.service.KitchenService;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.List;
+
+@Tag(name = "Kitchen", description = "주방(바리스타) 주문 대기열 API")
+@RestController
+@RequestMapping("/kitchen/orders")
+@RequiredArgsConstructor
+@Validated
+public class KitchenController {
+
+    private final KitchenService kitchenService;
+
+    @Operation(
+            summary = "주방 대기열 조회",
+            description = "조리 중(PREPARING)이거나 서빙 중(SERVE)인 주문을 접수 순으로 조회합니다. DB를 조회하지 않고 메모리 대기열을 반환합니다."
+    )
+    @GetMapping
+    public ResponseEntity<List<OrderResponse>> getQueue() {
+        return ResponseEntity.ok(kitchenService.getQueue());
+    }
+
+    @Operation(
+            summary = "주방 대기열 구독 (SSE)",
+            description = "구독 시 대기열 전체(snapshot)를 받고, 이후 주문 추가/상태 변경(order)과 제거(removed) 이벤트를 받습니다."
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return kitchenService.subscribe();
+    }
+
+    @Operation(
+            summary = "서빙 시작",
+            description = "조리 중(PREPARING)인 주문을 서빙 중(SERVE)으로 변경합니다."
+    )
+    @PostMapping(value = "/{orderId}/start-serving", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OrderResponse> startServing(
+            @Parameter(description = "주문 ID", required = true, example = "1")
+            @PathVariable @Positive(message = "주문 ID는 1 이상이어야 합니다.") Long orderId
+    ) {
+        return ResponseEntity.ok(kitchenService.startServing(orderId));
+    }
+
+    @Operation(
+            summary = "서빙 완료",
+            description = "서빙 중(SERVE)인 주문을 완료(COMPLETED)로 변경하고 대기열에서 제거합니다."
+    )
+    @PostMapping(value = "/{orderId}/complete-serving", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OrderResponse> completeServing(
+            @Parameter(description = "주문 ID", required = true, example = "1")
+            @PathVariable @Positive(message = "주문 ID는 1 이상이어야 합니다.") Long orderId
+    ) {
+        return ResponseEntity.ok(kitchenService.completeServing(orderId));
+    }
+}
@@ -4,19 +4,34 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
-import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
+import ys.cafe.order.service.OrderExportService;
 import ys.cafe.order.service.OrderService;
 import ys.cafe.order.service.dto.OrderCancelRequest;
 import ys.cafe.order.service.dto.OrderCreateRequest;
-import ys.cafe.order.service.dto.OrderListResponse;
+import ys.cafe.order.service.dto.OrderExportPeriod;
 import ys.cafe.order.service.dto.OrderResponse;
+import ys.cafe.order.service.dto.OrderSliceResponse;
+import ys.cafe.order.service.dto.OrderSummaryResponse;
+
+import java.time.LocalDate;
 
 @Tag(name = "Order", description = "주문 관리 API")
 @RestController
@@ -26,17 +41,22 @@ import ys.cafe.order.service.dto.OrderResponse;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
 
     @Operation(
             summary = "주문 생성",
-            description = "상품을 주문하고 결제를 진행합니다. 결제가 성공하면 주문이 생성되고, 실패하면 주문이 취소됩니다."
+            description = "상품을 주문하고 결제를 요청합니다. 주문은 PAYMENT_WAITING 상태로 즉시 반환되며, 결제 결과는 주문 단건 조회로 확인합니다. "
+                    + "Idempotency-Key 헤더를 지정하면 같은 키의 재시도는 새 주문을 만들지 않고 최초 주문을 반환합니다."
     )
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<OrderResponse> placeOrder(
+            @Parameter(description = "멱등성 키 (재시도 시 같은 값 사용, 최대 100자)", example = "3f1c9a52-0b7e-4d1a-9c55-2a8e6f0d1b47")
+            @RequestHeader(value = "Idempotency-Key", required = false)
+            @Size(max = 100, message = "멱등성 키는 100자 이하여야 합니다.") String idempotencyKey,
             @Valid @RequestBody OrderCreateRequest request
     ) {
-        OrderResponse response = orderService.placeOrder(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        OrderResponse response = orderService.placeOrder(request, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
     @Operation(
@@ -52,32 +72,120 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "주문 상태 구독 (SSE)",
+            description = "현재 주문 상태를 받은 뒤 상태가 바뀔 때마다 status 이벤트를 받습니다. 최종 상태(완료, 취소, 결제 실패)를 받으면 연결이 종료됩니다."
+    )
+    @GetMapping(value = "/{orderId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrderStatus(
+            @Parameter(description = "주문 ID", required = true, example = "1")
+            @PathVariable @Positive(message = "주문 ID는 1 이상이어야 합니다.") Long orderId
+    ) {
+        return orderService.subscribeOrderStatus(orderId);
+    }
+
     @Operation(
             summary = "전체 주문 조회",
-            description = "시스템의 모든 주문 목록을 조회합니다."
+            description = "시스템의 주문 목록을 최신 주문부터 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor로 조회합니다."
     )
     @GetMapping
-    public ResponseEntity<OrderListResponse> getAllOrders(
-            @RequestParam(defaultValue = "0") @PositiveOrZero(message = "페이지는 0 이상이어야 합니다.") int page,
-            @RequestParam(defaultValue = "20") @Positive(message = "페이지 크기는 1 이상이어야 합니다.") int size
+    public ResponseEntity<OrderSliceResponse<OrderResponse>> getAllOrders(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Positive(message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @Parameter(description = "전체 주문 수 포함 여부 (COUNT 쿼리 실행)")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        OrderListResponse response = orderService.getAllOrders(page, size);
+        OrderSliceResponse<OrderResponse> response = orderService.getAllOrders(cursor, size, includeTotal);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "전체 주문 요약 조회",
+            description = "관리자 목록 화면용으로 주문 ID, 회원, 상태, 총 가격, 주문 일시만 커서 기반으로 조회합니다. 주문 항목은 포함하지 않습니다."
+    )
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<OrderSliceResponse<OrderSummaryResponse>> getOrderSummaries(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Positive(message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @Parameter(description = "전체 주문 수 포함 여부 (COUNT 쿼리 실행)")
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        OrderSliceResponse<OrderSummaryResponse> response = orderService.getOrderSummaries(cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "주문 내보내기 (정산용)",
+            description = "기간 내 주문 요약을 주문 일시 순으로 NDJSON(한 줄에 주문 하나)으로 스트리밍합니다. 시작일과 종료일 모두 포함하며 최대 31일까지 조회합니다. "
+                    + "동시에 진행 중인 내보내기가 한도를 넘으면 429로 거절합니다."
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "시작일 (포함)", required = true, example = "2025-11-05")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함)", required = true, example = "2025-11-05")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(hidden = true) NativeWebRequest webRequest
+    ) {
+        OrderExportPeriod period = new OrderExportPeriod(from, to);
+        if (!orderExportService.tryAcquire()) {
+            throw new OrderValidationException(OrderValidationErrorCode.ORDER_EXPORT_BUSY);
+        }
+
+        // 내보내기 요청에만 타임아웃을 적용하고, 비동기 처리가 끝나면 동시 내보내기 허가 반환
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(
+                OrderExportAsyncInterceptor.class.getName(),
+                new OrderExportAsyncInterceptor(orderExportService.timeout(), orderExportService::release)
+        );
+        StreamingResponseBody body = outputStream -> orderExportService.exportOrders(period, outputStream);
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("orders-" + from + "-" + to + ".ndjson")
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+
     @Operation(
             summary = "회원별 주문 조회",
-            description = "특정 회원의 모든 주문 내역을 조회합니다."
+            description = "특정 회원의 주문 내역을 최신 주문부터 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor로 조회합니다."
     )
     @GetMapping("/members/{memberId}")
-    public ResponseEntity<OrderListResponse> getMemberOrders(
+    public ResponseEntity<OrderSliceResponse<OrderResponse>> getMemberOrders(
             @Parameter(description = "회원 ID", required = true, example = "1")
-            @PathVariable @Positive(message = "회원 ID는 1 이상이어야 합니다.") Long memberId
+            @PathVariable @Positive(message = "회원 ID는 1 이상이어야 합니다.") Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Positive(message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @Parameter(description = "전체 주문 수 포함 여부 (COUNT 쿼리 실행)")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        OrderListResponse response = orderService.getMemberOrders(memberId);
+        OrderSliceResponse<OrderResponse> response = orderService.getMemberOrders(memberId, cursor, size, includeTotal);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "회원 주문 상태 구독 (SSE)",
+            description = "회원의 모든 주문에 대해 상태가 바뀔 때마다 status 이벤트를 받습니다. 구독 시점의 주문 목록은 회원별 주문 조회로 확인합니다."
+    )
+    @GetMapping(value = "/members/{memberId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMemberOrderStatus(
+            @Parameter(description = "회원 ID", required = true, example = "1")
+            @PathVariable @Positive(message = "회원 ID는 1 이상이어야 합니다.") Long memberId
+    ) {
+        return orderService.subscribeMemberOrderStatus(memberId);
+    }
+
     @Operation(
             summary = "주문 취소",
             description = "주문을 취소합니다. 본인의 주문만 취소할 수 있으며, 결제 취소도 함께 진행됩니다. 서빙 중이거나 완료된 주문은 취소할 수 없습니다."
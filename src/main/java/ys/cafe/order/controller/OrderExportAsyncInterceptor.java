@@ -0,0 +1,40 @@
+package ys.cafe.order.controller;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 내보내기 요청 전용 비동기 처리 인터셉터 (요청마다 WebAsyncManager에 등록)
+ * 1) 비동기 처리 시작 전에 내보내기 타임아웃을 적용 (다른 비동기 요청의 타임아웃은 변경하지 않음)
+ * 2) 비동기 처리가 끝나면(완료, 타임아웃, 오류) 동시 내보내기 허가를 한 번만 반환
+ */
+final class OrderExportAsyncInterceptor implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+    private final Runnable releasePermit;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    OrderExportAsyncInterceptor(Duration timeout, Runnable releasePermit) {
+        this.timeout = timeout;
+        this.releasePermit = releasePermit;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        if (released.compareAndSet(false, true)) {
+            releasePermit.run();
+        }
+    }
+}
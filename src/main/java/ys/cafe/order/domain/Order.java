@@ -1,8 +1,9 @@
 package ys.cafe.order.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import ys.cafe.common.util.DateTimeFormatUtil;
-import ys.cafe.order.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 import ys.cafe.order.exception.OrderValidationException;
 import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
 
@@ -13,8 +14,17 @@ import java.util.List;
 @Entity
 @Table(name = "orders")
 public class Order {
+    // IDENTITY는 INSERT 배치를 막으므로 id_sequence 테이블에서 50개 단위로 ID를 미리 할당받음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @TableGenerator(
+            name = "order_id_generator",
+            table = "id_sequence",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "orders",
+            allocationSize = 50
+    )
     private Long orderId;
 
     @Column
@@ -25,17 +35,17 @@ public class Order {
     @Column
     private OrderStatus orderStatus;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
-    @JoinColumn(name = "order_id")
+    // order_id를 order_line INSERT에 함께 기록 (별도 UPDATE order_line SET order_id 없음)
+    // 목록 조회 시 주문마다 order_line SELECT가 나가지 않도록 지연 로딩 + 배치 로딩 (IN 절 한 번으로 페이지 단위 로딩)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @JoinColumn(name = "order_id", nullable = false, updatable = false)
+    @BatchSize(size = 100)
     private List<OrderLine> orderLines = new ArrayList<>();
 
     @Column(name = "order_date_time")
     private LocalDateTime orderDateTime;
 
-    @Embedded
-    @AttributeOverrides({
-            @AttributeOverride(name = "amount", column = @Column(name = "total_price"))
-    })
+    @Column(name = "total_price", nullable = false)
     private Won totalPrice;
 
     protected Order() {}
@@ -51,7 +61,7 @@ public class Order {
         order.orderStatus = OrderStatus.PAYMENT_WAITING;
         order.orderLines = orderLines;
         order.orderDateTime = LocalDateTime.now();
-        order.totalPrice = calculateTotalPrice(orderLines.stream().map(OrderLine::getTotalPrice).toList());
+        order.totalPrice = Won.sum(orderLines.stream().map(OrderLine::getTotalPrice).toList());
         return order;
     }
 
@@ -67,11 +77,6 @@ public class Order {
         }
     }
 
-    private static Won calculateTotalPrice(List<Won> prices) {
-        return prices.stream()
-                .reduce(Won.zero(), Won::add);
-    }
-
     public Long getOrderId() {
         return orderId;
     }
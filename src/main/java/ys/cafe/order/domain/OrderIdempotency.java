@@ -0,0 +1,76 @@
+package ys.cafe.order.domain;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 멱등성 키
+ * Idempotency-Key로 생성된 주문 ID를 기록하여, 재시도 요청이 새 주문을 만들지 않고 기존 주문을 반환하도록 합니다.
+ * 주문과 같은 트랜잭션에서 저장되며, 키(PK) 중복으로 여러 노드의 동시 요청 중 하나만 커밋됩니다.
+ */
+@Entity
+@Table(name = "order_idempotency")
+public class OrderIdempotency implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 키를 직접 할당하므로 save 시 SELECT(merge) 없이 바로 INSERT 하도록 신규 여부를 표시
+    @Transient
+    private boolean isNew = true;
+
+    protected OrderIdempotency() {}
+
+    public static OrderIdempotency create(String idempotencyKey, Long memberId, Long orderId) {
+        OrderIdempotency orderIdempotency = new OrderIdempotency();
+        orderIdempotency.idempotencyKey = idempotencyKey;
+        orderIdempotency.memberId = memberId;
+        orderIdempotency.orderId = orderId;
+        orderIdempotency.createdAt = LocalDateTime.now();
+        return orderIdempotency;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
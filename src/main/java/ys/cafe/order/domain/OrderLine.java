@@ -2,7 +2,7 @@ package ys.cafe.order.domain;
 
 import jakarta.persistence.*;
 import ys.cafe.order.domain.vo.Quantity;
-import ys.cafe.order.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 import ys.cafe.order.exception.OrderValidationException;
 import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
 
@@ -11,7 +11,15 @@ import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
 public class OrderLine {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_line_id_generator")
+    @TableGenerator(
+            name = "order_line_id_generator",
+            table = "id_sequence",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "order_line",
+            allocationSize = 50
+    )
     @Column(name = "order_line_id")
     private Long orderLineId;
 
@@ -24,10 +32,7 @@ public class OrderLine {
     @Embedded
     private Quantity quantity;
 
-    @Embedded
-    @AttributeOverrides({
-            @AttributeOverride(name = "amount", column = @Column(name = "price"))
-    })
+    @Column(name = "price", nullable = false)
     private Won price;
 
     protected OrderLine() {
@@ -37,9 +42,9 @@ public class OrderLine {
             Long productId,
             String productName,
             int quantity,
-            String price
+            long price
     ) {
-        validateOrderLineInput(productId, productName, price);
+        validateOrderLineInput(productId, productName);
 
         OrderLine orderLine = new OrderLine();
         orderLine.productId = productId;
@@ -52,8 +57,7 @@ public class OrderLine {
 
     private static void validateOrderLineInput(
             Long productId,
-            String productName,
-            String price
+            String productName
     ) {
         if (productId == null) {
             throw new OrderValidationException(OrderValidationErrorCode.ORDER_LINE_PRODUCT_ID_REQUIRED);
@@ -61,9 +65,6 @@ public class OrderLine {
         if (productName == null || productName.isBlank()) {
             throw new OrderValidationException(OrderValidationErrorCode.ORDER_LINE_PRODUCT_NAME_REQUIRED);
         }
-        if (price == null || price.isBlank()) {
-            throw new OrderValidationException(OrderValidationErrorCode.ORDER_LINE_PRICE_REQUIRED);
-        }
     }
 
 
@@ -1,5 +1,27 @@
 package ys.cafe.order.domain;
 
 public enum OrderStatus {
-    PAYMENT_WAITING, PREPARING, SERVE ,COMPLETED, CANCELED, PAYMENT_FAILED;
+    PAYMENT_WAITING(0), PREPARING(1), SERVE(2), COMPLETED(3), CANCELED(3), PAYMENT_FAILED(3);
+
+    // 상태 진행 순서 (최종 상태는 같은 순서)
+    private final int progress;
+
+    OrderStatus(int progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * 최종 상태 여부 (완료, 취소, 결제 실패)
+     */
+    public boolean isFinal() {
+        return progress == COMPLETED.progress;
+    }
+
+    /**
+     * 진행 순서상 other보다 이전 상태인지 여부
+     * 늦게 도착한 이벤트나 조회 결과가 더 진행된 상태를 되돌리지 않도록 판별할 때 사용합니다.
+     */
+    public boolean isBefore(OrderStatus other) {
+        return progress < other.progress;
+    }
 }
@@ -0,0 +1,45 @@
+package ys.cafe.order.event;
+
+import ys.cafe.common.outbox.OutboxPayload;
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트
+ * 주문 생성/결제 결과 반영/서빙/취소와 같은 트랜잭션에서 아웃박스에 기록되고, 커밋 이후 OutboxRelay가 발행합니다.
+ *
+ * @param orderId     주문 ID
+ * @param memberId    회원 ID
+ * @param orderStatus 변경된 주문 상태
+ * @param occurredAt  상태 변경 일시
+ */
+public record OrderStatusChangedEvent(
+        Long orderId,
+        Long memberId,
+        OrderStatus orderStatus,
+        LocalDateTime occurredAt
+) implements OutboxPayload {
+
+    public static final String AGGREGATE_TYPE = "ORDER";
+
+    public static OrderStatusChangedEvent from(Order order) {
+        return new OrderStatusChangedEvent(
+                order.getOrderId(),
+                order.getMemberId(),
+                order.getOrderStatus(),
+                LocalDateTime.now()
+        );
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public String aggregateId() {
+        return String.valueOf(orderId);
+    }
+}
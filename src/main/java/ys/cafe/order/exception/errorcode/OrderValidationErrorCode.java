@@ -26,6 +26,11 @@ public enum OrderValidationErrorCode implements ErrorCode {
     ORDER_ALREADY_CANCELED("OR0307", "이미 취소된 주문입니다."),
     ORDER_PAYMENT_FAILED("OR0308", "결제 처리에 실패했습니다."),
     ORDER_PAYMENT_CANCEL_FAILED("OR0309", "결제 취소에 실패했습니다."),
+    ORDER_CURSOR_INVALID("OR0310", "주문 목록 커서가 유효하지 않습니다."),
+    ORDER_EXPORT_PERIOD_INVALID("OR0311", "주문 내보내기 기간이 유효하지 않습니다."),
+    ORDER_IDEMPOTENCY_KEY_CONFLICT("OR0312", "다른 회원의 주문에 사용된 멱등성 키입니다."),
+    ORDER_EXPORT_PERIOD_TOO_LONG("OR0313", "주문 내보내기 기간은 최대 31일입니다."),
+    ORDER_EXPORT_BUSY("OR0314", "진행 중인 주문 내보내기가 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // 주문 항목 검증 (OR0400~OR0499)
     ORDER_LINE_PRODUCT_ID_REQUIRED("OR0401", "상품 ID는 필수입니다."),
@@ -3,12 +3,15 @@ package ys.cafe.order.out.adapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import ys.cafe.order.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 import ys.cafe.order.out.port.PaymentPort;
 import ys.cafe.payment.service.PaymentService;
 import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
 import ys.cafe.payment.service.dto.response.PaymentResponse;
 
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Payment 아웃바운드 어댑터
  * PaymentPort를 구현하여 Payment 서비스와 통신
@@ -21,9 +24,19 @@ public class PaymentPortAdapter implements PaymentPort {
     private final PaymentService paymentService;
 
     @Override
-    public boolean processPayment(Long orderId, Long memberId, Won amount) {
-        PaymentResponse paymentResponse = paymentService.processPayment(orderId, memberId, amount.toPlainString());
-        return paymentResponse.success();
+    public CompletableFuture<Boolean> processPaymentAsync(Long orderId, Long memberId, Won amount) {
+        return paymentService.processPaymentAsync(orderId, memberId, amount.getAmount())
+                .thenApply(PaymentResponse::success);
+    }
+
+    @Override
+    public boolean settleStalePayment(Long orderId) {
+        return paymentService.settleStalePayment(orderId);
+    }
+
+    @Override
+    public int cancelStalePendingPayments(LocalDateTime createdBefore, int limit) {
+        return paymentService.cancelStalePendingPayments(createdBefore, limit);
     }
 
     @Override
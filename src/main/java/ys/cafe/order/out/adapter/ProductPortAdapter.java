@@ -5,7 +5,7 @@ import org.springframework.stereotype.Component;
 import ys.cafe.order.out.port.ProductPort;
 import ys.cafe.order.service.dto.ProductDTO;
 import ys.cafe.product.service.ProductService;
-import ys.cafe.product.service.dto.ProductResponse;
+import ys.cafe.product.service.dto.ProductCatalogItem;
 
 import java.util.List;
 
@@ -24,14 +24,14 @@ public class ProductPortAdapter implements ProductPort {
         if (productIds.isEmpty()) {
             return List.of();
         }
-        List<ProductResponse> products = productService.getAvailableProductsByIds(productIds);
+        List<ProductCatalogItem> products = productService.getAvailableCatalogItemsByIds(productIds);
 
         return products.stream()
-                .map(productResponse ->
+                .map(catalogItem ->
                     ProductDTO.of(
-                            productResponse.productId(),
-                            productResponse.name(),
-                            productResponse.price()
+                            catalogItem.productId(),
+                            catalogItem.name(),
+                            catalogItem.price()
                     )
                 )
                 .toList();
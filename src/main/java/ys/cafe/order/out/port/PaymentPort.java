@@ -1,8 +1,11 @@
 package ys.cafe.order.out.port;
 
-import ys.cafe.order.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
 
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Payment 아웃바운드 포트
  * Order 도메인에서 Payment 기능을 사용하기 위한 인터페이스
@@ -10,13 +13,28 @@ import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
 public interface PaymentPort {
 
     /**
-     * 결제 처리
+     * 비동기 결제 처리
      * @param orderId 주문 ID
      * @param memberId 회원 ID
      * @param amount 결제 금액
-     * @return 결제 성공 여부
+     * @return 결제 성공 여부 (게이트웨이 응답 시 완료)
+     */
+    CompletableFuture<Boolean> processPaymentAsync(Long orderId, Long memberId, Won amount);
+
+    /**
+     * 결제 결과가 반영되지 않은 주문의 결제 정산
+     * 결제 기록이 PENDING이면(게이트웨이 결과 미기록) 결제를 취소 등록합니다.
+     * @param orderId 주문 ID
+     * @return 결제 성공 여부 (결제 기록이 SUCCESS인 경우에만 true)
+     */
+    boolean settleStalePayment(Long orderId);
+
+    /**
+     * 생성 후 createdBefore까지 결과가 기록되지 않은 PENDING 결제 취소 등록
+     * (결과 저장 실패로 주문은 결제 실패 처리되었지만 게이트웨이에서는 승인되었을 수 있는 결제)
+     * @return 취소 등록한 결제 건수
      */
-    boolean processPayment(Long orderId, Long memberId, Won amount);
+    int cancelStalePendingPayments(LocalDateTime createdBefore, int limit);
 
     /**
      * 결제 취소
@@ -0,0 +1,9 @@
+package ys.cafe.order.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import ys.cafe.order.domain.OrderIdempotency;
+
+@Repository
+public interface OrderIdempotencyRepository extends JpaRepository<OrderIdempotency, String> {
+}
@@ -1,10 +1,21 @@
 package ys.cafe.order.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.service.dto.OrderSummaryResponse;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -15,4 +26,130 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return 해당 회원의 주문 목록
      */
     List<Order> findByMemberId(Long memberId);
+
+    /**
+     * 회원 주문 수 조회
+     * @param memberId 회원 ID
+     * @return 해당 회원의 주문 수
+     */
+    long countByMemberId(Long memberId);
+
+    /**
+     * 상태별 주문 조회 (주문 ID 순)
+     * 애플리케이션 시작 시 주방 대기열(PREPARING, SERVE) 복원에 사용하며 idx_order_status 인덱스를 사용합니다.
+     */
+    List<Order> findByOrderStatusInOrderByOrderIdAsc(Collection<OrderStatus> orderStatuses);
+
+    /**
+     * 주문 일시가 before 이전인 상태별 주문 ID 조회 (결제 대기 주문 정산용)
+     * idx_order_status 인덱스로 해당 상태의 주문만 읽습니다.
+     */
+    @Query("""
+            SELECT o.orderId FROM Order o
+            WHERE o.orderStatus = :orderStatus
+              AND o.orderDateTime < :before
+            ORDER BY o.orderId
+            """)
+    List<Long> findOrderIdsByOrderStatusBefore(
+            @Param("orderStatus") OrderStatus orderStatus,
+            @Param("before") LocalDateTime before,
+            Limit limit
+    );
+
+    /**
+     * 전체 주문 첫 페이지 조회 (최신 주문부터)
+     * idx_order_date_time (order_date_time, PK) 인덱스를 역순으로 읽습니다.
+     */
+    @Query("SELECT o FROM Order o ORDER BY o.orderDateTime DESC, o.orderId DESC")
+    List<Order> findLatest(Limit limit);
+
+    /**
+     * 전체 주문 다음 페이지 조회 (keyset)
+     * 커서 (주문 일시, 주문 ID)보다 이전 주문만 조회하므로 OFFSET 없이 인덱스 범위 스캔으로 처리됩니다.
+     */
+    @Query("""
+            SELECT o FROM Order o
+            WHERE o.orderDateTime < :orderDateTime
+               OR (o.orderDateTime = :orderDateTime AND o.orderId < :orderId)
+            ORDER BY o.orderDateTime DESC, o.orderId DESC
+            """)
+    List<Order> findLatestBefore(
+            @Param("orderDateTime") LocalDateTime orderDateTime,
+            @Param("orderId") Long orderId,
+            Limit limit
+    );
+
+    /**
+     * 회원 주문 첫 페이지 조회 (최신 주문부터)
+     * idx_member_order_date_time (member_id, order_date_time, PK) 인덱스를 사용합니다.
+     */
+    @Query("""
+            SELECT o FROM Order o
+            WHERE o.memberId = :memberId
+            ORDER BY o.orderDateTime DESC, o.orderId DESC
+            """)
+    List<Order> findLatestByMemberId(@Param("memberId") Long memberId, Limit limit);
+
+    /**
+     * 회원 주문 다음 페이지 조회 (keyset)
+     */
+    @Query("""
+            SELECT o FROM Order o
+            WHERE o.memberId = :memberId
+              AND (o.orderDateTime < :orderDateTime
+                   OR (o.orderDateTime = :orderDateTime AND o.orderId < :orderId))
+            ORDER BY o.orderDateTime DESC, o.orderId DESC
+            """)
+    List<Order> findLatestByMemberIdBefore(
+            @Param("memberId") Long memberId,
+            @Param("orderDateTime") LocalDateTime orderDateTime,
+            @Param("orderId") Long orderId,
+            Limit limit
+    );
+
+    /**
+     * 전체 주문 요약 첫 페이지 조회 (엔티티를 로딩하지 않는 생성자 프로젝션)
+     */
+    @Query("""
+            SELECT new ys.cafe.order.service.dto.OrderSummaryResponse(
+                o.orderId, o.memberId, o.orderStatus, o.totalPrice, o.orderDateTime)
+            FROM Order o
+            ORDER BY o.orderDateTime DESC, o.orderId DESC
+            """)
+    List<OrderSummaryResponse> findLatestSummaries(Limit limit);
+
+    /**
+     * 전체 주문 요약 다음 페이지 조회 (keyset)
+     */
+    @Query("""
+            SELECT new ys.cafe.order.service.dto.OrderSummaryResponse(
+                o.orderId, o.memberId, o.orderStatus, o.totalPrice, o.orderDateTime)
+            FROM Order o
+            WHERE o.orderDateTime < :orderDateTime
+               OR (o.orderDateTime = :orderDateTime AND o.orderId < :orderId)
+            ORDER BY o.orderDateTime DESC, o.orderId DESC
+            """)
+    List<OrderSummaryResponse> findLatestSummariesBefore(
+            @Param("orderDateTime") LocalDateTime orderDateTime,
+            @Param("orderId") Long orderId,
+            Limit limit
+    );
+
+    /**
+     * 기간 내 주문 요약 스트리밍 조회 (정산 내보내기용)
+     * fetch size Integer.MIN_VALUE는 MySQL 드라이버에서 결과 셋을 메모리에 모두 올리지 않고
+     * 한 행씩 읽는 스트리밍 모드로 동작합니다. 반드시 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            SELECT new ys.cafe.order.service.dto.OrderSummaryResponse(
+                o.orderId, o.memberId, o.orderStatus, o.totalPrice, o.orderDateTime)
+            FROM Order o
+            WHERE o.orderDateTime >= :from AND o.orderDateTime < :to
+            ORDER BY o.orderDateTime, o.orderId
+            """)
+    Stream<OrderSummaryResponse> streamSummariesBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 }
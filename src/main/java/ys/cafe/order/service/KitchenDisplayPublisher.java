@@ -0,0 +1,101 @@
+package ys.cafe.order.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 바리스타 화면 SSE 발행
+ * 구독 시 대기열 스냅샷(snapshot)을 보내고, 이후 주문 추가/상태 변경(order)과 제거(removed)만 보냅니다.
+ * 프록시가 유휴 연결을 끊지 않도록 heartbeat 주석을 주기적으로 보내며, 전송에 실패한 연결은 바로 정리합니다.
+ *
+ * 전송은 연결별 큐(SseConnection)에 넣은 뒤 sseExecutor에서 처리하므로 주문 처리와 스케줄러 스레드는 소켓 쓰기를 기다리지 않으며,
+ * 대기 이벤트가 max-pending을 넘거나 전송이 send-timeout 동안 끝나지 않는 화면은 연결을 끊습니다. (화면이 재구독하여 스냅샷부터 다시 받음)
+ */
+@Component
+public class KitchenDisplayPublisher {
+
+    private final Set<SseConnection> connections = ConcurrentHashMap.newKeySet();
+    private final long timeoutMillis;
+    private final Executor sseExecutor;
+    private final long sendTimeoutNanos;
+    private final int maxPending;
+
+    public KitchenDisplayPublisher(
+            @Value("${order.kitchen.sse-timeout:30m}") Duration timeout,
+            @Value("${order.kitchen.send-timeout:10s}") Duration sendTimeout,
+            @Value("${order.kitchen.max-pending:256}") int maxPending,
+            @Qualifier("sseExecutor") Executor sseExecutor
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxPending = maxPending;
+        this.sseExecutor = sseExecutor;
+    }
+
+    /**
+     * 화면 구독
+     * 먼저 구독을 등록한 뒤 스냅샷을 전송 큐에 넣고, 스냅샷은 전송 시점에 조회합니다.
+     * 그 사이의 변경은 스냅샷 또는 이후 알림 중 하나로 반드시 전달됩니다. (스냅샷보다 먼저 도착한 알림은 스냅샷으로 대체)
+     *
+     * @param snapshot 대기열 조회
+     */
+    public SseEmitter subscribe(Supplier<List<OrderResponse>> snapshot) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SseConnection connection = new SseConnection(emitter, sseExecutor, maxPending, sendTimeoutNanos, connections::remove);
+        emitter.onCompletion(() -> connections.remove(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(throwable -> connections.remove(connection));
+        connections.add(connection);
+
+        connection.send(() -> SseEmitter.event().name("snapshot").data(snapshot.get()));
+        return emitter;
+    }
+
+    public void publishUpdated(OrderResponse order) {
+        broadcast(() -> SseEmitter.event()
+                .name("order")
+                .data(order));
+    }
+
+    public void publishRemoved(Long orderId, OrderStatus orderStatus) {
+        broadcast(() -> SseEmitter.event()
+                .name("removed")
+                .data(Map.of("orderId", orderId, "orderStatus", orderStatus)));
+    }
+
+    /**
+     * heartbeat 주석 전송 (전송이 send-timeout을 넘도록 끝나지 않은 화면은 연결 종료)
+     */
+    @Scheduled(fixedDelayString = "${order.kitchen.heartbeat-interval:15s}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (SseConnection connection : connections) {
+            if (!connection.disconnectIfStalled(now)) {
+                connection.send(() -> SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return connections.size();
+    }
+
+    private void broadcast(Supplier<SseEmitter.SseEventBuilder> event) {
+        for (SseConnection connection : connections) {
+            connection.send(event);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ys.cafe.order.service;
+
+import org.springframework.stereotype.Component;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 주방 주문 대기열 (조리 중 PREPARING, 서빙 중 SERVE)
+ * 주문 ID 순(접수 순)으로 정렬된 메모리 맵으로, 바리스타 화면은 orders 테이블을 조회하지 않고 이 대기열과 SSE 변경 알림만 사용합니다.
+ * 주문 상태는 앞으로만 진행하므로(PREPARING → SERVE) 늦게 도착한 이전 상태는 반영하지 않습니다.
+ */
+@Component
+public class KitchenQueue {
+
+    private final ConcurrentNavigableMap<Long, OrderResponse> orders = new ConcurrentSkipListMap<>();
+
+    public Optional<OrderResponse> get(Long orderId) {
+        return Optional.ofNullable(orders.get(orderId));
+    }
+
+    /**
+     * 주문 추가 또는 상태 갱신
+     *
+     * @return 대기열이 변경되었으면 true (이미 같은 상태이거나 더 진행된 상태면 false)
+     */
+    public boolean put(OrderResponse order) {
+        OrderResponse previous = orders.get(order.orderId());
+        OrderResponse current = orders.merge(order.orderId(), order,
+                (queued, updated) -> updated.orderStatus().isBefore(queued.orderStatus()) ? queued : updated);
+        return previous == null || previous.orderStatus() != current.orderStatus();
+    }
+
+    /**
+     * 대기열에서 제거 (서빙 완료, 취소 등)
+     *
+     * @return 대기열에 있던 주문이면 true
+     */
+    public boolean remove(Long orderId) {
+        return orders.remove(orderId) != null;
+    }
+
+    /**
+     * 대기열 전체 교체 (애플리케이션 시작 시 DB에서 복원)
+     */
+    public void replaceAll(List<OrderResponse> kitchenOrders) {
+        orders.clear();
+        kitchenOrders.forEach(order -> orders.put(order.orderId(), order));
+    }
+
+    /**
+     * 접수 순 대기열 스냅샷
+     */
+    public List<OrderResponse> snapshot() {
+        return List.copyOf(orders.values());
+    }
+
+    public int size() {
+        return orders.size();
+    }
+}
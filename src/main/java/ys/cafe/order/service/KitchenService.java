@@ -0,0 +1,108 @@
+package ys.cafe.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주방(바리스타) 주문 처리
+ * 결제가 완료되어 PREPARING이 된 주문을 주방 대기열에 넣고 서빙 시작/완료로 진행시키며,
+ * 대기열 변경은 SSE로 바리스타 화면에 바로 전달합니다.
+ *
+ * 대기열은 다음 경로로 갱신됩니다.
+ * 1) 애플리케이션 시작: DB의 PREPARING/SERVE 주문으로 복원
+ * 2) 주문 상태 변경 이벤트(아웃박스 릴레이): 결제 완료, 주문 취소 등
+ * 3) 서빙 시작/완료 API: 커밋 직후 바로 반영 (이후 도착하는 같은 이벤트는 변경 없음으로 무시)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KitchenService {
+
+    private final OrderTransactionHelper orderTransactionHelper;
+    private final KitchenQueue kitchenQueue;
+    private final KitchenDisplayPublisher kitchenDisplayPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreQueue() {
+        kitchenQueue.replaceAll(orderTransactionHelper.findKitchenOrders());
+        log.info("주방 대기열 복원 완료 - {}건", kitchenQueue.size());
+    }
+
+    public List<OrderResponse> getQueue() {
+        return kitchenQueue.snapshot();
+    }
+
+    public SseEmitter subscribe() {
+        return kitchenDisplayPublisher.subscribe(kitchenQueue::snapshot);
+    }
+
+    /**
+     * 서빙 시작 (PREPARING → SERVE)
+     */
+    public OrderResponse startServing(Long orderId) {
+        OrderResponse order = orderTransactionHelper.startServing(orderId);
+        apply(order);
+        return order;
+    }
+
+    /**
+     * 서빙 완료 (SERVE → COMPLETED), 대기열에서 제거
+     */
+    public OrderResponse completeServing(Long orderId) {
+        OrderResponse order = orderTransactionHelper.completeServing(orderId);
+        apply(order);
+        return order;
+    }
+
+    /**
+     * 주문 상태 변경 이벤트 반영 (아웃박스 릴레이 스레드에서 실행)
+     * 대기열에 없는 주문이 PREPARING/SERVE가 되면 DB에서 현재 상태와 주문 항목을 읽어 넣습니다.
+     * (늦게 도착한 이벤트로 이미 완료/취소된 주문이 다시 들어오지 않도록 이벤트 상태 대신 DB 상태 사용)
+     */
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (!isKitchenStatus(event.orderStatus())) {
+            remove(event.orderId(), event.orderStatus());
+            return;
+        }
+
+        Optional<OrderResponse> queued = kitchenQueue.get(event.orderId());
+        if (queued.isPresent()) {
+            apply(queued.get().withOrderStatus(event.orderStatus()));
+            return;
+        }
+
+        orderTransactionHelper.findOrder(event.orderId()).ifPresent(this::apply);
+    }
+
+    private void apply(OrderResponse order) {
+        if (!isKitchenStatus(order.orderStatus())) {
+            remove(order.orderId(), order.orderStatus());
+            return;
+        }
+
+        if (kitchenQueue.put(order)) {
+            kitchenDisplayPublisher.publishUpdated(order);
+        }
+    }
+
+    private void remove(Long orderId, OrderStatus orderStatus) {
+        if (kitchenQueue.remove(orderId)) {
+            kitchenDisplayPublisher.publishRemoved(orderId, orderStatus);
+        }
+    }
+
+    private static boolean isKitchenStatus(OrderStatus orderStatus) {
+        return orderStatus == OrderStatus.PREPARING || orderStatus == OrderStatus.SERVE;
+    }
+}
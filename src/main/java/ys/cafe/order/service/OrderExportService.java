@@ -0,0 +1,107 @@
+package ys.cafe.order.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ys.cafe.order.repository.OrderRepository;
+import ys.cafe.order.service.dto.OrderExportPeriod;
+import ys.cafe.order.service.dto.OrderSummaryResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * 정산용 주문 내보내기
+ * 기간 내 주문 요약을 NDJSON(한 줄에 주문 하나)으로 응답 스트림에 바로 기록합니다.
+ *
+ * 내보내기 하나가 끝날 때까지 DB 커넥션과 웹 비동기 처리 스레드를 하나씩 점유하므로
+ * 동시에 실행할 수 있는 내보내기 수(max-concurrent)와 내보내기 요청의 타임아웃(timeout)을 따로 제한합니다.
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Semaphore permits;
+
+    public OrderExportService(
+            OrderRepository orderRepository,
+            ObjectMapper objectMapper,
+            @Value("${order.export.timeout:30m}") Duration timeout,
+            @Value("${order.export.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 시작 허가 (대기하지 않음)
+     * 허가를 받은 경우 내보내기 요청 처리가 끝날 때(완료, 타임아웃, 오류) release를 호출해야 합니다.
+     *
+     * @return 동시 내보내기 한도 내이면 true
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 내보내기 요청 하나의 최대 처리 시간 (다른 비동기 요청의 타임아웃과 별도)
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * 기간 내 주문을 NDJSON으로 기록
+     * MySQL 스트리밍 결과 셋(전방 전용 커서)에서 한 행씩 읽어 곧바로 출력하므로
+     * 내보내는 기간/건수와 무관하게 메모리 사용량이 일정합니다.
+     * 스트리밍이 끝날 때까지 읽기 전용 트랜잭션과 DB 커넥션 하나를 점유합니다.
+     *
+     * @param period       내보내기 기간
+     * @param outputStream 응답 출력 스트림 (호출자가 닫음)
+     * @return 기록한 주문 수
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(OrderExportPeriod period, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(OrderSummaryResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        long exportedCount = 0;
+        try (Stream<OrderSummaryResponse> summaries = orderRepository.streamSummariesBetween(
+                     period.startInclusive(), period.endExclusive());
+             JsonGenerator generator = objectMapper.getFactory()
+                     .createGenerator(outputStream)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+
+            // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈만 사용
+            generator.setRootValueSeparator(null);
+
+            Iterator<OrderSummaryResponse> iterator = summaries.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                exportedCount++;
+            }
+        }
+
+        log.info("주문 내보내기 완료 - from: {}, to: {}, count: {}", period.from(), period.to(), exportedCount);
+        return exportedCount;
+    }
+}
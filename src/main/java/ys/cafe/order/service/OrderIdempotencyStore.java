@@ -0,0 +1,80 @@
+package ys.cafe.order.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ys.cafe.common.cache.BoundedCache;
+import ys.cafe.common.cache.CacheStats;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 멱등성 키 인메모리 저장소
+ * 처리 중인 키는 future로 등록하여 같은 키의 동시 재시도가 최초 요청의 결과를 함께 기다리고,
+ * 처리 완료된 키는 최초 응답(OrderResponse)을 캐시하여 DB 조회 없이 그대로 반환합니다.
+ * 캐시에서 제거되었거나 다른 노드에서 처리된 키는 action 내부의 DB 조회(order_idempotency)로 확인합니다.
+ */
+@Component
+public class OrderIdempotencyStore {
+
+    private final ConcurrentMap<String, CompletableFuture<OrderResponse>> inFlight = new ConcurrentHashMap<>();
+    private final BoundedCache<String, OrderResponse> completed;
+
+    public OrderIdempotencyStore(@Value("${order.idempotency-cache.max-size:10000}") int maxSize) {
+        this.completed = new BoundedCache<>(maxSize);
+    }
+
+    /**
+     * 멱등성 키로 주문 생성 실행
+     * 1) 완료된 키: 캐시된 최초 응답 반환
+     * 2) 처리 중인 키: 최초 요청의 결과(응답 또는 예외)를 기다려 그대로 반환
+     * 3) 처음 보는 키: action 실행 후 응답 캐시 (실패한 요청은 캐시하지 않아 다시 시도 가능)
+     *
+     * @param idempotencyKey 멱등성 키
+     * @param action         DB 조회 및 주문 생성
+     */
+    public OrderResponse execute(String idempotencyKey, Supplier<OrderResponse> action) {
+        Optional<OrderResponse> cached = completed.get(idempotencyKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<OrderResponse> claim = new CompletableFuture<>();
+        CompletableFuture<OrderResponse> inFlightRequest = inFlight.putIfAbsent(idempotencyKey, claim);
+        if (inFlightRequest != null) {
+            return await(inFlightRequest);
+        }
+
+        try {
+            OrderResponse response = action.get();
+            completed.put(idempotencyKey, response);
+            claim.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            claim.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, claim);
+        }
+    }
+
+    private OrderResponse await(CompletableFuture<OrderResponse> inFlightRequest) {
+        try {
+            return inFlightRequest.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CacheStats stats() {
+        return completed.stats();
+    }
+}
@@ -0,0 +1,92 @@
+package ys.cafe.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.out.port.PaymentPort;
+import ys.cafe.order.repository.OrderRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 대기 주문 정산 배치
+ *
+ * 결제 결과 반영(2차 트랜잭션)에 실패하거나 게이트웨이 응답 전에 노드가 중단되면 주문이 PAYMENT_WAITING에 남고,
+ * 결제 진행 중인 주문은 취소할 수 없으므로 사용자도 정리할 수 없습니다.
+ * 주문 후 stale-after(게이트웨이 응답 대기 시간 + 여유)가 지나도록 PAYMENT_WAITING인 주문을 결제 기록으로 정산합니다.
+ * 1) 결제 SUCCESS → PREPARING
+ * 2) 결제 FAILED 또는 결제 기록 없음 → PAYMENT_FAILED
+ * 3) 결제 PENDING(게이트웨이 결과 미기록) → 결제 취소 등록(취소 배치가 환불) 후 PAYMENT_FAILED
+ *
+ * 결과 저장 실패로 주문은 이미 PAYMENT_FAILED가 되었지만 PENDING으로 남은 결제도 함께 취소 등록합니다.
+ */
+@Slf4j
+@Component
+public class OrderPaymentReconciler {
+
+    private final OrderRepository orderRepository;
+    private final OrderTransactionHelper orderTransactionHelper;
+    private final PaymentPort paymentPort;
+    private final Duration staleAfter;
+    private final int batchSize;
+
+    public OrderPaymentReconciler(
+            OrderRepository orderRepository,
+            OrderTransactionHelper orderTransactionHelper,
+            PaymentPort paymentPort,
+            @Value("${order.payment-reconcile.stale-after:2m}") Duration staleAfter,
+            @Value("${order.payment-reconcile.batch-size:100}") int batchSize
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderTransactionHelper = orderTransactionHelper;
+        this.paymentPort = paymentPort;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.payment-reconcile.fixed-delay:1m}")
+    public void reconcile() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+
+        int settledCount = settlePaymentWaitingOrders(staleBefore);
+        int canceledCount = cancelStalePendingPayments(staleBefore);
+
+        if (settledCount > 0 || canceledCount > 0) {
+            log.warn("결제 대기 주문 정산 완료 - 주문 정산: {}건, 결과 미기록 결제 취소 등록: {}건", settledCount, canceledCount);
+        }
+    }
+
+    private int settlePaymentWaitingOrders(LocalDateTime staleBefore) {
+        List<Long> orderIds = orderRepository.findOrderIdsByOrderStatusBefore(
+                OrderStatus.PAYMENT_WAITING, staleBefore, Limit.of(batchSize));
+
+        int settledCount = 0;
+        for (Long orderId : orderIds) {
+            try {
+                boolean paymentSuccess = paymentPort.settleStalePayment(orderId);
+                if (orderTransactionHelper.settlePaymentWaiting(orderId, paymentSuccess)) {
+                    settledCount++;
+                    log.warn("결제 대기 주문 정산 - orderId: {}, paymentSuccess: {}", orderId, paymentSuccess);
+                }
+            } catch (RuntimeException e) {
+                log.error("결제 대기 주문 정산 실패 (다음 실행 시 재시도) - orderId: {}, error: {}",
+                        orderId, e.getMessage(), e);
+            }
+        }
+        return settledCount;
+    }
+
+    private int cancelStalePendingPayments(LocalDateTime staleBefore) {
+        try {
+            return paymentPort.cancelStalePendingPayments(staleBefore, batchSize);
+        } catch (RuntimeException e) {
+            log.error("결과 미기록 결제 취소 등록 실패 (다음 실행 시 재시도) - error: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ys.cafe.order.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성(POST /orders) 단계별 소요 시간 지표
+ *
+ * order.place.stage{stage}: 요청 스레드에서 실행되는 단계별 소요 시간
+ *   - member_check: 회원 상태 검증 (회원 캐시 또는 DB)
+ *   - product_lookup: 주문 상품 조회 (상품 카탈로그 캐시 또는 DB)
+ *   - persist: 주문 저장 트랜잭션 (PAYMENT_WAITING 커밋)
+ *   - payment_request: 결제 비동기 요청 (게이트웨이 응답은 기다리지 않음)
+ * order.payment.duration{outcome}: 결제 요청부터 결제 결과 반영까지 (요청 스레드 밖에서 완료)
+ */
+@Component
+public class OrderPlacementMetrics {
+
+    public enum Stage {
+        MEMBER_CHECK, PRODUCT_LOOKUP, PERSIST, PAYMENT_REQUEST
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer paymentSucceeded;
+    private final Timer paymentFailed;
+
+    public OrderPlacementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("order.place.stage")
+                    .description("주문 생성 단계별 소요 시간")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.paymentSucceeded = paymentTimer("success");
+        this.paymentFailed = paymentTimer("failure");
+    }
+
+    public <T> T record(Stage stage, Supplier<T> action) {
+        return stageTimers.get(stage).record(action);
+    }
+
+    public void record(Stage stage, Runnable action) {
+        stageTimers.get(stage).record(action);
+    }
+
+    public Timer.Sample startPayment() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stopPayment(Timer.Sample sample, boolean success) {
+        sample.stop(success ? paymentSucceeded : paymentFailed);
+    }
+
+    private Timer paymentTimer(String outcome) {
+        return Timer.builder("order.payment.duration")
+                .description("결제 요청부터 결제 결과 반영까지 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
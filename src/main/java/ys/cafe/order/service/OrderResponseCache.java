@@ -0,0 +1,96 @@
+package ys.cafe.order.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ys.cafe.common.cache.BoundedCache;
+import ys.cafe.common.cache.CacheStats;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 주문 조회 캐시 (GET /orders/{orderId})
+ * 주문 ID별 OrderResponse를 TTL 동안 보관하며, 주문 상태가 바뀌면 커밋 이후 새 응답으로 바로 교체하여
+ * 상태를 확인하는 최근 주문은 DB 조회 없이 응답합니다.
+ *
+ * 1) 조회(read-through): 캐시에 없으면 DB에서 읽어 저장
+ * 2) 상태 변경(주문 생성, 결제 결과 반영, 서빙 시작/완료, 취소): 커밋 이후 변경된 응답으로 교체
+ * 3) 늦게 저장되는 이전 상태(커밋 전에 읽은 조회 결과 등)는 더 진행된 상태를 덮어쓰지 않음
+ * 다른 노드에서 변경된 주문은 TTL이 지나야 반영되므로, 응답한 항목이 저장된 뒤 지난 시간(staleness)을 함께 집계합니다.
+ */
+@Component
+public class OrderResponseCache {
+
+    private final BoundedCache<Long, CachedOrder> cache;
+
+    private final LongAdder servedCount = new LongAdder();
+    private final LongAdder servedAgeNanos = new LongAdder();
+
+    public OrderResponseCache(
+            @Value("${order.response-cache.max-size:10000}") int maxSize,
+            @Value("${order.response-cache.ttl:30s}") Duration ttl
+    ) {
+        this.cache = new BoundedCache<>(maxSize, ttl);
+    }
+
+    public Optional<OrderResponse> get(Long orderId) {
+        return cache.get(orderId).map(cached -> {
+            servedCount.increment();
+            servedAgeNanos.add(System.nanoTime() - cached.cachedAt());
+            return cached.response();
+        });
+    }
+
+    /**
+     * 조회 결과 저장 (이미 더 진행된 상태가 저장되어 있으면 유지)
+     */
+    public void put(OrderResponse response) {
+        cache.merge(response.orderId(), new CachedOrder(response, System.nanoTime()),
+                (cached, loaded) -> loaded.response().orderStatus().isBefore(cached.response().orderStatus())
+                        ? cached
+                        : loaded);
+    }
+
+    /**
+     * 상태 변경 반영 (트랜잭션 중이면 커밋 이후, 롤백되면 반영하지 않음)
+     */
+    public void putAfterCommit(OrderResponse response) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(response);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(response);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 캐시에서 응답한 횟수
+     */
+    public long servedCount() {
+        return servedCount.sum();
+    }
+
+    /**
+     * 캐시에서 응답한 항목이 저장된 뒤 지난 시간의 합계
+     */
+    public double servedAge(TimeUnit unit) {
+        return (double) servedAgeNanos.sum() / unit.toNanos(1);
+    }
+
+    private record CachedOrder(OrderResponse response, long cachedAt) {
+    }
+}
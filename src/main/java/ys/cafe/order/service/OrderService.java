@@ -1,33 +1,47 @@
 package ys.cafe.order.service;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.order.event.OrderStatusChangedEvent;
 import ys.cafe.order.out.port.PaymentPort;
 import ys.cafe.order.out.port.ProductPort;
 import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderStatus;
 import ys.cafe.order.domain.OrderLine;
 import ys.cafe.order.exception.OrderValidationException;
 import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
 import ys.cafe.order.repository.OrderRepository;
+import ys.cafe.order.service.OrderPlacementMetrics.Stage;
 import ys.cafe.order.service.dto.OrderCreateRequest;
 import ys.cafe.order.service.dto.OrderLineCreateRequest;
-import ys.cafe.order.service.dto.OrderListResponse;
+import ys.cafe.order.service.dto.OrderCursor;
 import ys.cafe.order.service.dto.OrderResponse;
+import ys.cafe.order.service.dto.OrderSliceResponse;
+import ys.cafe.order.service.dto.OrderSummaryResponse;
 import ys.cafe.order.service.dto.ProductDTO;
 import ys.cafe.member.service.MemberService;
-import ys.cafe.member.service.dto.response.MemberResponse;
+import ys.cafe.member.service.dto.response.MemberAdmission;
 import ys.cafe.member.exception.MemberValidationException;
 import ys.cafe.member.exception.errorcode.MemberValidationErrorCode;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -37,11 +51,75 @@ public class OrderService {
     private final ProductPort productPort;
     private final PaymentPort paymentPort;
     private final MemberService memberService;
+    private final OrderTransactionHelper orderTransactionHelper;
+    private final OrderIdempotencyStore orderIdempotencyStore;
+    private final Outbox outbox;
+    private final OrderStatusNotifier orderStatusNotifier;
+    private final OrderResponseCache orderResponseCache;
+    private final OrderPlacementMetrics orderPlacementMetrics;
 
-    @Transactional
+    /**
+     * 주문 생성
+     * 주문을 PAYMENT_WAITING 상태로 저장한 뒤 결제를 비동기로 요청하고 즉시 응답합니다.
+     * 결제 결과는 게이트웨이 응답이 도착하면 짧은 2차 트랜잭션으로 반영되며,
+     * 클라이언트는 GET /orders/{orderId}로 최종 상태를 확인합니다.
+     * 1) 검증 및 PAYMENT_WAITING 상태로 저장 (커밋)
+     * 2) 결제 게이트웨이 비동기 호출 (요청 스레드 미점유)
+     * 3) 결제 완료 시 2차 트랜잭션으로 결제 결과 반영
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderResponse placeOrder(OrderCreateRequest orderCreateRequest) {
+        return createOrder(orderCreateRequest, null);
+    }
+
+    /**
+     * 멱등성 키를 사용한 주문 생성
+     * 게이트웨이 지연으로 클라이언트가 같은 키로 재시도하면 새 주문/결제를 만들지 않고
+     * 최초 요청의 응답을 반환합니다. (최초 요청이 처리 중이면 완료를 기다림)
+     * 재시도는 회원/상품/결제 경로를 다시 거치지 않으며, 인메모리 저장소에 없으면 DB(order_idempotency)에서 확인합니다.
+     *
+     * @param idempotencyKey 멱등성 키 (null이면 일반 주문 생성)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderResponse placeOrder(OrderCreateRequest orderCreateRequest, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createOrder(orderCreateRequest, null);
+        }
+
+        OrderResponse response = orderIdempotencyStore.execute(
+                idempotencyKey,
+                () -> orderTransactionHelper.findOrderByIdempotencyKey(idempotencyKey)
+                        .orElseGet(() -> createIdempotentOrder(orderCreateRequest, idempotencyKey))
+        );
+
+        validateIdempotencyKeyOwner(response, orderCreateRequest.memberId());
+        return response;
+    }
+
+    /**
+     * 다른 노드가 같은 키로 먼저 커밋한 경우 해당 노드가 생성한 주문을 반환
+     */
+    private OrderResponse createIdempotentOrder(OrderCreateRequest orderCreateRequest, String idempotencyKey) {
+        try {
+            return createOrder(orderCreateRequest, idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            return orderTransactionHelper.findOrderByIdempotencyKey(idempotencyKey)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 멱등성 키는 최초로 사용한 회원의 주문에만 재사용할 수 있습니다.
+     */
+    private void validateIdempotencyKeyOwner(OrderResponse response, Long memberId) {
+        if (!response.memberId().equals(memberId)) {
+            throw new OrderValidationException(OrderValidationErrorCode.ORDER_IDEMPOTENCY_KEY_CONFLICT);
+        }
+    }
+
+    private OrderResponse createOrder(OrderCreateRequest orderCreateRequest, String idempotencyKey) {
         // 1. 회원 상태 검증 (활성 회원만 주문 가능)
-        validateMemberIsActive(orderCreateRequest.memberId());
+        orderPlacementMetrics.record(Stage.MEMBER_CHECK, () -> validateMemberIsActive(orderCreateRequest.memberId()));
 
         // 2. 요청된 상품 ID 목록 추출
         List<Long> requestedProductIds = orderCreateRequest.orderLines().stream()
@@ -49,7 +127,8 @@ public class OrderService {
                 .toList();
 
         // 3. 사용 가능한 상품 조회 (한 번의 쿼리로 조회)
-        List<ProductDTO> availableProducts = productPort.findAvailableProductsByIds(requestedProductIds);
+        List<ProductDTO> availableProducts = orderPlacementMetrics.record(Stage.PRODUCT_LOOKUP,
+                () -> productPort.findAvailableProductsByIds(requestedProductIds));
 
         // 4. 조회된 상품 ID를 Set으로 관리 (빠른 검색을 위해)
         Set<Long> availableProductIds = availableProducts.stream()
@@ -68,25 +147,61 @@ public class OrderService {
                 .map(request -> createOrderLine(request, productMap))
                 .toList();
 
-        // 8. Order 생성 및 저장 (ID 생성을 위해 먼저 저장)
+        // 8. Order 생성 및 저장 (1차 트랜잭션, PAYMENT_WAITING 상태로 커밋)
         Order order = Order.create(orderCreateRequest.memberId(), orderLines);
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderPlacementMetrics.record(Stage.PERSIST, () -> idempotencyKey == null
+                ? orderTransactionHelper.saveNewOrder(order)
+                : orderTransactionHelper.saveNewOrder(order, idempotencyKey));
+        OrderResponse response = OrderResponse.from(savedOrder);
+
+        // 9. 결제 비동기 요청 (게이트웨이 응답을 기다리지 않음)
+        Timer.Sample paymentSample = orderPlacementMetrics.startPayment();
+        orderPlacementMetrics.record(Stage.PAYMENT_REQUEST, () -> requestPayment(savedOrder))
+                // 10. 결제 결과 반영 (2차 트랜잭션, 결제 완료 시점에 실행)
+                .whenComplete((paymentSuccess, throwable) -> {
+                    boolean success = applyPaymentResult(savedOrder.getOrderId(), paymentSuccess, throwable);
+                    orderPlacementMetrics.stopPayment(paymentSample, success);
+                });
+
+        return response;
+    }
 
-        // 9. 결제 처리
-        boolean paymentSuccess = paymentPort.processPayment(
-                savedOrder.getOrderId(),
-                savedOrder.getMemberId(),
-                savedOrder.getTotalPrice()
-        );
+    /**
+     * 결제 요청
+     * 결제 요청 자체가 실패해도 주문이 PAYMENT_WAITING에 남지 않도록 실패한 future로 변환합니다.
+     */
+    private CompletableFuture<Boolean> requestPayment(Order order) {
+        try {
+            return paymentPort.processPaymentAsync(
+                    order.getOrderId(),
+                    order.getMemberId(),
+                    order.getTotalPrice()
+            );
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-        // 10. 결제 결과에 따른 처리
-        if (paymentSuccess) {
-            savedOrder.completePayment();
-        } else {
-            savedOrder.failPayment();
+    /**
+     * 결제 결과 반영
+     * 결제 중 예외가 발생한 경우 결제 실패로 처리합니다.
+     *
+     * @return 결제 성공 여부
+     */
+    private boolean applyPaymentResult(Long orderId, Boolean paymentSuccess, Throwable throwable) {
+        if (throwable != null) {
+            log.error("결제 처리 중 예외 발생 - orderId: {}, error: {}", orderId, throwable.getMessage(), throwable);
         }
 
-        return OrderResponse.from(savedOrder);
+        boolean success = throwable == null && Boolean.TRUE.equals(paymentSuccess);
+
+        try {
+            orderTransactionHelper.applyPaymentResult(orderId, success);
+        } catch (RuntimeException e) {
+            log.error("결제 결과 반영 실패 - orderId: {}, paymentSuccess: {}, error: {}",
+                    orderId, success, e.getMessage(), e);
+        }
+        return success;
     }
 
     /**
@@ -94,9 +209,9 @@ public class OrderService {
      * 탈퇴 요청 또는 삭제된 회원은 주문할 수 없습니다.
      */
     private void validateMemberIsActive(Long memberId) {
-        MemberResponse member = memberService.getMember(memberId);
+        MemberAdmission member = memberService.getMemberAdmission(memberId);
 
-        if (!"ACTIVE".equals(member.status())) {
+        if (!member.isActive()) {
             throw new MemberValidationException(MemberValidationErrorCode.MEMBER_NOT_ACTIVE);
         }
     }
@@ -130,49 +245,134 @@ public class OrderService {
         );
     }
 
+    /**
+     * 주문 단건 조회
+     * 최근 주문은 조회 캐시(OrderResponseCache)에서 트랜잭션/DB 커넥션 없이 응답하고,
+     * 없으면 짧은 읽기 트랜잭션으로 주문 항목까지 읽어 캐시에 저장합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderResponse getOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Optional<OrderResponse> cached = orderResponseCache.get(orderId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        OrderResponse response = orderTransactionHelper.findOrder(orderId)
                 .orElseThrow(() -> new OrderValidationException(
                         OrderValidationErrorCode.ORDER_NOT_FOUND,
                         "주문을 찾을 수 없습니다. ID: " + orderId
                 ));
-        return OrderResponse.from(order);
+        orderResponseCache.put(response);
+        return response;
     }
 
-    public OrderListResponse getAllOrders(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Order> orderPage = orderRepository.findAll(pageable);
+    /**
+     * 주문 상태 구독 (SSE)
+     * 현재 상태를 먼저 보내고 이후 상태 변경을 보내며, 최종 상태(완료, 취소, 결제 실패)를 보내면 연결을 종료합니다.
+     */
+    public SseEmitter subscribeOrderStatus(Long orderId) {
+        return orderStatusNotifier.subscribeOrder(orderId, () -> {
+            OrderResponse order = getOrder(orderId);
+            return new OrderStatusChangedEvent(order.orderId(), order.memberId(), order.orderStatus(), LocalDateTime.now());
+        });
+    }
 
-        List<OrderResponse> orderResponses = orderPage.getContent().stream()
-                .map(OrderResponse::from)
-                .toList();
+    /**
+     * 회원의 주문 상태 변경 구독 (SSE)
+     */
+    public SseEmitter subscribeMemberOrderStatus(Long memberId) {
+        return orderStatusNotifier.subscribeMember(memberId);
+    }
+
+    /**
+     * 전체 주문 목록 조회 (커서 기반)
+     * (주문 일시, 주문 ID) 역순 keyset 페이지네이션으로 OFFSET 스캔 없이 조회하며,
+     * 전체 건수는 includeTotal 요청 시에만 COUNT 쿼리로 조회합니다.
+     *
+     * @param cursor       이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size         페이지 크기
+     * @param includeTotal 전체 건수 포함 여부
+     */
+    public OrderSliceResponse<OrderResponse> getAllOrders(String cursor, int size, boolean includeTotal) {
+        Limit limit = Limit.of(size + 1);
+        List<Order> orders;
+        if (cursor == null) {
+            orders = orderRepository.findLatest(limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            orders = orderRepository.findLatestBefore(orderCursor.orderDateTime(), orderCursor.orderId(), limit);
+        }
 
-        return OrderListResponse.of(
-                orderResponses,
-                orderPage.getTotalElements(),
-                orderPage.getNumber(),
-                orderPage.getSize(),
-                orderPage.getTotalPages(),
-                orderPage.hasNext()
+        Long totalElements = includeTotal ? orderRepository.count() : null;
+        return toSliceResponse(orders, size, OrderCursor::from, totalElements)
+                .map(OrderResponse::from);
+    }
+
+    /**
+     * 전체 주문 요약 목록 조회 (커서 기반)
+     * 관리자 목록 화면용으로 주문 ID, 회원, 상태, 총 가격, 주문 일시만 프로젝션으로 조회합니다.
+     * 엔티티와 주문 항목을 로딩하지 않으므로 영속성 컨텍스트와 결과 셋 크기가 줄어듭니다.
+     */
+    public OrderSliceResponse<OrderSummaryResponse> getOrderSummaries(String cursor, int size, boolean includeTotal) {
+        Limit limit = Limit.of(size + 1);
+        List<OrderSummaryResponse> summaries;
+        if (cursor == null) {
+            summaries = orderRepository.findLatestSummaries(limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            summaries = orderRepository.findLatestSummariesBefore(orderCursor.orderDateTime(), orderCursor.orderId(), limit);
+        }
+
+        Long totalElements = includeTotal ? orderRepository.count() : null;
+        return toSliceResponse(
+                summaries,
+                size,
+                summary -> new OrderCursor(summary.orderDateTime(), summary.orderId()),
+                totalElements
         );
     }
 
     /**
-     * 회원별 주문 목록 조회
-     * 특정 회원의 모든 주문 내역을 조회합니다.
+     * 회원별 주문 목록 조회 (커서 기반)
+     * 특정 회원의 주문 내역을 최신 주문부터 조회합니다.
      **/
-    public OrderListResponse getMemberOrders(Long memberId) {
-        List<Order> orders = orderRepository.findByMemberId(memberId);
-        List<OrderResponse> orderResponses = orders.stream()
-                .map(OrderResponse::from)
-                .toList();
-        return OrderListResponse.unpaged(orderResponses);
+    public OrderSliceResponse<OrderResponse> getMemberOrders(Long memberId, String cursor, int size, boolean includeTotal) {
+        Limit limit = Limit.of(size + 1);
+        List<Order> orders;
+        if (cursor == null) {
+            orders = orderRepository.findLatestByMemberId(memberId, limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            orders = orderRepository.findLatestByMemberIdBefore(
+                    memberId, orderCursor.orderDateTime(), orderCursor.orderId(), limit);
+        }
+
+        Long totalElements = includeTotal ? orderRepository.countByMemberId(memberId) : null;
+        return toSliceResponse(orders, size, OrderCursor::from, totalElements)
+                .map(OrderResponse::from);
+    }
+
+    /**
+     * size + 1건을 조회하여 초과분이 있으면 다음 페이지가 존재하는 것으로 판단
+     */
+    private <T> OrderSliceResponse<T> toSliceResponse(
+            List<T> rows,
+            int size,
+            Function<T, OrderCursor> cursorExtractor,
+            Long totalElements
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<T> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        OrderCursor nextCursor = hasNext ? cursorExtractor.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return OrderSliceResponse.of(pageRows, size, nextCursor, totalElements);
     }
 
     /**
      * 주문 취소
      * 회원이 주문을 취소하면 결제도 함께 취소됩니다.
      * 취소 등록 이후 cronJob으로 최종 결제 취소 처리
+     * 결제 진행 중(PAYMENT_WAITING)인 주문은 결제 정보가 게이트웨이 응답 이후에 저장되므로 취소할 수 없습니다.
      */
     @Transactional
     public OrderResponse cancelOrder(Long orderId, Long memberId) {
@@ -184,14 +384,22 @@ public class OrderService {
             throw new OrderValidationException(OrderValidationErrorCode.ORDER_STATUS_INVALID, "본인의 주문만 취소할 수 있습니다.");
         }
 
-        // 3. 결제 취소 등록 -> 취소등록 후 cronJob으로 최종 취소 처리
+        // 3. 결제 진행 중인 주문은 결제 결과가 반영된 뒤에 취소 가능
+        if (order.getOrderStatus() == OrderStatus.PAYMENT_WAITING) {
+            throw new OrderValidationException(OrderValidationErrorCode.ORDER_CANNOT_CANCEL, "결제 진행 중인 주문은 취소할 수 없습니다. 결제 완료 후 다시 시도해 주세요.");
+        }
+
+        // 4. 결제 취소 등록 -> 취소등록 후 cronJob으로 최종 취소 처리
         paymentPort.cancelPayment(orderId);
         order.cancel();
 
-        // 4. 저장
+        // 5. 저장 (주문 취소 이벤트를 같은 트랜잭션에서 아웃박스에 기록, 커밋 이후 조회 캐시 갱신)
         orderRepository.save(order);
+        outbox.append(OrderStatusChangedEvent.from(order));
 
-        return OrderResponse.from(order);
+        OrderResponse response = OrderResponse.from(order);
+        orderResponseCache.putAfterCommit(response);
+        return response;
     }
 
 
@@ -0,0 +1,198 @@
+package ys.cafe.order.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 주문 상태 변경 SSE 알림 (주문별, 회원별 구독)
+ * 클라이언트가 GET /orders/{orderId}를 반복 조회하지 않도록 주문 상태 변경 이벤트(아웃박스 릴레이)를 구독자에게 바로 보냅니다.
+ *
+ * 유휴 연결 비용을 줄이기 위해 다음과 같이 구성합니다.
+ * 1) SseEmitter는 서블릿 비동기 요청으로 처리되어 연결을 유지하는 동안 요청 스레드를 점유하지 않음
+ * 2) 구독은 주문 ID/회원 ID별 집합으로만 보관하고, 구독자가 없는 키는 바로 제거
+ * 3) 알림 데이터는 주문 항목 없이 상태만 전송 (OrderStatusChangedEvent)
+ * 4) 주문별 구독은 최종 상태(완료, 취소, 결제 실패)를 보낸 뒤 연결 종료
+ *
+ * 전송은 연결별 큐(SseConnection)에 넣은 뒤 sseExecutor에서 처리하므로 아웃박스 릴레이와 스케줄러 스레드는 소켓 쓰기를 기다리지 않으며,
+ * 대기 이벤트가 max-pending을 넘거나 전송이 send-timeout 동안 끝나지 않는 느린 구독자는 연결을 끊습니다.
+ */
+@Component
+public class OrderStatusNotifier {
+
+    private static final String EVENT_NAME = "status";
+
+    private final ConcurrentMap<Long, Set<Subscription>> orderSubscriptions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<Subscription>> memberSubscriptions = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Executor sseExecutor;
+    private final long sendTimeoutNanos;
+    private final int maxPending;
+
+    public OrderStatusNotifier(
+            @Value("${order.notification.sse-timeout:30m}") Duration timeout,
+            @Value("${order.notification.send-timeout:10s}") Duration sendTimeout,
+            @Value("${order.notification.max-pending:32}") int maxPending,
+            @Qualifier("sseExecutor") Executor sseExecutor
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxPending = maxPending;
+        this.sseExecutor = sseExecutor;
+    }
+
+    /**
+     * 주문별 구독
+     * 먼저 구독을 등록한 뒤 현재 상태를 보내므로 그 사이의 상태 변경도 누락되지 않으며,
+     * 이미 보낸 상태보다 이전 상태는 보내지 않습니다.
+     *
+     * @param orderId       주문 ID
+     * @param currentStatus 구독 시점의 주문 상태 (주문이 없으면 예외)
+     */
+    public SseEmitter subscribeOrder(Long orderId, Supplier<OrderStatusChangedEvent> currentStatus) {
+        Subscription subscription = register(orderSubscriptions, orderId, true);
+
+        OrderStatusChangedEvent current;
+        try {
+            current = currentStatus.get();
+        } catch (RuntimeException e) {
+            unregister(orderSubscriptions, orderId, subscription);
+            throw e;
+        }
+
+        if (subscription.send(current) && current.orderStatus().isFinal()) {
+            unregister(orderSubscriptions, orderId, subscription);
+            subscription.connection.complete();
+        }
+        return subscription.connection.emitter();
+    }
+
+    /**
+     * 회원별 구독 (회원의 모든 주문 상태 변경)
+     * 구독 시점의 주문 목록은 GET /orders/members/{memberId}로 조회합니다.
+     */
+    public SseEmitter subscribeMember(Long memberId) {
+        return register(memberSubscriptions, memberId, false).connection.emitter();
+    }
+
+    /**
+     * 주문 상태 변경 알림 (아웃박스 릴레이 스레드에서 실행, 전송 큐에 넣기만 하고 전송을 기다리지 않음)
+     */
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        Set<Subscription> orderSubscribers = orderSubscriptions.get(event.orderId());
+        if (orderSubscribers != null) {
+            for (Subscription subscription : orderSubscribers) {
+                subscription.send(event);
+            }
+            if (event.orderStatus().isFinal()) {
+                Set<Subscription> completed = orderSubscriptions.remove(event.orderId());
+                if (completed != null) {
+                    completed.forEach(subscription -> subscription.connection.complete());
+                }
+            }
+        }
+
+        Set<Subscription> memberSubscribers = memberSubscriptions.get(event.memberId());
+        if (memberSubscribers != null) {
+            for (Subscription subscription : memberSubscribers) {
+                subscription.send(event);
+            }
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 전송
+     * 끊어진 연결과 전송이 send-timeout을 넘도록 끝나지 않은 느린 구독자도 이때 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${order.notification.heartbeat-interval:30s}")
+    public void heartbeat() {
+        heartbeat(orderSubscriptions);
+        heartbeat(memberSubscriptions);
+    }
+
+    public int subscriberCount() {
+        return count(orderSubscriptions) + count(memberSubscriptions);
+    }
+
+    private Subscription register(ConcurrentMap<Long, Set<Subscription>> subscriptions, Long key, boolean forwardOnly) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(forwardOnly);
+        subscription.connection = new SseConnection(emitter, sseExecutor, maxPending, sendTimeoutNanos,
+                connection -> unregister(subscriptions, key, subscription));
+        emitter.onCompletion(() -> unregister(subscriptions, key, subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(throwable -> unregister(subscriptions, key, subscription));
+
+        subscriptions.compute(key, (k, subscribers) -> {
+            Set<Subscription> registered = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            registered.add(subscription);
+            return registered;
+        });
+        return subscription;
+    }
+
+    // 마지막 구독자가 빠지면 키를 제거하여 유휴 키가 쌓이지 않도록 함
+    private void unregister(ConcurrentMap<Long, Set<Subscription>> subscriptions, Long key, Subscription subscription) {
+        subscriptions.computeIfPresent(key, (k, subscribers) -> {
+            subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void heartbeat(ConcurrentMap<Long, Set<Subscription>> subscriptions) {
+        long now = System.nanoTime();
+        subscriptions.forEach((key, subscribers) -> {
+            for (Subscription subscription : subscribers) {
+                if (!subscription.connection.disconnectIfStalled(now)) {
+                    subscription.connection.send(() -> SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        });
+    }
+
+    private static int count(ConcurrentMap<Long, Set<Subscription>> subscriptions) {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 연결 하나의 구독 상태
+     * 주문별 구독은 마지막으로 전송 큐에 넣은 상태를 기억하여 중복 이벤트와 늦게 도착한 이전 상태를 건너뜁니다.
+     */
+    private static final class Subscription {
+        private final boolean forwardOnly;
+        private SseConnection connection;
+        private OrderStatus lastStatus;
+
+        private Subscription(boolean forwardOnly) {
+            this.forwardOnly = forwardOnly;
+        }
+
+        /**
+         * @return 전송 큐에 넣었거나 이미 보낸 상태여서 건너뛴 경우 true, 연결이 끊어진 경우 false
+         */
+        private synchronized boolean send(OrderStatusChangedEvent event) {
+            if (forwardOnly && lastStatus != null
+                    && (event.orderStatus() == lastStatus || event.orderStatus().isBefore(lastStatus))) {
+                return !connection.isClosed();
+            }
+            if (!connection.send(() -> SseEmitter.event().name(EVENT_NAME).data(event))) {
+                return false;
+            }
+            lastStatus = event.orderStatus();
+            return true;
+        }
+    }
+}
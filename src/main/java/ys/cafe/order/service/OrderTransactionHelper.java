@@ -0,0 +1,168 @@
+package ys.cafe.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderIdempotency;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
+import ys.cafe.order.repository.OrderIdempotencyRepository;
+import ys.cafe.order.repository.OrderRepository;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 처리 단계별 짧은 트랜잭션 헬퍼
+ *
+ * OrderService.placeOrder는 트랜잭션 없이 실행되며,
+ * DB 커넥션은 이 클래스의 메서드가 실행되는 동안에만 점유합니다.
+ * (외부 결제 게이트웨이 호출 중에는 커넥션을 점유하지 않음)
+ * 주문 상태가 바뀌는 트랜잭션에서는 상태 변경 이벤트를 아웃박스에 함께 기록하고, 커밋 이후 주문 조회 캐시를 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderTransactionHelper {
+
+    private final OrderRepository orderRepository;
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
+    private final Outbox outbox;
+    private final OrderResponseCache orderResponseCache;
+
+    /**
+     * 1차 트랜잭션: PAYMENT_WAITING 상태의 주문 저장 후 즉시 커밋
+     */
+    @Transactional
+    public Order saveNewOrder(Order order) {
+        Order savedOrder = orderRepository.save(order);
+        recordStatusChange(savedOrder);
+        return savedOrder;
+    }
+
+    /**
+     * 1차 트랜잭션 (멱등성 키 포함): 주문과 멱등성 키를 함께 저장 후 커밋
+     * 다른 노드가 같은 키로 먼저 커밋한 경우 키 중복(DataIntegrityViolationException)으로 주문도 함께 롤백됩니다.
+     */
+    @Transactional
+    public Order saveNewOrder(Order order, String idempotencyKey) {
+        Order savedOrder = orderRepository.save(order);
+        orderIdempotencyRepository.save(
+                OrderIdempotency.create(idempotencyKey, savedOrder.getMemberId(), savedOrder.getOrderId())
+        );
+        recordStatusChange(savedOrder);
+        return savedOrder;
+    }
+
+    /**
+     * 멱등성 키로 생성된 주문 조회
+     * 주문 항목까지 트랜잭션 안에서 읽어 응답으로 변환합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrderByIdempotencyKey(String idempotencyKey) {
+        return orderIdempotencyRepository.findById(idempotencyKey)
+                .flatMap(orderIdempotency -> orderRepository.findById(orderIdempotency.getOrderId()))
+                .map(OrderResponse::from);
+    }
+
+    /**
+     * 2차 트랜잭션: 결제 결과를 주문 상태에 반영
+     * 성공 시 PAYMENT_WAITING → PREPARING, 실패 시 PAYMENT_WAITING → PAYMENT_FAILED
+     */
+    @Transactional
+    public Order applyPaymentResult(Long orderId, boolean paymentSuccess) {
+        Order order = getOrder(orderId);
+
+        if (paymentSuccess) {
+            order.completePayment();
+        } else {
+            order.failPayment();
+        }
+
+        recordStatusChange(order);
+        return order;
+    }
+
+    /**
+     * 결제 대기 주문 정산: 결제 기록에 따라 결제 결과 반영
+     * 그 사이 결제 결과가 반영되어 PAYMENT_WAITING이 아니면 변경하지 않습니다.
+     *
+     * @return 결제 결과를 반영했는지 여부
+     */
+    @Transactional
+    public boolean settlePaymentWaiting(Long orderId, boolean paymentSuccess) {
+        Order order = getOrder(orderId);
+        if (order.getOrderStatus() != OrderStatus.PAYMENT_WAITING) {
+            return false;
+        }
+
+        if (paymentSuccess) {
+            order.completePayment();
+        } else {
+            order.failPayment();
+        }
+
+        recordStatusChange(order);
+        return true;
+    }
+
+    /**
+     * 주방: 서빙 시작 (PREPARING → SERVE)
+     */
+    @Transactional
+    public OrderResponse startServing(Long orderId) {
+        Order order = getOrder(orderId);
+        order.startServing();
+        return recordStatusChange(order);
+    }
+
+    /**
+     * 주방: 서빙 완료 (SERVE → COMPLETED)
+     */
+    @Transactional
+    public OrderResponse completeServing(Long orderId) {
+        Order order = getOrder(orderId);
+        order.completeServing();
+        return recordStatusChange(order);
+    }
+
+    /**
+     * 주문 조회 (주문 항목까지 트랜잭션 안에서 읽어 응답으로 변환)
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrder(Long orderId) {
+        return orderRepository.findById(orderId).map(OrderResponse::from);
+    }
+
+    /**
+     * 주방 대기열 대상 주문(PREPARING, SERVE) 조회
+     * 주문 항목은 @BatchSize로 IN 절 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findKitchenOrders() {
+        return orderRepository.findByOrderStatusInOrderByOrderIdAsc(EnumSet.of(OrderStatus.PREPARING, OrderStatus.SERVE))
+                .stream()
+                .map(OrderResponse::from)
+                .toList();
+    }
+
+    private OrderResponse recordStatusChange(Order order) {
+        outbox.append(OrderStatusChangedEvent.from(order));
+        OrderResponse response = OrderResponse.from(order);
+        orderResponseCache.putAfterCommit(response);
+        return response;
+    }
+
+    private Order getOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderValidationException(
+                        OrderValidationErrorCode.ORDER_NOT_FOUND,
+                        "주문을 찾을 수 없습니다. ID: " + orderId
+                ));
+    }
+}
@@ -0,0 +1,203 @@
+package ys.cafe.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * SSE 연결 하나의 전송 큐
+ * 이벤트를 보내는 스레드(아웃박스 릴레이, 스케줄러)가 소켓 쓰기를 기다리지 않도록 이벤트는 연결별 큐에 넣고,
+ * 실제 전송은 sseExecutor에서 연결마다 한 번에 하나씩 순서대로 처리합니다.
+ *
+ * 느린 구독자(응답을 읽지 않는 클라이언트)는 다음 경우 연결을 끊고 대기 중인 이벤트를 버립니다.
+ * 1) 전송을 기다리는 이벤트가 maxPending을 넘은 경우
+ * 2) 전송 하나가 sendTimeout 동안 끝나지 않은 경우 (heartbeat 주기마다 disconnectIfStalled로 확인)
+ */
+@Slf4j
+final class SseConnection {
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final int maxPending;
+    private final long sendTimeoutNanos;
+    private final Consumer<SseConnection> onDisconnect;
+
+    // SseEventBuilder는 build 시 내부 버퍼에 구분자를 덧붙이므로 전송할 때 생성
+    private final Queue<Supplier<SseEmitter.SseEventBuilder>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean errorCompleted = new AtomicBoolean();
+    private volatile Exception closeCause;
+    private volatile boolean completeRequested;
+    private volatile boolean sending;
+    private volatile long sendStartedAt;
+
+    /**
+     * @param emitter      SSE 연결
+     * @param executor     전송 스레드 (sseExecutor)
+     * @param maxPending   전송을 기다릴 수 있는 최대 이벤트 수
+     * @param sendTimeoutNanos 전송 하나의 최대 시간 (나노초)
+     * @param onDisconnect 느린 구독자 또는 전송 실패로 연결을 끊을 때 실행 (구독 해제)
+     */
+    SseConnection(SseEmitter emitter, Executor executor, int maxPending, long sendTimeoutNanos,
+                  Consumer<SseConnection> onDisconnect) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.maxPending = maxPending;
+        this.sendTimeoutNanos = sendTimeoutNanos;
+        this.onDisconnect = onDisconnect;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * 전송 큐에 이벤트 추가 (전송을 기다리지 않음)
+     *
+     * @return 큐에 추가했는지 여부 (연결이 종료되었거나 대기 이벤트 한도를 넘으면 false)
+     */
+    boolean send(Supplier<SseEmitter.SseEventBuilder> event) {
+        if (closed.get() || completeRequested) {
+            return false;
+        }
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            log.info("SSE 전송 대기 이벤트 한도 초과 - 느린 구독자 연결 종료 (maxPending: {})", maxPending);
+            disconnect(new IOException("SSE 전송 대기 이벤트 한도 초과"), false);
+            return false;
+        }
+
+        pending.add(event);
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 대기 중인 이벤트를 모두 보낸 뒤 연결 종료
+     */
+    void complete() {
+        completeRequested = true;
+        scheduleDrain();
+    }
+
+    /**
+     * 진행 중인 전송이 sendTimeout을 넘었으면 연결 종료
+     * 막힌 소켓 쓰기는 끊을 수 없으므로 구독만 먼저 해제하고, 연결 종료는 전송 스레드가 쓰기에서 돌아온 뒤 처리합니다.
+     *
+     * @return 연결을 끊었는지 여부
+     */
+    boolean disconnectIfStalled(long nowNanos) {
+        if (sending && nowNanos - sendStartedAt > sendTimeoutNanos) {
+            log.info("SSE 전송 시간 초과 - 느린 구독자 연결 종료 (sendTimeout: {}ms)", sendTimeoutNanos / 1_000_000);
+            disconnect(new IOException("SSE 전송 시간 초과"), false);
+            return true;
+        }
+        return false;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            disconnect(new IOException("SSE 전송 스레드 사용 불가", e), true);
+        }
+    }
+
+    private void drain() {
+        try {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while (!closed.get() && (event = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                if (!write(event)) {
+                    return;
+                }
+            }
+
+            if (completeRequested && pending.isEmpty() && closed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        } finally {
+            draining.set(false);
+        }
+
+        if (closed.get()) {
+            // 전송 중에 다른 스레드에서 연결을 끊은 경우 쓰기가 끝난 지금 종료
+            if (closeCause != null && draining.compareAndSet(false, true)) {
+                completeWithError();
+            }
+            return;
+        }
+        // 큐를 비운 직후 추가된 이벤트 또는 종료 요청 처리
+        if (!pending.isEmpty() || completeRequested) {
+            scheduleDrain();
+        }
+    }
+
+    private boolean write(Supplier<SseEmitter.SseEventBuilder> event) {
+        sendStartedAt = System.nanoTime();
+        sending = true;
+        try {
+            emitter.send(event.get());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("SSE 전송 실패 - 연결 종료: {}", e.getMessage());
+            disconnect(e, true);
+            return false;
+        } finally {
+            sending = false;
+        }
+    }
+
+    /**
+     * 연결 종료
+     * 막힌 쓰기가 끝나기 전에 SseEmitter를 종료하면 쓰기 잠금을 기다리게 되므로,
+     * 전송 스레드가 아닌 곳(릴레이, 스케줄러)에서는 구독만 해제하고 종료는 전송 스레드에 맡깁니다.
+     */
+    private void disconnect(Exception cause, boolean onWriterThread) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        closeCause = cause;
+        pending.clear();
+        pendingCount.set(0);
+        onDisconnect.accept(this);
+
+        if (onWriterThread) {
+            completeWithError();
+            return;
+        }
+        // 진행 중인 전송이 있으면 drain이 쓰기를 마친 뒤 종료
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::completeWithError);
+            } catch (RejectedExecutionException e) {
+                completeWithError();
+            }
+        }
+    }
+
+    private void completeWithError() {
+        if (errorCompleted.compareAndSet(false, true)) {
+            emitter.completeWithError(closeCause);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package ys.cafe.order.service.dto;
+
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset 커서
+ * 마지막으로 조회한 주문의 (주문 일시, 주문 ID)를 담으며,
+ * 클라이언트에는 내부 구조를 알 수 없는 불투명 토큰(Base64 URL-safe)으로 전달합니다.
+ */
+public record OrderCursor(
+        LocalDateTime orderDateTime,
+        Long orderId
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static OrderCursor from(Order order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getOrderId());
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @param token 커서 토큰
+     * @return 커서
+     * @throws OrderValidationException 토큰 형식이 올바르지 않은 경우
+     */
+    public static OrderCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new OrderValidationException(OrderValidationErrorCode.ORDER_CURSOR_INVALID);
+            }
+
+            return new OrderCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new OrderValidationException(OrderValidationErrorCode.ORDER_CURSOR_INVALID);
+        }
+    }
+
+    public String encode() {
+        String raw = orderDateTime + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package ys.cafe.order.service.dto;
+
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 주문 내보내기 기간 (시작일, 종료일 모두 포함)
+ * 내보내기 하나가 DB 커넥션을 점유하는 시간을 제한하기 위해 최대 MAX_DAYS일까지 허용합니다.
+ */
+public record OrderExportPeriod(
+        LocalDate from,
+        LocalDate to
+) {
+
+    public static final int MAX_DAYS = 31;
+
+    public OrderExportPeriod {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new OrderValidationException(
+                    OrderValidationErrorCode.ORDER_EXPORT_PERIOD_INVALID,
+                    "주문 내보내기 기간이 유효하지 않습니다. from: " + from + ", to: " + to
+            );
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > MAX_DAYS) {
+            throw new OrderValidationException(
+                    OrderValidationErrorCode.ORDER_EXPORT_PERIOD_TOO_LONG,
+                    "주문 내보내기 기간은 최대 " + MAX_DAYS + "일입니다. from: " + from + ", to: " + to
+            );
+        }
+    }
+
+    public LocalDateTime startInclusive() {
+        return from.atStartOfDay();
+    }
+
+    public LocalDateTime endExclusive() {
+        return to.plusDays(1).atStartOfDay();
+    }
+}
@@ -30,8 +30,8 @@ public record OrderLineResponse(
                 orderLine.getProductId(),
                 orderLine.getProductName(),
                 orderLine.getQuantity().getValue(),
-                orderLine.getPrice().getAmount().toString(),
-                orderLine.getTotalPrice().getAmount().toString()
+                orderLine.getPrice().toPlainString(),
+                orderLine.getTotalPrice().toPlainString()
         );
     }
 }
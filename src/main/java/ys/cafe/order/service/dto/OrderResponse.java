@@ -40,7 +40,14 @@ public record OrderResponse(
                         .map(OrderLineResponse::from)
                         .collect(Collectors.toList()),
                 order.getOrderDateTime(),
-                order.getTotalPrice().getAmount().toString()
+                order.getTotalPrice().toPlainString()
         );
     }
+
+    /**
+     * 주문 상태만 바꾼 응답 (주방 대기열에서 주문 항목을 다시 읽지 않고 상태 변경 반영)
+     */
+    public OrderResponse withOrderStatus(OrderStatus orderStatus) {
+        return new OrderResponse(orderId, memberId, orderStatus, orderLines, orderDateTime, totalPrice);
+    }
 }
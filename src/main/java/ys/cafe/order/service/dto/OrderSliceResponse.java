@@ -0,0 +1,53 @@
+package ys.cafe.order.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "주문 목록 응답 (커서 기반)")
+public record OrderSliceResponse<T>(
+
+        @Schema(description = "주문 목록 (최신 주문부터)")
+        List<T> orders,
+
+        @Schema(description = "요청한 페이지 크기", example = "20")
+        int size,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "다음 페이지 조회용 커서 (다음 페이지가 없으면 null)", example = "MjAyNS0wMS0wMVQxMjowMHwxMDA")
+        String nextCursor,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "총 주문 수 (includeTotal=true 요청 시에만 포함)", example = "10")
+        Long totalElements
+) {
+
+    public static <T> OrderSliceResponse<T> of(
+            List<T> orders,
+            int size,
+            OrderCursor nextCursor,
+            Long totalElements
+    ) {
+        return new OrderSliceResponse<>(
+                orders,
+                size,
+                nextCursor != null,
+                nextCursor != null ? nextCursor.encode() : null,
+                totalElements
+        );
+    }
+
+    public <R> OrderSliceResponse<R> map(Function<T, R> mapper) {
+        return new OrderSliceResponse<>(
+                orders.stream().map(mapper).toList(),
+                size,
+                hasNext,
+                nextCursor,
+                totalElements
+        );
+    }
+}
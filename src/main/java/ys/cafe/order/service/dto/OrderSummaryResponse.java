@@ -0,0 +1,45 @@
+package ys.cafe.order.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ys.cafe.common.vo.Won;
+import ys.cafe.order.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 요약 응답
+ * 관리자 목록 화면용으로 orders 테이블 컬럼만 조회하는 JPQL 생성자 프로젝션 결과입니다.
+ * (Order 엔티티와 주문 항목을 로딩하지 않음)
+ */
+@Schema(description = "주문 요약 응답")
+public record OrderSummaryResponse(
+
+        @Schema(description = "주문 ID", example = "1")
+        Long orderId,
+
+        @Schema(description = "회원 ID", example = "1")
+        Long memberId,
+
+        @Schema(description = "주문 상태", example = "PREPARING")
+        OrderStatus orderStatus,
+
+        @Schema(description = "총 가격", example = "15000")
+        String totalPrice,
+
+        @Schema(description = "주문 일시", example = "2025-11-05T10:30:00")
+        LocalDateTime orderDateTime
+) {
+
+    /**
+     * JPQL 생성자 프로젝션용 생성자
+     */
+    public OrderSummaryResponse(
+            Long orderId,
+            Long memberId,
+            OrderStatus orderStatus,
+            Won totalPrice,
+            LocalDateTime orderDateTime
+    ) {
+        this(orderId, memberId, orderStatus, totalPrice.toPlainString(), orderDateTime);
+    }
+}
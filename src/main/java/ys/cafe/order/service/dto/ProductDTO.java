@@ -4,12 +4,12 @@ package ys.cafe.order.service.dto;
 public record ProductDTO(
         Long productId,
         String name,
-        String price
+        long price
 ) {
     public static ProductDTO of(
             Long productId,
             String name,
-            String price
+            long price
     ) {
 
         return new ProductDTO(productId, name, price);
@@ -1,53 +1,120 @@
 package ys.cafe.order.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * JSON 직렬화/역직렬화 도구
+ * 스프링이 관리하는 ObjectMapper(JavaTimeModule, Blackbird, 없는 필드 무시 설정 포함)를 사용하며,
+ * 타입별 ObjectReader/ObjectWriter를 한 번만 만들어 재사용합니다.
+ * byte[]/스트림 오버로드는 중간 String을 만들지 않으며, 스트림은 닫지 않고 호출자에게 맡깁니다.
+ * 실패 시 로그를 남기고 null(스트림 쓰기는 false)을 반환합니다.
+ */
 @Slf4j
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
-public final class DataSerializer {
+@Component
+public class DataSerializer {
 
-    private static final ObjectMapper objectMapper = initializer();
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
-
-    private static ObjectMapper initializer() {
-        return new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false) // 역직렬화시 없는 필드에 해당 오류 무시
-                ;
+    public DataSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
     }
 
-    public static <T> T deserialize(String data, Class<T> clazz) {
+    public <T> T deserialize(String data, Class<T> clazz) {
         try {
-            return objectMapper.readValue(data, clazz);
+            return reader(clazz).readValue(data);
         } catch (IOException e) {
             log.error("DataSerializer.deserialize] data={}, clazz={}", data, clazz, e);
             return null;
         }
     }
 
-    public static <T> T deserialize(Object data, Class<T> clazz) {
-        return objectMapper.convertValue(data, clazz);
+    public <T> T deserialize(byte[] data, Class<T> clazz) {
+        try {
+            return reader(clazz).readValue(data);
+        } catch (IOException e) {
+            log.error("DataSerializer.deserialize] bytes={}, clazz={}", data.length, clazz, e);
+            return null;
+        }
     }
 
+    public <T> T deserialize(InputStream data, Class<T> clazz) {
+        try {
+            return reader(clazz).readValue(data);
+        } catch (IOException e) {
+            log.error("DataSerializer.deserialize] stream, clazz={}", clazz, e);
+            return null;
+        }
+    }
+
+    /**
+     * 객체를 다른 타입으로 변환 (Map → DTO 등)
+     * 이미 대상 타입이면 그대로 반환하고, JSON 문자열/바이트는 토큰 버퍼 없이 바로 읽습니다.
+     */
+    public <T> T deserialize(Object data, Class<T> clazz) {
+        if (data == null || clazz.isInstance(data)) {
+            return clazz.cast(data);
+        }
+        if (data instanceof String json) {
+            return deserialize(json, clazz);
+        }
+        if (data instanceof byte[] bytes) {
+            return deserialize(bytes, clazz);
+        }
+        return objectMapper.convertValue(data, clazz);
+    }
 
-    public static String serialize(Object object) {
+    public String serialize(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
+            return writer(object).writeValueAsString(object);
+        } catch (IOException e) {
             log.error("DataSerializer.serialize] object={}", object, e);
             return null;
         }
     }
 
+    public byte[] serializeToBytes(Object object) {
+        try {
+            return writer(object).writeValueAsBytes(object);
+        } catch (IOException e) {
+            log.error("DataSerializer.serializeToBytes] object={}", object, e);
+            return null;
+        }
+    }
 
+    public boolean serialize(Object object, OutputStream out) {
+        try {
+            writer(object).writeValue(out, object);
+            return true;
+        } catch (IOException e) {
+            log.error("DataSerializer.serialize] stream, object={}", object, e);
+            return false;
+        }
+    }
 
+    private ObjectReader reader(Class<?> clazz) {
+        return readers.computeIfAbsent(clazz, type -> objectMapper.readerFor(type)
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+    }
 
+    private ObjectWriter writer(Object object) {
+        if (object == null) {
+            return objectMapper.writer();
+        }
+        return writers.computeIfAbsent(object.getClass(), type -> objectMapper.writerFor(type)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+    }
 }
@@ -1,15 +1,28 @@
 package ys.cafe.payment.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
 
 @Configuration
+@EnableAsync
 public class AsyncConfig {
 
+    private static final String ASYNC_EXECUTOR_NAME = "asyncExecutor";
+
     /**
      * I/O 작업 위주의 비동기 작업을 위한 스레드 풀 설정
      *
@@ -20,9 +33,18 @@ public class AsyncConfig {
      *
      * 스레드 수 공식: CPU 코어 수 × (1 + 대기시간/계산시간)
      * - 대기시간 90%, 계산시간 10%인 경우: 코어 수 × 10
+     *
+     * spring.threads.virtual.enabled=true (virtual-threads 프로파일)인 경우
+     * 작업마다 가상 스레드를 생성하는 Executor를 사용 (풀 크기/큐 제한 없음)
      */
-    @Bean(name = "asyncExecutor")
-    public ExecutorService executorService() {
+    @Bean(name = ASYNC_EXECUTOR_NAME)
+    public ExecutorService executorService(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("async-io-vt-", 0).factory()
+            );
+        }
+
         int availableProcessorsCount = Runtime.getRuntime().availableProcessors();
 
         // I/O 작업 위주 설정
@@ -47,13 +69,56 @@ public class AsyncConfig {
         threadPoolTaskExecutor.setThreadNamePrefix("async-io-");
 
         // 거부 정책: 호출자 스레드에서 실행 (CallerRunsPolicy)
-        // 큐가 가득 차면 요청한 스레드에서 직접 실행
-        threadPoolTaskExecutor.setRejectedExecutionHandler(
-            new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy()
-        );
+        // 큐가 가득 차면 요청한 스레드에서 직접 실행 (실행 횟수는 executor.caller.runs 지표로 집계)
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new CountingCallerRunsPolicy());
 
         threadPoolTaskExecutor.initialize();
 
         return threadPoolTaskExecutor.getThreadPoolExecutor();
     }
+
+    /**
+     * asyncExecutor 스레드 풀 지표 등록
+     *
+     * executor.active / executor.queued / executor.pool.size / executor.completed 등{name=asyncExecutor}: 스레드 풀 상태
+     * executor.caller.runs{name=asyncExecutor}: 큐가 가득 차 호출자 스레드에서 실행한 작업 수
+     * (가상 스레드 Executor는 풀/큐가 없으므로 등록하지 않음)
+     */
+    @Bean
+    public MeterBinder asyncExecutorMetrics(@Qualifier("asyncExecutor") ExecutorService asyncExecutor) {
+        return registry -> {
+            if (!(asyncExecutor instanceof ThreadPoolExecutor threadPoolExecutor)) {
+                return;
+            }
+
+            new ExecutorServiceMetrics(threadPoolExecutor, ASYNC_EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+
+            if (threadPoolExecutor.getRejectedExecutionHandler() instanceof CountingCallerRunsPolicy policy) {
+                FunctionCounter.builder("executor.caller.runs", policy, CountingCallerRunsPolicy::callerRuns)
+                        .description("큐가 가득 차 호출자 스레드에서 실행한 작업 수")
+                        .tag("name", ASYNC_EXECUTOR_NAME)
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * 호출자 스레드 실행 횟수를 집계하는 CallerRunsPolicy
+     */
+    static final class CountingCallerRunsPolicy extends ThreadPoolExecutor.CallerRunsPolicy {
+
+        private final LongAdder callerRuns = new LongAdder();
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (!executor.isShutdown()) {
+                callerRuns.increment();
+            }
+            super.rejectedExecution(task, executor);
+        }
+
+        long callerRuns() {
+            return callerRuns.sum();
+        }
+    }
 }
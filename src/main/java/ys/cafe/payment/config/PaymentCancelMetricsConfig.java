@@ -0,0 +1,40 @@
+package ys.cafe.payment.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ys.cafe.payment.service.PaymentScheduledService;
+
+/**
+ * 결제 취소 배치 지표 등록
+ *
+ * payment.cancel.backlog: 외부 결제 시스템 취소를 기다리는 CANCELED 결제 건수 (배치 실행 종료 시점 기준)
+ * payment.cancel.processed{result=completed|retry_scheduled|dead_lettered}: 배치 처리 결과별 누적 건수
+ */
+@Configuration
+public class PaymentCancelMetricsConfig {
+
+    @Bean
+    public MeterBinder paymentCancelMetrics(PaymentScheduledService paymentScheduledService) {
+        return registry -> {
+            Gauge.builder("payment.cancel.backlog", paymentScheduledService, PaymentScheduledService::cancelBacklog)
+                    .description("외부 결제 시스템 취소를 기다리는 결제 건수")
+                    .register(registry);
+
+            FunctionCounter.builder("payment.cancel.processed", paymentScheduledService,
+                            PaymentScheduledService::completedCancels)
+                    .tag("result", "completed")
+                    .register(registry);
+            FunctionCounter.builder("payment.cancel.processed", paymentScheduledService,
+                            PaymentScheduledService::failedCancels)
+                    .tag("result", "retry_scheduled")
+                    .register(registry);
+            FunctionCounter.builder("payment.cancel.processed", paymentScheduledService,
+                            PaymentScheduledService::deadLetteredCancels)
+                    .tag("result", "dead_lettered")
+                    .register(registry);
+        };
+    }
+}
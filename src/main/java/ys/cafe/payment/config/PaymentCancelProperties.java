@@ -0,0 +1,39 @@
+package ys.cafe.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * 결제 취소 배치 설정
+ *
+ * @param chunkSize     한 번에 점유/일괄 갱신하는 CANCELED 결제 건수
+ * @param maxInFlight   외부 결제 시스템에 동시에 요청 중인 취소 건수 상한
+ * @param leaseDuration 점유 유지 시간 (chunk 처리 시간보다 길어야 하며, 만료 시 다른 노드가 다시 점유)
+ * @param nodeId        점유 노드 ID (미지정 시 pid@hostname)
+ */
+@ConfigurationProperties(prefix = "payment.cancel")
+public record PaymentCancelProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("50") int maxInFlight,
+        @DefaultValue("5m") Duration leaseDuration,
+        String nodeId
+) {
+
+    public PaymentCancelProperties {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("payment.cancel.chunk-size는 1 이상이어야 합니다.");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("payment.cancel.max-in-flight는 1 이상이어야 합니다.");
+        }
+        if (leaseDuration == null || leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("payment.cancel.lease-duration은 0보다 커야 합니다.");
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        }
+    }
+}
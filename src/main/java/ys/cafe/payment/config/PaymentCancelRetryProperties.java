@@ -0,0 +1,33 @@
+package ys.cafe.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 외부 결제 시스템 취소 실패 재시도 설정
+ *
+ * @param maxAttempts    최대 취소 시도 횟수 (초과 시 CANCEL_FAILED로 전환하여 재시도 중단)
+ * @param initialBackoff 첫 실패 후 재시도 대기 시간 (실패할 때마다 2배씩 증가)
+ * @param maxBackoff     재시도 대기 시간 상한
+ */
+@ConfigurationProperties(prefix = "payment.cancel.retry")
+public record PaymentCancelRetryProperties(
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("1m") Duration initialBackoff,
+        @DefaultValue("1h") Duration maxBackoff
+) {
+
+    public PaymentCancelRetryProperties {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("payment.cancel.retry.max-attempts는 1 이상이어야 합니다.");
+        }
+        if (initialBackoff == null || initialBackoff.isNegative() || initialBackoff.isZero()) {
+            throw new IllegalArgumentException("payment.cancel.retry.initial-backoff는 0보다 커야 합니다.");
+        }
+        if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("payment.cancel.retry.max-backoff는 initial-backoff 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ys.cafe.payment.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import ys.cafe.payment.out.adapter.PaymentGatewayCircuitBreaker;
+import ys.cafe.payment.out.adapter.PaymentGatewayOperation;
+import ys.cafe.payment.out.adapter.PaymentGatewayStats;
+import ys.cafe.payment.out.adapter.ResilientPaymentClient;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToLongFunction;
+
+/**
+ * 외부 결제 게이트웨이 호출 보호 설정 및 지표 등록
+ *
+ * paymentGatewayExecutor: 게이트웨이 호출 전용 스레드 풀 (결제 결과 저장 등 후속 작업은 asyncExecutor에서 처리)
+ *
+ * payment.gateway.calls{operation, outcome}: 호출 결과별 누적 건수
+ * payment.gateway.bulkhead.in-flight / max-concurrent{operation}: 동시 요청 수와 상한
+ * payment.gateway.circuit.state{operation, state}: 현재 서킷 상태이면 1, 아니면 0
+ * payment.gateway.circuit.failure-rate{operation}: 서킷 sliding window 실패율 (%)
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentGatewayProperties.class)
+public class PaymentGatewayConfig {
+
+    private static final Map<String, ToLongFunction<PaymentGatewayStats>> OUTCOMES = Map.of(
+            "success", PaymentGatewayStats::successful,
+            "failure", PaymentGatewayStats::failed,
+            "timeout", PaymentGatewayStats::timedOut,
+            "not_permitted", PaymentGatewayStats::notPermitted,
+            "bulkhead_full", PaymentGatewayStats::bulkheadFull
+    );
+
+    /**
+     * 게이트웨이 호출 전용 스레드 풀
+     * 벌크헤드가 동시 호출 수(결제 + 취소 상한)를 제한하므로 같은 수의 스레드를 두어 호출이 큐에서 대기하지 않도록 합니다.
+     * (타임아웃 이후에도 진행 중인 호출은 벌크헤드 허가를 유지하므로 스레드 수를 넘지 않음)
+     * 가상 스레드 모드에서는 호출마다 가상 스레드를 생성합니다.
+     */
+    @Bean(name = "paymentGatewayExecutor")
+    public ExecutorService paymentGatewayExecutor(PaymentGatewayProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("payment-gateway-vt-", 0).factory()
+            );
+        }
+
+        int threadCount = properties.payMaxConcurrent() + properties.cancelMaxConcurrent();
+
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(threadCount);
+        threadPoolTaskExecutor.setMaxPoolSize(threadCount);
+        threadPoolTaskExecutor.setKeepAliveSeconds(60);
+        threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+        threadPoolTaskExecutor.setThreadNamePrefix("payment-gateway-");
+        threadPoolTaskExecutor.initialize();
+
+        return threadPoolTaskExecutor.getThreadPoolExecutor();
+    }
+
+    @Bean
+    public MeterBinder paymentGatewayMetrics(ResilientPaymentClient paymentClient) {
+        return registry -> {
+            for (PaymentGatewayOperation operation : PaymentGatewayOperation.values()) {
+                String operationTag = operation.name().toLowerCase(Locale.ROOT);
+
+                OUTCOMES.forEach((outcome, counter) ->
+                        FunctionCounter.builder("payment.gateway.calls", paymentClient,
+                                        client -> counter.applyAsLong(client.stats(operation)))
+                                .tag("operation", operationTag)
+                                .tag("outcome", outcome)
+                                .register(registry));
+
+                Gauge.builder("payment.gateway.bulkhead.in-flight", paymentClient,
+                                client -> client.stats(operation).inFlight())
+                        .tag("operation", operationTag)
+                        .register(registry);
+                Gauge.builder("payment.gateway.bulkhead.max-concurrent", paymentClient,
+                                client -> client.stats(operation).maxConcurrent())
+                        .tag("operation", operationTag)
+                        .register(registry);
+
+                for (PaymentGatewayCircuitBreaker.State state : PaymentGatewayCircuitBreaker.State.values()) {
+                    Gauge.builder("payment.gateway.circuit.state", paymentClient,
+                                    client -> client.circuitState(operation) == state ? 1 : 0)
+                            .tag("operation", operationTag)
+                            .tag("state", state.name().toLowerCase(Locale.ROOT))
+                            .register(registry);
+                }
+
+                Gauge.builder("payment.gateway.circuit.failure-rate", paymentClient,
+                                client -> client.circuitFailureRate(operation))
+                        .tag("operation", operationTag)
+                        .baseUnit("percent")
+                        .register(registry);
+            }
+        };
+    }
+}
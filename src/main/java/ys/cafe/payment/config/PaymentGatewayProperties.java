@@ -0,0 +1,55 @@
+package ys.cafe.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 외부 결제 게이트웨이 호출 보호 설정 (벌크헤드, 타임아웃, 서킷 브레이커)
+ *
+ * @param payMaxConcurrent      게이트웨이에 동시에 요청 중인 결제 건수 상한
+ * @param cancelMaxConcurrent   게이트웨이에 동시에 요청 중인 취소 건수 상한
+ * @param timeout               게이트웨이 응답 대기 시간 (초과 시 실패로 처리)
+ * @param failureRateThreshold  서킷을 여는 실패율 (%)
+ * @param slidingWindowSize     실패율 계산에 사용하는 최근 호출 수
+ * @param minimumCalls          실패율을 계산하기 위한 최소 호출 수
+ * @param openDuration          서킷이 열린 뒤 시험 호출(HALF_OPEN)을 허용하기까지의 시간
+ * @param halfOpenCalls         HALF_OPEN 상태에서 허용하는 시험 호출 수 (모두 성공하면 서킷을 닫음)
+ * @param countDeclinedAsFailure 게이트웨이가 정상 응답한 결제/취소 거절을 서킷 실패로 집계할지 여부
+ *                               (기본 false: 예외와 타임아웃만 실패로 집계, 거절은 게이트웨이 장애가 아니므로 성공으로 집계)
+ */
+@ConfigurationProperties(prefix = "payment.gateway")
+public record PaymentGatewayProperties(
+        @DefaultValue("50") int payMaxConcurrent,
+        @DefaultValue("50") int cancelMaxConcurrent,
+        @DefaultValue("4s") Duration timeout,
+        @DefaultValue("50") int failureRateThreshold,
+        @DefaultValue("20") int slidingWindowSize,
+        @DefaultValue("10") int minimumCalls,
+        @DefaultValue("30s") Duration openDuration,
+        @DefaultValue("3") int halfOpenCalls,
+        @DefaultValue("false") boolean countDeclinedAsFailure
+) {
+
+    public PaymentGatewayProperties {
+        if (payMaxConcurrent <= 0 || cancelMaxConcurrent <= 0) {
+            throw new IllegalArgumentException("payment.gateway 동시 요청 상한은 1 이상이어야 합니다.");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("payment.gateway.timeout은 0보다 커야 합니다.");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("payment.gateway.failure-rate-threshold는 1 이상 100 이하여야 합니다.");
+        }
+        if (slidingWindowSize <= 0 || minimumCalls <= 0 || minimumCalls > slidingWindowSize) {
+            throw new IllegalArgumentException("payment.gateway.minimum-calls는 1 이상 sliding-window-size 이하여야 합니다.");
+        }
+        if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("payment.gateway.open-duration은 0보다 커야 합니다.");
+        }
+        if (halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("payment.gateway.half-open-calls는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ys.cafe.payment.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -9,5 +10,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  */
 @Configuration
 @EnableScheduling
+@EnableConfigurationProperties({PaymentCancelProperties.class, PaymentCancelRetryProperties.class})
 public class SchedulingConfig {
 }
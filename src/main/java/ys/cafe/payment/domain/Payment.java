@@ -1,7 +1,7 @@
 package ys.cafe.payment.domain;
 
 import jakarta.persistence.*;
-import ys.cafe.payment.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 import ys.cafe.payment.domain.vo.PaymentKey;
 
 import java.time.LocalDateTime;
@@ -20,7 +20,7 @@ public class Payment {
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
-    @Embedded
+    @Column(name = "price", nullable = false)
     private Won amount;
 
     @Enumerated(EnumType.STRING)
@@ -36,6 +36,23 @@ public class Payment {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 취소 배치 점유 정보 (여러 노드가 같은 취소 건을 중복 처리하지 않도록 lease 방식으로 점유)
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    // 외부 결제 시스템 취소 재시도 상태 (실패할 때마다 시도 횟수 증가, 다음 시도 일시 이후에만 다시 점유)
+    @Column(name = "cancel_attempts", nullable = false)
+    private int cancelAttempts;
+
+    @Column(name = "cancel_next_attempt_at")
+    private LocalDateTime cancelNextAttemptAt;
+
+    @Column(name = "cancel_last_error", length = 500)
+    private String cancelLastError;
+
     protected Payment() {}
 
     public static Payment create(
@@ -74,6 +91,33 @@ public class Payment {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 외부 결제 시스템 취소 실패 기록 후 재시도 예약
+     * 점유를 해제하고 nextAttemptAt 이후에 다시 점유되도록 합니다.
+     */
+    public void scheduleCancelRetry(String error, LocalDateTime nextAttemptAt) {
+        recordCancelFailure(error);
+        this.cancelNextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 외부 결제 시스템 취소 재시도 한도 초과 (dead letter)
+     * CANCEL_FAILED 상태는 취소 배치 대상에서 제외됩니다.
+     */
+    public void markAsCancelFailed(String error) {
+        recordCancelFailure(error);
+        this.status = PaymentStatus.CANCEL_FAILED;
+        this.cancelNextAttemptAt = null;
+    }
+
+    private void recordCancelFailure(String error) {
+        this.cancelAttempts++;
+        this.cancelLastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.claimedBy = null;
+        this.claimedUntil = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // 상태 확인 메서드
     public boolean isPending() {
         return this.status == PaymentStatus.PENDING;
@@ -95,6 +139,10 @@ public class Payment {
         return this.status == PaymentStatus.CANCEL_COMPLETED;
     }
 
+    public boolean isCancelFailed() {
+        return this.status == PaymentStatus.CANCEL_FAILED;
+    }
+
     // Getters
     public String getPaymentKey() {
         return paymentKey.getValue();
@@ -127,4 +175,24 @@ public class Payment {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public LocalDateTime getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public int getCancelAttempts() {
+        return cancelAttempts;
+    }
+
+    public LocalDateTime getCancelNextAttemptAt() {
+        return cancelNextAttemptAt;
+    }
+
+    public String getCancelLastError() {
+        return cancelLastError;
+    }
 }
\ No newline at end of file
@@ -5,5 +5,6 @@ public enum PaymentStatus {
     SUCCESS,            // 결제 성공
     FAILED,             // 결제 실패
     CANCELED,           // 결제 취소 (내부 취소 완료, 외부 취소 대기)
-    CANCEL_COMPLETED    // 결제 취소 완료 (외부 결제 시스템 취소 완료)
+    CANCEL_COMPLETED,   // 결제 취소 완료 (외부 결제 시스템 취소 완료)
+    CANCEL_FAILED       // 결제 취소 실패 (외부 결제 시스템 취소 재시도 한도 초과, 수동 처리 필요)
 }
\ No newline at end of file
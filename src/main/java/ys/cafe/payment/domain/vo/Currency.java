@@ -1,5 +0,0 @@
-package ys.cafe.payment.domain.vo;
-
-public enum Currency {
-    KRW,
-}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package ys.cafe.payment.event;
+
+import ys.cafe.common.outbox.OutboxPayload;
+import ys.cafe.payment.domain.Payment;
+import ys.cafe.payment.domain.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 변경 이벤트
+ * 결제 취소 등록/취소 완료/취소 실패와 같은 트랜잭션에서 아웃박스에 기록되고, 커밋 이후 OutboxRelay가 발행합니다.
+ *
+ * @param paymentKey 결제 키
+ * @param orderId    주문 ID
+ * @param status     변경된 결제 상태
+ * @param occurredAt 상태 변경 일시
+ */
+public record PaymentStatusChangedEvent(
+        String paymentKey,
+        Long orderId,
+        PaymentStatus status,
+        LocalDateTime occurredAt
+) implements OutboxPayload {
+
+    public static final String AGGREGATE_TYPE = "PAYMENT";
+
+    public static PaymentStatusChangedEvent from(Payment payment) {
+        return of(payment, payment.getStatus());
+    }
+
+    /**
+     * 벌크 UPDATE로 상태를 변경하여 엔티티에 변경 후 상태가 반영되지 않은 경우 사용
+     */
+    public static PaymentStatusChangedEvent of(Payment payment, PaymentStatus status) {
+        return new PaymentStatusChangedEvent(
+                payment.getPaymentKey(),
+                payment.getOrderId(),
+                status,
+                LocalDateTime.now()
+        );
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public String aggregateId() {
+        return paymentKey;
+    }
+}
@@ -2,7 +2,6 @@ package ys.cafe.payment.out.adapter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import ys.cafe.payment.service.dto.response.PaymentResponse;
 
@@ -10,6 +9,11 @@ import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * 외부 결제 게이트웨이 (모의 구현)
+ * 호출 스레드에서 게이트웨이 응답(100~3000ms)까지 대기한 뒤 완료된 future를 반환합니다.
+ * 비동기 실행과 응답 시간 초과 처리는 ResilientPaymentClient가 paymentGatewayExecutor에서 담당합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -20,8 +24,7 @@ public class CoCoaPaymentGateWay implements PaymentClient {
     private static final int MAX_DELAY_MS = 3000;
     private static final double FAILURE_RATE = 0.3; // 30% 실패 확률
 
-    @Override
-    public PaymentResponse pay(
+    private PaymentResponse pay(
             String name,
             String birthDate,
             String phone,
@@ -41,6 +44,16 @@ public class CoCoaPaymentGateWay implements PaymentClient {
         return PaymentResponse.success(paymentKey);
     }
 
+    @Override
+    public CompletableFuture<PaymentResponse> payAsync(
+            String name,
+            String birthDate,
+            String phone,
+            String amount
+    ) {
+        return CompletableFuture.completedFuture(pay(name, birthDate, phone, amount));
+    }
+
 
     private void simulateNetworkDelay() {
         try {
@@ -54,7 +67,6 @@ public class CoCoaPaymentGateWay implements PaymentClient {
 
 
     @Override
-    @Async("asyncExecutor")
     public CompletableFuture<PaymentResponse> cancel(String paymentKey) {
         simulateNetworkDelay();
 
@@ -2,30 +2,32 @@ package ys.cafe.payment.out.adapter;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import ys.cafe.member.service.MemberService;
-import ys.cafe.member.service.dto.response.MemberResponse;
+import ys.cafe.common.event.QueryBus;
+import ys.cafe.member.service.dto.request.MemberAdmissionQuery;
+import ys.cafe.member.service.dto.response.MemberAdmission;
 import ys.cafe.payment.out.port.MemberPort;
 import ys.cafe.payment.service.dto.MemberDTO;
 
 /**
  * Member 아웃바운드 어댑터
  * MemberPort를 구현하여 Member 도메인과 통신
+ * MemberService에 직접 의존하지 않고 QueryBus로 회원 요약 정보를 조회합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class MemberPortAdapter implements MemberPort {
 
-    private final MemberService memberService;
+    private final QueryBus queryBus;
 
     @Override
     public MemberDTO getMember(Long memberId) {
-        MemberResponse member = memberService.getMember(memberId);
+        MemberAdmission member = queryBus.ask(new MemberAdmissionQuery(memberId));
 
         return MemberDTO.of(
-                member.name().fullName(),
-                member.phoneNumber().value(),
+                member.fullName(),
+                member.phoneNumber(),
                 member.gender(),
-                member.birthDate().birthDate(),
+                member.birthDate(),
                 member.registrationDateTime()
         );
     }
@@ -4,9 +4,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import ys.cafe.common.outbox.Outbox;
 import ys.cafe.order.domain.Order;
 import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
 import ys.cafe.order.repository.OrderRepository;
+import ys.cafe.order.service.OrderResponseCache;
+import ys.cafe.order.service.dto.OrderResponse;
 import ys.cafe.payment.out.port.OrderPort;
 
 /**
@@ -19,6 +23,8 @@ import ys.cafe.payment.out.port.OrderPort;
 public class OrderPortAdapter implements OrderPort {
 
     private final OrderRepository orderRepository;
+    private final Outbox outbox;
+    private final OrderResponseCache orderResponseCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -43,6 +49,8 @@ public class OrderPortAdapter implements OrderPort {
 
         order.completePayment();
         orderRepository.save(order);
+        outbox.append(OrderStatusChangedEvent.from(order));
+        orderResponseCache.putAfterCommit(OrderResponse.from(order));
 
         log.info("결제 완료 처리: orderId={}, newStatus={}", orderId, order.getOrderStatus());
     }
@@ -55,6 +63,8 @@ public class OrderPortAdapter implements OrderPort {
 
         order.failPayment();
         orderRepository.save(order);
+        outbox.append(OrderStatusChangedEvent.from(order));
+        orderResponseCache.putAfterCommit(OrderResponse.from(order));
 
         log.info("결제 실패 처리: orderId={}, newStatus={}", orderId, order.getOrderStatus());
     }
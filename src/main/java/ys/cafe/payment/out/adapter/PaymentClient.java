@@ -6,7 +6,11 @@ import java.util.concurrent.CompletableFuture;
 
 public interface PaymentClient {
 
-    PaymentResponse pay(
+    /**
+     * 비동기 결제 요청
+     * 게이트웨이 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     */
+    CompletableFuture<PaymentResponse> payAsync(
             String name,
             String birthDate,
             String phone,
@@ -0,0 +1,154 @@
+package ys.cafe.payment.out.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import ys.cafe.payment.config.PaymentGatewayProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 외부 결제 게이트웨이 서킷 브레이커
+ * 최근 호출(sliding window)의 실패율이 임계치를 넘으면 서킷을 열어(OPEN) 게이트웨이를 호출하지 않고 즉시 실패시킵니다.
+ * openDuration이 지나면 제한된 수의 시험 호출(HALF_OPEN)을 허용하고,
+ * 시험 호출이 모두 성공하면 닫고(CLOSED) 하나라도 실패하면 다시 엽니다.
+ * 결제/취소별로 하나씩 사용하여 한쪽의 실패가 다른 쪽 호출을 차단하지 않도록 합니다.
+ */
+@Slf4j
+public class PaymentGatewayCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final PaymentGatewayOperation operation;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final Clock clock;
+
+    // 최근 호출 결과 링 버퍼 (true: 실패)
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int halfOpenPermittedCalls;
+    private int halfOpenSucceededCalls;
+
+    public PaymentGatewayCircuitBreaker(PaymentGatewayOperation operation, PaymentGatewayProperties properties) {
+        this(operation, properties, Clock.systemUTC());
+    }
+
+    PaymentGatewayCircuitBreaker(PaymentGatewayOperation operation, PaymentGatewayProperties properties, Clock clock) {
+        this.operation = operation;
+        this.failureRateThreshold = properties.failureRateThreshold();
+        this.minimumCalls = properties.minimumCalls();
+        this.openDuration = properties.openDuration();
+        this.halfOpenCalls = properties.halfOpenCalls();
+        this.clock = clock;
+        this.outcomes = new boolean[properties.slidingWindowSize()];
+    }
+
+    /**
+     * 호출 허용 여부
+     * OPEN 상태에서 openDuration이 지났으면 HALF_OPEN으로 전환하고 시험 호출을 허용합니다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermittedCalls >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermittedCalls++;
+        }
+
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSucceededCalls++;
+            if (halfOpenSucceededCalls >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+
+        if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * 현재 sliding window의 실패율 (%)
+     */
+    public synchronized double failureRate() {
+        if (recordedCalls == 0) {
+            return 0.0;
+        }
+        return failedCalls * 100.0 / recordedCalls;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("결제 게이트웨이 서킷 상태 변경 - operation: {}, {} → {}, 실패율: {}%",
+                operation, state, newState, failureRate());
+
+        state = newState;
+        halfOpenPermittedCalls = 0;
+        halfOpenSucceededCalls = 0;
+
+        if (newState == State.OPEN) {
+            openedAt = clock.instant();
+        }
+
+        if (newState == State.CLOSED) {
+            nextIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
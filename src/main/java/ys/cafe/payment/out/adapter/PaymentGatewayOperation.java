@@ -0,0 +1,8 @@
+package ys.cafe.payment.out.adapter;
+
+/**
+ * 외부 결제 게이트웨이 호출 종류 (벌크헤드/지표 구분 단위)
+ */
+public enum PaymentGatewayOperation {
+    PAY, CANCEL
+}
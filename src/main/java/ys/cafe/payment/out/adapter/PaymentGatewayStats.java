@@ -0,0 +1,23 @@
+package ys.cafe.payment.out.adapter;
+
+/**
+ * 결제 게이트웨이 호출 통계 스냅샷 (호출 종류별)
+ *
+ * @param maxConcurrent 동시 요청 상한 (벌크헤드)
+ * @param inFlight      현재 게이트웨이에 요청 중인 건수
+ * @param successful    성공 응답 수
+ * @param failed        실패 응답 및 예외 수
+ * @param timedOut      응답 시간 초과 수
+ * @param notPermitted  서킷 오픈으로 호출하지 않은 수
+ * @param bulkheadFull  동시 요청 한도 초과로 호출하지 않은 수
+ */
+public record PaymentGatewayStats(
+        int maxConcurrent,
+        int inFlight,
+        long successful,
+        long failed,
+        long timedOut,
+        long notPermitted,
+        long bulkheadFull
+) {
+}
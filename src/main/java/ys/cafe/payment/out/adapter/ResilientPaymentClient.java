@@ -0,0 +1,266 @@
+package ys.cafe.payment.out.adapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import ys.cafe.payment.config.PaymentGatewayProperties;
+import ys.cafe.payment.service.dto.response.PaymentResponse;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 외부 결제 게이트웨이 호출 보호 데코레이터
+ * CoCoaPaymentGateWay 호출을 다음 순서로 감싸며, 차단/실패 시 예외 대신 PaymentResponse.failure로 응답합니다.
+ * 1) 벌크헤드: 결제/취소별 동시 요청 수 상한 (초과 시 대기 없이 즉시 실패)
+ * 2) 서킷 브레이커: 결제/취소별 게이트웨이 실패율이 임계치를 넘으면 호출하지 않고 즉시 실패
+ *    예외와 타임아웃만 실패로 집계하며, 게이트웨이의 정상 거절 응답은 count-declined-as-failure 설정 시에만 실패로 집계
+ * 3) 타임아웃: 게이트웨이 호출이 시작된 뒤 응답이 timeout 내에 오지 않으면 실패로 처리
+ * 게이트웨이 호출은 전용 스레드 풀(paymentGatewayExecutor)에서 시작하며, 스레드 풀 대기 시간은 타임아웃에 포함하지 않습니다.
+ * 타임아웃 이후에도 진행 중인 호출의 실제 결과는 PaymentResponse.lateResponse로 전달하여 보상 처리할 수 있게 합니다.
+ * 게이트웨이 장애가 주문 API의 스레드와 커넥션을 잡아두지 않도록 합니다.
+ * 호출 결과별 응답 시간은 payment.gateway.latency{operation, outcome} 타이머로 기록합니다.
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientPaymentClient implements PaymentClient {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+    private static final String OUTCOME_TIMEOUT = "timeout";
+    private static final String OUTCOME_NOT_PERMITTED = "not_permitted";
+    private static final String OUTCOME_BULKHEAD_FULL = "bulkhead_full";
+
+    private final PaymentClient delegate;
+    private final Executor gatewayExecutor;
+    private final Executor callbackExecutor;
+    private final Duration timeout;
+    private final boolean countDeclinedAsFailure;
+    private final OperationGuard payGuard;
+    private final OperationGuard cancelGuard;
+
+    public ResilientPaymentClient(
+            @Qualifier("coCoaPaymentGateWay") PaymentClient delegate,
+            @Qualifier("paymentGatewayExecutor") Executor gatewayExecutor,
+            @Qualifier("asyncExecutor") Executor callbackExecutor,
+            PaymentGatewayProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.gatewayExecutor = gatewayExecutor;
+        this.callbackExecutor = callbackExecutor;
+        this.timeout = properties.timeout();
+        this.countDeclinedAsFailure = properties.countDeclinedAsFailure();
+        this.payGuard = new OperationGuard(PaymentGatewayOperation.PAY, properties.payMaxConcurrent(), properties, meterRegistry);
+        this.cancelGuard = new OperationGuard(PaymentGatewayOperation.CANCEL, properties.cancelMaxConcurrent(), properties, meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<PaymentResponse> payAsync(String name, String birthDate, String phone, String amount) {
+        return execute(PaymentGatewayOperation.PAY, payGuard,
+                () -> delegate.payAsync(name, birthDate, phone, amount));
+    }
+
+    @Override
+    public CompletableFuture<PaymentResponse> cancel(String paymentKey) {
+        return execute(PaymentGatewayOperation.CANCEL, cancelGuard,
+                () -> delegate.cancel(paymentKey));
+    }
+
+    private CompletableFuture<PaymentResponse> execute(
+            PaymentGatewayOperation operation,
+            OperationGuard guard,
+            Supplier<CompletableFuture<PaymentResponse>> gatewayCall
+    ) {
+        long startedAt = System.nanoTime();
+
+        if (!guard.permits.tryAcquire()) {
+            guard.bulkheadFull.increment();
+            guard.recordLatency(OUTCOME_BULKHEAD_FULL, startedAt);
+            log.warn("결제 게이트웨이 동시 요청 한도 초과 - operation: {}", operation);
+            return CompletableFuture.completedFuture(PaymentResponse.failure("결제 게이트웨이 동시 요청 한도 초과"));
+        }
+
+        if (!guard.circuitBreaker.tryAcquirePermission()) {
+            guard.permits.release();
+            guard.notPermitted.increment();
+            guard.recordLatency(OUTCOME_NOT_PERMITTED, startedAt);
+            return CompletableFuture.completedFuture(PaymentResponse.failure("결제 게이트웨이 일시 차단 (서킷 오픈)"));
+        }
+
+        CompletableFuture<Void> callStarted = new CompletableFuture<>();
+        CompletableFuture<PaymentResponse> gatewayFuture = startGatewayCall(gatewayCall, callStarted);
+
+        // 벌크헤드 허가는 실제 게이트웨이 호출이 끝날 때 반환 (타임아웃 이후에도 진행 중인 호출은 동시 요청 수에 포함)
+        gatewayFuture.whenComplete((response, throwable) -> guard.permits.release());
+
+        // 타임아웃은 호출이 시작될 때부터 계산하고,
+        // 후속 작업(결제 결과 저장 등)이 타이머/게이트웨이 스레드에서 실행되지 않도록 asyncExecutor에서 처리
+        return callStarted
+                .thenCompose(ignored -> gatewayFuture.copy().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS))
+                .handleAsync((response, throwable) ->
+                        onComplete(operation, guard, startedAt, gatewayFuture, response, throwable), callbackExecutor);
+    }
+
+    /**
+     * paymentGatewayExecutor에서 게이트웨이 호출 시작
+     * callStarted는 호출 직전에 완료되어 타임아웃 계산 시작 시점이 됩니다.
+     */
+    private CompletableFuture<PaymentResponse> startGatewayCall(
+            Supplier<CompletableFuture<PaymentResponse>> gatewayCall,
+            CompletableFuture<Void> callStarted
+    ) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                        callStarted.complete(null);
+                        return gatewayCall.get();
+                    }, gatewayExecutor)
+                    .thenCompose(Function.identity());
+        } catch (RuntimeException e) {
+            callStarted.complete(null);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private PaymentResponse onComplete(
+            PaymentGatewayOperation operation,
+            OperationGuard guard,
+            long startedAt,
+            CompletableFuture<PaymentResponse> gatewayFuture,
+            PaymentResponse response,
+            Throwable throwable
+    ) {
+        if (throwable != null) {
+            guard.circuitBreaker.onFailure();
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+            if (cause instanceof TimeoutException) {
+                guard.timedOut.increment();
+                guard.recordLatency(OUTCOME_TIMEOUT, startedAt);
+                log.warn("결제 게이트웨이 응답 시간 초과 - operation: {}, timeout: {}", operation, timeout);
+                return PaymentResponse.timeout("결제 게이트웨이 응답 시간 초과", lateResponse(operation, gatewayFuture));
+            }
+
+            guard.failed.increment();
+            guard.recordLatency(OUTCOME_FAILURE, startedAt);
+            log.error("결제 게이트웨이 호출 중 예외 발생 - operation: {}, error: {}", operation, cause.getMessage(), cause);
+            return PaymentResponse.failure("외부 결제 게이트웨이 호출 실패");
+        }
+
+        if (response.success()) {
+            guard.circuitBreaker.onSuccess();
+            guard.successful.increment();
+            guard.recordLatency(OUTCOME_SUCCESS, startedAt);
+            return response;
+        }
+
+        // 거절 응답은 게이트웨이가 정상 동작한 결과이므로 기본적으로 서킷 실패로 집계하지 않음
+        if (countDeclinedAsFailure) {
+            guard.circuitBreaker.onFailure();
+        } else {
+            guard.circuitBreaker.onSuccess();
+        }
+        guard.failed.increment();
+        guard.recordLatency(OUTCOME_FAILURE, startedAt);
+        return response;
+    }
+
+    /**
+     * 타임아웃 이후 도착한 게이트웨이 결과
+     * 보상 처리(DB 저장)가 게이트웨이 스레드에서 실행되지 않도록 asyncExecutor에서 완료합니다.
+     */
+    private CompletableFuture<PaymentResponse> lateResponse(
+            PaymentGatewayOperation operation,
+            CompletableFuture<PaymentResponse> gatewayFuture
+    ) {
+        return gatewayFuture.whenCompleteAsync((response, throwable) -> {
+            if (throwable == null && response.success()) {
+                log.warn("결제 게이트웨이 응답 시간 초과 이후 성공 응답 도착 - operation: {}", operation);
+            }
+        }, callbackExecutor);
+    }
+
+    public PaymentGatewayStats stats(PaymentGatewayOperation operation) {
+        OperationGuard guard = guard(operation);
+        return new PaymentGatewayStats(
+                guard.maxConcurrent,
+                guard.maxConcurrent - guard.permits.availablePermits(),
+                guard.successful.sum(),
+                guard.failed.sum(),
+                guard.timedOut.sum(),
+                guard.notPermitted.sum(),
+                guard.bulkheadFull.sum()
+        );
+    }
+
+    public PaymentGatewayCircuitBreaker.State circuitState(PaymentGatewayOperation operation) {
+        return guard(operation).circuitBreaker.state();
+    }
+
+    public double circuitFailureRate(PaymentGatewayOperation operation) {
+        return guard(operation).circuitBreaker.failureRate();
+    }
+
+    private OperationGuard guard(PaymentGatewayOperation operation) {
+        return operation == PaymentGatewayOperation.PAY ? payGuard : cancelGuard;
+    }
+
+    /**
+     * 결제/취소별 벌크헤드, 서킷 브레이커와 호출 결과 집계
+     */
+    private static final class OperationGuard {
+        private final int maxConcurrent;
+        private final Semaphore permits;
+        private final PaymentGatewayCircuitBreaker circuitBreaker;
+        private final LongAdder successful = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+        private final LongAdder notPermitted = new LongAdder();
+        private final LongAdder bulkheadFull = new LongAdder();
+        private final Map<String, Timer> latency;
+
+        private OperationGuard(
+                PaymentGatewayOperation operation,
+                int maxConcurrent,
+                PaymentGatewayProperties properties,
+                MeterRegistry meterRegistry
+        ) {
+            this.maxConcurrent = maxConcurrent;
+            this.permits = new Semaphore(maxConcurrent);
+            this.circuitBreaker = new PaymentGatewayCircuitBreaker(operation, properties);
+            this.latency = Map.of(
+                    OUTCOME_SUCCESS, latencyTimer(operation, OUTCOME_SUCCESS, meterRegistry),
+                    OUTCOME_FAILURE, latencyTimer(operation, OUTCOME_FAILURE, meterRegistry),
+                    OUTCOME_TIMEOUT, latencyTimer(operation, OUTCOME_TIMEOUT, meterRegistry),
+                    OUTCOME_NOT_PERMITTED, latencyTimer(operation, OUTCOME_NOT_PERMITTED, meterRegistry),
+                    OUTCOME_BULKHEAD_FULL, latencyTimer(operation, OUTCOME_BULKHEAD_FULL, meterRegistry)
+            );
+        }
+
+        private void recordLatency(String outcome, long startedAt) {
+            latency.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        private static Timer latencyTimer(PaymentGatewayOperation operation, String outcome, MeterRegistry meterRegistry) {
+            return Timer.builder("payment.gateway.latency")
+                    .description("결제 게이트웨이 호출 결과별 응답 시간 (차단된 호출 포함)")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package ys.cafe.payment.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ys.cafe.payment.domain.Payment;
 import ys.cafe.payment.domain.PaymentStatus;
 import ys.cafe.payment.domain.vo.PaymentKey;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,14 +33,75 @@ public interface PaymentRepository extends JpaRepository<Payment, String> {
     Optional<Payment> findByPaymentKeyAndStatus(String paymentKey, PaymentStatus status);
 
     /**
-     * 특정 상태의 모든 결제 조회
+     * 생성 일시가 createdAt 이전인 상태별 결제 조회 (결과가 기록되지 않은 PENDING 결제 정산용)
+     * idx_payment_status 인덱스로 해당 상태의 결제만 읽습니다.
+     */
+    List<Payment> findByStatusAndCreatedAtBefore(PaymentStatus status, LocalDateTime createdAt, Limit limit);
+
+    /**
+     * 상태별 결제 건수 (idx_payment_status 인덱스만 사용)
+     */
+    long countByStatus(PaymentStatus status);
+
+    /**
+     * 점유 가능한 결제 키 조회 및 행 잠금
+     * 다른 노드가 잠근 행은 건너뛰므로(SKIP LOCKED) 노드마다 서로 다른 결제를 가져감
+     * 점유하지 않았거나 점유가 만료된 결제 중 재시도 대기 시간이 지난 결제만 대상
+     */
+    @Query(value = """
+            SELECT payment_key
+            FROM payment
+            WHERE status = :status
+              AND (claimed_until IS NULL OR claimed_until < :now)
+              AND (cancel_next_attempt_at IS NULL OR cancel_next_attempt_at <= :now)
+            ORDER BY payment_key
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<String> lockClaimablePaymentKeys(String status, LocalDateTime now, int limit);
+
+    /**
+     * 잠금을 획득한 결제를 노드가 점유 (lockClaimablePaymentKeys와 같은 트랜잭션에서 실행)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Payment p
+            SET p.claimedBy = :nodeId, p.claimedUntil = :claimedUntil
+            WHERE p.paymentKey.value IN :paymentKeys
+            """)
+    int claimPayments(List<String> paymentKeys, String nodeId, LocalDateTime claimedUntil);
+
+    /**
+     * 점유한 결제의 상태 일괄 변경 및 점유 해제
+     * 해당 노드가 점유 중이고 fromStatus 상태인 결제만 변경하여
+     * 점유가 만료되어 다른 노드로 넘어간 결제나 그 사이 상태가 바뀐 결제는 덮어쓰지 않음
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Payment p
+            SET p.status = :toStatus, p.updatedAt = :updatedAt, p.claimedBy = null, p.claimedUntil = null
+            WHERE p.paymentKey.value IN :paymentKeys
+              AND p.claimedBy = :nodeId
+              AND p.status = :fromStatus
+            """)
+    int updateStatusOfClaimedPayments(
+            List<String> paymentKeys,
+            String nodeId,
+            PaymentStatus fromStatus,
+            PaymentStatus toStatus,
+            LocalDateTime updatedAt
+    );
+
+    /**
+     * 노드가 점유 중인 결제 조회 (취소 실패 기록용)
      */
     @Query("""
-            SELECT p.paymentKey
-            FROM Payment p
-            WHERE p.status = :status
+            SELECT p FROM Payment p
+            WHERE p.paymentKey.value IN :paymentKeys
+              AND p.claimedBy = :nodeId
+              AND p.status = :status
             """)
-    List<String> findPaymentKeyByStatus(PaymentStatus status);
+    List<Payment> findClaimedPayments(Collection<String> paymentKeys, String nodeId, PaymentStatus status);
 
     Optional<Payment> findByPaymentKey(PaymentKey paymentKey);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package ys.cafe.payment.service;
+
+import org.springframework.stereotype.Component;
+import ys.cafe.payment.config.PaymentCancelRetryProperties;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 결제 시스템 취소 재시도 정책 (지수 백오프 + 지터)
+ * n번째 실패 후 대기 시간은 min(initialBackoff × 2^(n-1), maxBackoff)의 절반에 0~절반 사이의 무작위 지터를 더한 값입니다.
+ * 같은 시점에 실패한 취소 건들이 다음 실행에서 한꺼번에 게이트웨이로 몰리지 않도록 재시도 시점을 분산합니다.
+ */
+@Component
+public class PaymentCancelRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public PaymentCancelRetryPolicy(PaymentCancelRetryProperties properties) {
+        this.maxAttempts = properties.maxAttempts();
+        this.initialBackoffMillis = properties.initialBackoff().toMillis();
+        this.maxBackoffMillis = properties.maxBackoff().toMillis();
+    }
+
+    /**
+     * 시도 횟수가 최대 시도 횟수에 도달했는지 여부 (도달 시 더 이상 재시도하지 않음)
+     */
+    public boolean isExhausted(int attempts) {
+        return attempts >= maxAttempts;
+    }
+
+    /**
+     * attempts번 실패한 뒤 다음 시도까지의 대기 시간
+     */
+    public Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 62);
+        long exponential = initialBackoffMillis > (maxBackoffMillis >> shift)
+                ? maxBackoffMillis
+                : Math.min(initialBackoffMillis << shift, maxBackoffMillis);
+
+        long half = exponential / 2;
+        long jitter = ThreadLocalRandom.current().nextLong(exponential - half + 1);
+        return Duration.ofMillis(half + jitter);
+    }
+}
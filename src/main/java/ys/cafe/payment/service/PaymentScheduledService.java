@@ -4,41 +4,232 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import ys.cafe.payment.domain.Payment;
-import ys.cafe.payment.domain.PaymentStatus;
-import ys.cafe.payment.repository.PaymentRepository;
+import ys.cafe.payment.config.PaymentCancelProperties;
+import ys.cafe.payment.out.adapter.PaymentClient;
+import ys.cafe.payment.service.dto.response.PaymentResponse;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class PaymentScheduledService {
 
-    private final PaymentRepository paymentRepository;
-
     private final PaymentService paymentService;
 
+    private final PaymentClient paymentClient;
+
+    private final PaymentCancelProperties paymentCancelProperties;
+
+    // 지표 (PaymentCancelMetricsConfig에서 등록)
+    private final AtomicLong cancelBacklog = new AtomicLong();
+    private final LongAdder completedCancels = new LongAdder();
+    private final LongAdder failedCancels = new LongAdder();
+    private final LongAdder deadLetteredCancels = new LongAdder();
+
     /**
      * CANCELED 상태의 결제들을 외부 결제 시스템에 취소 요청
-     * 매 5분마다 실행
+     * 매 1분마다 실행
+     *
+     * 1) CANCELED 결제를 chunk-size 만큼 점유 (SKIP LOCKED, 여러 노드가 서로 다른 결제를 점유)
+     * 2) chunk 내 취소 요청을 max-in-flight 만큼 동시에 외부 결제 시스템에 전송
+     * 3) 취소 성공 건은 chunk 단위로 한 번의 UPDATE로 CANCEL_COMPLETED 처리 및 점유 해제
+     * 4) 실패 건은 시도 횟수와 실패 사유를 기록하고 지수 백오프 + 지터로 정한 다음 시도 일시 이후에만 다시 점유
+     *    (최대 시도 횟수에 도달하면 CANCEL_FAILED로 전환하여 재시도 중단)
+     *    응답 시간 초과 건은 게이트웨이에서 취소가 진행 중일 수 있으므로 점유 만료 전까지 실제 결과를 기다려 반영 (중복 취소 요청 방지)
+     * 5) 남은 CANCELED 결제 건수(backlog)를 지표로 갱신
      */
     @Scheduled(cron = "0 */1 * * * *")
     public void processCanceledPayments() {
         log.info("CANCELED 상태 결제 처리 시작");
 
-        List<String> canceledPaymentKeys = paymentRepository.findPaymentKeyByStatus(PaymentStatus.CANCELED);
+        String nodeId = paymentCancelProperties.nodeId();
+        int chunkSize = paymentCancelProperties.chunkSize();
+        int requestedCount = 0;
+        int completedCount = 0;
+        int failedCount = 0;
+        int deadLetteredCount = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            LocalDateTime claimedUntil = LocalDateTime.now().plus(paymentCancelProperties.leaseDuration());
+            List<String> paymentKeys = paymentService.claimCanceledPayments(nodeId, chunkSize, claimedUntil);
+
+            if (paymentKeys.isEmpty()) {
+                break;
+            }
 
-        if (canceledPaymentKeys.isEmpty()) {
+            CancelChunkResult result = cancelChunk(paymentKeys, claimedUntil);
+            if (!result.canceledPaymentKeys().isEmpty()) {
+                completedCount += paymentService.completeCanceledPayments(nodeId, result.canceledPaymentKeys());
+            }
+            if (!result.failures().isEmpty()) {
+                failedCount += result.failures().size();
+                deadLetteredCount += paymentService.recordCancelFailures(nodeId, result.failures());
+            }
+
+            requestedCount += paymentKeys.size();
+
+            if (paymentKeys.size() < chunkSize) {
+                break;
+            }
+        }
+
+        completedCancels.add(completedCount);
+        failedCancels.add(failedCount - deadLetteredCount);
+        deadLetteredCancels.add(deadLetteredCount);
+        refreshCancelBacklog();
+
+        if (requestedCount == 0) {
             log.info("처리할 CANCELED 상태 결제 없음");
             return;
         }
 
-        log.info("CANCELED 상태 결제 {}건 발견 - 비동기 처리 시작", canceledPaymentKeys.size());
+        log.info("CANCELED 상태 결제 처리 완료 - nodeId: {}, 요청: {}건, 취소 완료: {}건, 실패(재시도 예약): {}건, 재시도 한도 초과: {}건",
+                nodeId, requestedCount, completedCount, failedCount - deadLetteredCount, deadLetteredCount);
+    }
+
+    public long cancelBacklog() {
+        return cancelBacklog.get();
+    }
+
+    public long completedCancels() {
+        return completedCancels.sum();
+    }
+
+    public long failedCancels() {
+        return failedCancels.sum();
+    }
+
+    public long deadLetteredCancels() {
+        return deadLetteredCancels.sum();
+    }
+
+    // 배치 실행마다 한 번만 COUNT (지표 수집 시에는 DB를 조회하지 않음)
+    private void refreshCancelBacklog() {
+        try {
+            cancelBacklog.set(paymentService.countCancelBacklog());
+        } catch (RuntimeException e) {
+            log.warn("결제 취소 backlog 조회 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * chunk 내 결제 취소를 동시 요청 수 상한 내에서 병렬로 요청
+     * 동시 요청 허가는 게이트웨이 호출이 실제로 끝날 때 반환합니다. (응답 시간 초과 이후에도 진행 중인 호출은 동시 요청 수에 포함)
+     *
+     * @return 외부 결제 시스템 취소에 성공한 paymentKey 목록과 실패한 paymentKey별 실패 사유
+     */
+    private CancelChunkResult cancelChunk(List<String> paymentKeys, LocalDateTime claimedUntil) {
+        Semaphore inFlight = new Semaphore(paymentCancelProperties.maxInFlight());
+        Queue<String> canceledPaymentKeys = new ConcurrentLinkedQueue<>();
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(paymentKeys.size());
+
+        for (String paymentKey : paymentKeys) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("결제 취소 배치 중단 - 남은 건은 다음 실행 시 처리");
+                break;
+            }
+            futures.add(requestCancel(paymentKey, claimedUntil, inFlight, canceledPaymentKeys, failures));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
 
-        // 각 결제를 비동기로 처리 (paymentKey만 전달하여 영속성 컨텍스트 문제 회피)
-        for (String paymentKey : canceledPaymentKeys) {
-            paymentService.processSingleCanceledPaymentAsync(paymentKey);
+        return new CancelChunkResult(List.copyOf(canceledPaymentKeys), Map.copyOf(failures));
+    }
+
+    private CompletableFuture<Void> requestCancel(
+            String paymentKey,
+            LocalDateTime claimedUntil,
+            Semaphore inFlight,
+            Queue<String> canceledPaymentKeys,
+            Map<String, String> failures
+    ) {
+        CompletableFuture<PaymentResponse> cancelFuture;
+        try {
+            cancelFuture = paymentClient.cancel(paymentKey);
+        } catch (RuntimeException e) {
+            cancelFuture = CompletableFuture.failedFuture(e);
         }
+
+        return cancelFuture
+                .whenComplete((response, throwable) -> releaseWhenGatewayCallEnds(inFlight, response))
+                .thenCompose(response -> response.timedOut()
+                        ? awaitLateResponse(paymentKey, response, claimedUntil)
+                        : CompletableFuture.completedFuture(response))
+                .handle((response, throwable) -> {
+                    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+                    if (cause instanceof TimeoutException) {
+                        log.warn("외부 결제 시스템 취소 결과를 점유 만료 전까지 받지 못함 - paymentKey: {}", paymentKey);
+                        failures.put(paymentKey, "취소 응답 시간 초과 (점유 만료 전까지 결과 없음)");
+                    } else if (cause != null) {
+                        log.error("외부 결제 시스템 취소 중 예외 발생 - paymentKey: {}, error: {}",
+                                paymentKey, cause.getMessage(), cause);
+                        failures.put(paymentKey, String.valueOf(cause.getMessage()));
+                    } else if (response.success()) {
+                        canceledPaymentKeys.add(paymentKey);
+                    } else {
+                        log.warn("외부 결제 시스템 취소 실패 - paymentKey: {}, reason: {}",
+                                paymentKey, response.message());
+                        failures.put(paymentKey, String.valueOf(response.message()));
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 응답 시간 초과된 호출은 게이트웨이 호출이 끝날 때(lateResponse 완료) 동시 요청 허가를 반환
+     */
+    private void releaseWhenGatewayCallEnds(Semaphore inFlight, PaymentResponse response) {
+        if (response != null && response.timedOut()) {
+            response.lateResponse().whenComplete((lateResponse, throwable) -> inFlight.release());
+            return;
+        }
+        inFlight.release();
+    }
+
+    /**
+     * 응답 시간 초과된 취소의 실제 결과 대기
+     * 게이트웨이에서 취소가 진행 중일 수 있으므로 바로 실패로 기록하여 재시도하면 취소 요청이 중복됩니다.
+     * 점유 만료(claimedUntil) 전까지 늦게 도착한 결과를 기다려 성공이면 CANCEL_COMPLETED, 실패면 재시도로 기록하고,
+     * 그때까지 결과가 없으면 다른 노드가 다시 점유하기 전에 실패(TimeoutException)로 기록합니다.
+     */
+    private CompletableFuture<PaymentResponse> awaitLateResponse(
+            String paymentKey,
+            PaymentResponse timedOut,
+            LocalDateTime claimedUntil
+    ) {
+        log.warn("외부 결제 시스템 취소 응답 시간 초과 - 실제 결과 대기: paymentKey: {}", paymentKey);
+
+        long waitMillis = Math.max(0, Duration.between(LocalDateTime.now(), claimedUntil).toMillis());
+        return timedOut.lateResponse()
+                .copy()
+                .orTimeout(waitMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((lateResponse, throwable) -> {
+                    if (throwable == null && lateResponse.success()) {
+                        log.warn("외부 결제 시스템 취소 응답 시간 초과 이후 성공 응답 도착 - paymentKey: {}", paymentKey);
+                    }
+                });
+    }
+
+    private record CancelChunkResult(List<String> canceledPaymentKeys, Map<String, String> failures) {
     }
 }
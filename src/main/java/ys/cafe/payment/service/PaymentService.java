@@ -1,15 +1,19 @@
 package ys.cafe.payment.service;
 
-import org.springframework.scheduling.annotation.Async;
 import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
 import ys.cafe.payment.service.dto.response.PaymentListResponse;
 import ys.cafe.payment.service.dto.response.PaymentResponse;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public interface PaymentService {
-    PaymentResponse processPayment(
+    CompletableFuture<PaymentResponse> processPaymentAsync(
             Long orderId,
             Long memberId,
-            String won
+            long won
     );
 
     PaymentInfoResponse getPaymentInfo(String paymentKey);
@@ -18,5 +22,15 @@ public interface PaymentService {
 
     PaymentInfoResponse cancelPayment(Long orderId);
 
-    void processSingleCanceledPaymentAsync(String paymentKey);
+    boolean settleStalePayment(Long orderId);
+
+    int cancelStalePendingPayments(LocalDateTime createdBefore, int limit);
+
+    List<String> claimCanceledPayments(String nodeId, int limit, LocalDateTime claimedUntil);
+
+    int completeCanceledPayments(String nodeId, List<String> paymentKeys);
+
+    int recordCancelFailures(String nodeId, Map<String, String> failures);
+
+    long countCancelBacklog();
 }
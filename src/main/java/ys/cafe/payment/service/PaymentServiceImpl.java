@@ -2,26 +2,33 @@ package ys.cafe.payment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import ys.cafe.common.exception.CommonErrorCode;
 import ys.cafe.common.exception.CommonException;
-import ys.cafe.payment.domain.vo.Won;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.common.vo.Won;
 import ys.cafe.payment.out.adapter.PaymentClient;
 import ys.cafe.payment.domain.vo.PaymentKey;
 import ys.cafe.payment.out.port.MemberPort;
 import ys.cafe.payment.domain.Payment;
+import ys.cafe.payment.domain.PaymentStatus;
+import ys.cafe.payment.event.PaymentStatusChangedEvent;
 import ys.cafe.payment.repository.PaymentRepository;
 import ys.cafe.payment.service.dto.MemberDTO;
 import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
 import ys.cafe.payment.service.dto.response.PaymentListResponse;
 import ys.cafe.payment.service.dto.response.PaymentResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
-import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
 @Slf4j
 @Component
@@ -31,13 +38,26 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentRepository paymentRepository;
     private final MemberPort memberPort;
     private final PaymentClient paymentClient;
+    private final PaymentCancelRetryPolicy cancelRetryPolicy;
+    private final Outbox outbox;
+    private final PaymentTransactionHelper paymentTransactionHelper;
 
-    @Transactional(propagation = REQUIRES_NEW)
+    /**
+     * 비동기 결제 처리
+     * 외부 결제 게이트웨이 호출(100~3000ms) 동안 DB 커넥션과 호출 스레드를 점유하지 않도록 트랜잭션 없이 실행하고,
+     * 게이트웨이 응답이 도착하면 asyncExecutor 스레드에서 결제 결과를 저장하고 future를 완료합니다.
+     * 게이트웨이 예외는 결제 실패로 기록합니다.
+     * 응답 시간 초과로 실패 기록한 결제가 이후 게이트웨이에서 성공하면 결제를 취소 등록하여 취소 배치가 환불합니다.
+     *
+     * 게이트웨이 호출 전에 결제를 PENDING으로 저장하므로, 결과 저장에 실패하거나 노드가 중단되어도 결제 기록이 남고
+     * 결제 대기 정산(settleStalePayment, cancelStalePendingPayments)에서 취소 등록하여 환불합니다.
+     */
+    @Transactional(propagation = NOT_SUPPORTED)
     @Override
-    public PaymentResponse processPayment(
+    public CompletableFuture<PaymentResponse> processPaymentAsync(
             Long orderId,
             Long memberId,
-            String won
+            long won
     ) {
         MemberDTO member = memberPort.getMember(memberId);
 
@@ -47,23 +67,63 @@ public class PaymentServiceImpl implements PaymentService {
                 memberId,
                 Won.of(won)
         );
+        paymentRepository.save(payment);
 
-        PaymentResponse response = paymentClient.pay(
-                member.name(),
-                member.birthDate(),
-                member.phoneNumber(),
-                won
-        );
+        return paymentClient.payAsync(
+                        member.name(),
+                        member.birthDate(),
+                        member.phoneNumber(),
+                        String.valueOf(won)
+                )
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        log.error("결제 게이트웨이 호출 중 예외 발생 - orderId: {}, error: {}",
+                                orderId, throwable.getMessage(), throwable);
+                        return PaymentResponse.failure("외부 결제 게이트웨이 호출 실패");
+                    }
+                    return response;
+                })
+                .thenApply(response -> {
+                    recordPaymentResult(payment, response);
+                    if (response.timedOut()) {
+                        response.lateResponse().whenComplete((lateResponse, throwable) ->
+                                compensateLateSuccess(payment, lateResponse, throwable));
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * 타임아웃 이후 도착한 게이트웨이 결과 처리
+     * 결제 실패(FAILED)가 저장된 뒤에 실행되며, 늦게 성공한 결제만 취소 등록합니다.
+     */
+    private void compensateLateSuccess(Payment payment, PaymentResponse lateResponse, Throwable throwable) {
+        if (throwable != null || !lateResponse.success()) {
+            return;
+        }
 
+        try {
+            paymentTransactionHelper.cancelLateSucceededPayment(payment.getPaymentKey());
+        } catch (RuntimeException e) {
+            log.error("늦게 성공한 결제 취소 등록 실패 (수동 환불 필요) - paymentKey: {}, orderId: {}, error: {}",
+                    payment.getPaymentKey(), payment.getOrderId(), e.getMessage(), e);
+        }
+    }
+
+    private void recordPaymentResult(Payment payment, PaymentResponse response) {
         if(response.success()) {
             payment.markAsSuccess();
         } else {
             payment.markAsFailed();
         }
 
-        paymentRepository.save(payment);
-
-        return response;
+        try {
+            paymentRepository.save(payment);
+        } catch (RuntimeException e) {
+            log.error("결제 결과 저장 실패 (PENDING 결제는 정산 배치가 취소 등록) - paymentKey: {}, orderId: {}, status: {}, error: {}",
+                    payment.getPaymentKey(), payment.getOrderId(), payment.getStatus(), e.getMessage(), e);
+            throw e;
+        }
     }
 
     /**
@@ -123,6 +183,11 @@ public class PaymentServiceImpl implements PaymentService {
             throw new CommonException(CommonErrorCode.ALREADY_EXISTS, "이미 취소 완료된 결제입니다. orderId: " + orderId);
         }
 
+        // 외부 결제 시스템 취소 재시도 한도를 초과한 경우 (수동 처리 대상)
+        if (payment.isCancelFailed()) {
+            throw new CommonException(CommonErrorCode.ALREADY_EXISTS, "취소 재시도 한도를 초과한 결제입니다. orderId: " + orderId);
+        }
+
         // 결제 실패한 경우 취소 불가
         if (payment.isFailed()) {
             throw new CommonException(CommonErrorCode.BAD_REQUEST, "결제 실패한 건은 취소할 수 없습니다. orderId: " + orderId);
@@ -135,6 +200,7 @@ public class PaymentServiceImpl implements PaymentService {
 
         payment.markAsCanceled();
         paymentRepository.save(payment);
+        outbox.append(PaymentStatusChangedEvent.from(payment));
 
         log.info("결제 취소 등록 완료 - orderId: {}, paymentKey: {}", orderId, payment.getPaymentKey());
         return PaymentInfoResponse.of(
@@ -147,47 +213,150 @@ public class PaymentServiceImpl implements PaymentService {
 
 
     /**
-     * 단일 결제를 비동기로 외부 시스템에 취소 요청
-     * AsyncConfig에 정의된 asyncExecutor 스레드풀 사용
-     * 트랜잭션 처리는 PaymentTransactionHelper에 위임
+     * 결제 결과가 주문에 반영되지 않은 주문의 결제 정산 (결제 대기 주문 정산 배치)
+     * 결과가 기록되지 않은 PENDING 결제는 게이트웨이에서 승인되었을 수 있으므로 취소 등록하여 취소 배치가 환불합니다.
      *
-     * @param paymentKey 결제 키
+     * @return 결제 성공 여부 (SUCCESS인 경우에만 true, 결제 기록이 없으면 게이트웨이 호출 전 실패로 false)
      */
     @Override
-    @Transactional(propagation = REQUIRES_NEW)
-    public void processSingleCanceledPaymentAsync(String paymentKey) {
-        try {
-            Payment payment = paymentRepository.findByPaymentKey(PaymentKey.of(paymentKey))
-                    .orElseThrow(() -> new CommonException(CommonErrorCode.NOT_FOUND, "결제 정보를 찾을 수 없습니다. paymentKey: " + paymentKey));
-
-            // CANCELED 상태가 아니면 처리하지 않음
-            if (!payment.isCanceled()) {
-                log.warn("CANCELED 상태가 아닌 결제 - paymentKey: {}, currentStatus: {}",
-                        paymentKey, payment.getStatus());
-                return;
-            }
+    @Transactional
+    public boolean settleStalePayment(Long orderId) {
+        Optional<Payment> found = paymentRepository.findByOrderId(orderId);
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        Payment payment = found.get();
+        if (payment.isPending()) {
+            registerPendingCancel(payment);
+        }
+        return payment.isSuccess();
+    }
+
+    /**
+     * 생성 후 createdBefore까지 결과가 기록되지 않은 PENDING 결제 취소 등록
+     * 결과 저장 실패로 주문은 결제 실패(PAYMENT_FAILED) 처리되었지만 게이트웨이에서는 승인되었을 수 있는 결제를 환불합니다.
+     *
+     * @return 취소 등록한 결제 건수
+     */
+    @Override
+    @Transactional
+    public int cancelStalePendingPayments(LocalDateTime createdBefore, int limit) {
+        List<Payment> payments = paymentRepository.findByStatusAndCreatedAtBefore(
+                PaymentStatus.PENDING, createdBefore, Limit.of(limit));
+
+        payments.forEach(this::registerPendingCancel);
+        return payments.size();
+    }
+
+    private void registerPendingCancel(Payment payment) {
+        payment.markAsCanceled();
+        outbox.append(PaymentStatusChangedEvent.from(payment));
+        log.warn("결과가 기록되지 않은 결제 취소 등록 - paymentKey: {}, orderId: {}",
+                payment.getPaymentKey(), payment.getOrderId());
+    }
 
-            log.info("외부 결제 시스템 취소 요청 시작 - paymentKey: {}, orderId: {}",
-                    paymentKey, payment.getOrderId());
+    /**
+     * CANCELED 상태 결제를 노드가 점유
+     * 행 잠금(SKIP LOCKED)과 점유 정보 갱신을 한 트랜잭션에서 처리하여
+     * 여러 노드가 동시에 실행해도 서로 겹치지 않는 결제를 가져갑니다.
+     *
+     * @param nodeId       점유 노드 ID
+     * @param limit        최대 점유 건수
+     * @param claimedUntil 점유 만료 일시 (만료 후 다른 노드가 다시 점유 가능)
+     * @return 점유한 결제 키 목록
+     */
+    @Override
+    @Transactional
+    public List<String> claimCanceledPayments(String nodeId, int limit, LocalDateTime claimedUntil) {
+        List<String> paymentKeys = paymentRepository.lockClaimablePaymentKeys(
+                PaymentStatus.CANCELED.name(),
+                LocalDateTime.now(),
+                limit
+        );
 
-            // 외부 결제 시스템에 취소 요청
-            CompletableFuture<PaymentResponse> cancelResponseFuture = paymentClient.cancel(paymentKey);
-            PaymentResponse cancelResponse = cancelResponseFuture.get();
+        if (!paymentKeys.isEmpty()) {
+            paymentRepository.claimPayments(paymentKeys, nodeId, claimedUntil);
+        }
 
-            if (cancelResponse.success()) {
-                // 취소 완료 상태로 변경
-                payment.markAsCancelCompleted();
-                paymentRepository.save(payment);
+        return paymentKeys;
+    }
 
-                log.info("외부 결제 시스템 취소 완료 - paymentKey: {}, orderId: {}",
-                        paymentKey, payment.getOrderId());
+    /**
+     * 외부 결제 시스템 취소가 완료된 결제들을 CANCEL_COMPLETED로 일괄 변경
+     * chunk 단위로 한 번의 UPDATE 쿼리로 처리하며, 해당 노드가 점유 중인 결제만 변경
+     * 취소 완료 이벤트에 주문 ID를 담기 위해 UPDATE 전에 점유 중인 결제를 한 번에 조회합니다.
+     *
+     * @param nodeId      점유 노드 ID
+     * @param paymentKeys 취소 완료된 결제 키 목록
+     * @return 변경된 결제 건수
+     */
+    @Override
+    @Transactional
+    public int completeCanceledPayments(String nodeId, List<String> paymentKeys) {
+        List<Payment> payments = paymentRepository.findClaimedPayments(paymentKeys, nodeId, PaymentStatus.CANCELED);
+
+        int updatedCount = paymentRepository.updateStatusOfClaimedPayments(
+                paymentKeys,
+                nodeId,
+                PaymentStatus.CANCELED,
+                PaymentStatus.CANCEL_COMPLETED,
+                LocalDateTime.now()
+        );
+
+        if (updatedCount != paymentKeys.size()) {
+            log.warn("취소 완료 처리 건수 불일치 - nodeId: {}, 요청: {}건, 변경: {}건",
+                    nodeId, paymentKeys.size(), updatedCount);
+        }
+
+        for (Payment payment : payments) {
+            outbox.append(PaymentStatusChangedEvent.of(payment, PaymentStatus.CANCEL_COMPLETED));
+        }
+
+        return updatedCount;
+    }
+
+    /**
+     * 외부 결제 시스템 취소에 실패한 결제들의 재시도 상태 기록
+     * 시도 횟수를 늘리고 지수 백오프 + 지터로 다음 시도 일시를 정한 뒤 점유를 해제하며,
+     * 최대 시도 횟수에 도달한 결제는 CANCEL_FAILED(dead letter)로 전환하여 더 이상 재시도하지 않습니다.
+     * 해당 노드가 점유 중인 CANCELED 결제만 변경합니다.
+     *
+     * @param nodeId   점유 노드 ID
+     * @param failures 취소 실패한 결제 키별 실패 사유
+     * @return CANCEL_FAILED로 전환된 결제 건수
+     */
+    @Override
+    @Transactional
+    public int recordCancelFailures(String nodeId, Map<String, String> failures) {
+        List<Payment> payments = paymentRepository.findClaimedPayments(failures.keySet(), nodeId, PaymentStatus.CANCELED);
+        LocalDateTime now = LocalDateTime.now();
+        int deadLetteredCount = 0;
+
+        for (Payment payment : payments) {
+            String error = failures.get(payment.getPaymentKey());
+            int attempts = payment.getCancelAttempts() + 1;
+
+            if (cancelRetryPolicy.isExhausted(attempts)) {
+                payment.markAsCancelFailed(error);
+                outbox.append(PaymentStatusChangedEvent.from(payment));
+                deadLetteredCount++;
+                log.error("결제 취소 재시도 한도 초과 - paymentKey: {}, orderId: {}, 시도: {}회, 마지막 오류: {}",
+                        payment.getPaymentKey(), payment.getOrderId(), attempts, error);
             } else {
-                log.error("외부 결제 시스템 취소 실패 - paymentKey: {}, orderId: {}, reason: {}",
-                        paymentKey, payment.getOrderId(), cancelResponse.message());
+                payment.scheduleCancelRetry(error, now.plus(cancelRetryPolicy.backoff(attempts)));
             }
-        } catch (Exception e) {
-            log.error("외부 결제 시스템 취소 중 예외 발생 - paymentKey: {}, error: {}",
-                    paymentKey, e.getMessage(), e);
         }
+
+        return deadLetteredCount;
+    }
+
+    /**
+     * 외부 결제 시스템 취소를 기다리는 결제 건수 (CANCELED, 재시도 대기 중인 결제 포함)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countCancelBacklog() {
+        return paymentRepository.countByStatus(PaymentStatus.CANCELED);
     }
 }
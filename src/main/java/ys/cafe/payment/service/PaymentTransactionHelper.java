@@ -0,0 +1,47 @@
+package ys.cafe.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.payment.domain.Payment;
+import ys.cafe.payment.domain.vo.PaymentKey;
+import ys.cafe.payment.event.PaymentStatusChangedEvent;
+import ys.cafe.payment.repository.PaymentRepository;
+
+/**
+ * 결제 처리 보상 트랜잭션 헬퍼
+ *
+ * PaymentServiceImpl의 비동기 결제 처리는 트랜잭션 없이 실행되므로,
+ * 게이트웨이 응답 이후 상태 변경과 아웃박스 기록을 함께 커밋해야 하는 작업은 이 클래스의 트랜잭션에서 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentTransactionHelper {
+
+    private final PaymentRepository paymentRepository;
+    private final Outbox outbox;
+
+    /**
+     * 응답 시간 초과로 실패 처리한 결제가 게이트웨이에서 늦게 성공한 경우 취소 등록
+     * 주문은 이미 결제 실패(PAYMENT_FAILED)로 처리되었으므로, 결제를 CANCELED로 바꿔 취소 배치가 환불하도록 합니다.
+     * 결제 실패(FAILED) 상태가 아니면 이미 다른 경로로 처리된 것으로 보고 변경하지 않습니다.
+     */
+    @Transactional
+    public void cancelLateSucceededPayment(String paymentKey) {
+        Payment payment = paymentRepository.findByPaymentKey(PaymentKey.of(paymentKey))
+                .orElseThrow(() -> new IllegalStateException("결제 정보를 찾을 수 없습니다. paymentKey: " + paymentKey));
+
+        if (!payment.isFailed()) {
+            log.warn("늦게 성공한 결제의 취소 등록 생략 - paymentKey: {}, status: {}", paymentKey, payment.getStatus());
+            return;
+        }
+
+        payment.markAsCanceled();
+        outbox.append(PaymentStatusChangedEvent.from(payment));
+
+        log.warn("응답 시간 초과 이후 성공한 결제 취소 등록 - paymentKey: {}, orderId: {}", paymentKey, payment.getOrderId());
+    }
+}
@@ -1,12 +1,33 @@
 package ys.cafe.payment.service.dto.response;
 
-public record PaymentResponse(boolean success, String message) {
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제 게이트웨이 응답
+ *
+ * @param success      성공 여부
+ * @param message      응답 메시지
+ * @param lateResponse 응답 시간 초과로 실패 응답한 경우, 아직 진행 중인 게이트웨이 호출의 실제 결과 (그 외에는 null)
+ */
+public record PaymentResponse(boolean success, String message, CompletableFuture<PaymentResponse> lateResponse) {
 
     public static PaymentResponse success(String paymentKey) {
-        return new PaymentResponse(true, "결제 성공");
+        return new PaymentResponse(true, "결제 성공", null);
     }
 
     public static PaymentResponse failure(String message) {
-        return new PaymentResponse(false, message);
+        return new PaymentResponse(false, message, null);
+    }
+
+    /**
+     * 응답 시간 초과 실패
+     * 게이트웨이 호출은 타임아웃 이후에도 계속 진행되므로, 늦게 도착한 결과로 보상 처리(결제 취소)할 수 있도록 함께 전달합니다.
+     */
+    public static PaymentResponse timeout(String message, CompletableFuture<PaymentResponse> lateResponse) {
+        return new PaymentResponse(false, message, lateResponse);
+    }
+
+    public boolean timedOut() {
+        return lateResponse != null;
     }
 }
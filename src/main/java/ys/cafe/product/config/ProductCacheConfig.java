@@ -0,0 +1,21 @@
+package ys.cafe.product.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ys.cafe.common.cache.CacheMetrics;
+import ys.cafe.product.service.ProductCatalogCache;
+
+/**
+ * 상품 카탈로그 캐시 지표 등록
+ *
+ * cache.gets / cache.hit.ratio / cache.removals / cache.size{cache=product.catalog}: 적중률과 제거 사유 (CacheMetrics)
+ */
+@Configuration
+public class ProductCacheConfig {
+
+    @Bean
+    public MeterBinder productCatalogCacheMetrics(ProductCatalogCache productCatalogCache) {
+        return registry -> CacheMetrics.bind(registry, "product.catalog", productCatalogCache, ProductCatalogCache::stats);
+    }
+}
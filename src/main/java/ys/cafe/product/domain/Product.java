@@ -1,7 +1,7 @@
 package ys.cafe.product.domain;
 
 import jakarta.persistence.*;
-import ys.cafe.product.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,7 +27,7 @@ public class Product {
     )
     private List<ImageUrl> images = new ArrayList<>();
 
-    @Embedded
+    @Column(name = "price", nullable = false)
     private Won price;
 
     // 판매 가능 상품 여부
@@ -4,6 +4,7 @@ package ys.cafe.product.repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import ys.cafe.product.domain.Product;
+import ys.cafe.product.service.dto.ProductCatalogItem;
 
 import java.util.List;
 
@@ -15,4 +16,16 @@ public interface ProductRepository extends CrudRepository<Product, Long> {
                 WHERE p.productId in :productIds
             """)
     List<Product> findAllByProductIds(List<Long> productIds);
+
+    /**
+     * 주문용 카탈로그 정보 조회 (이미지 컬렉션 없이 필요한 컬럼만 조회)
+     */
+    @Query("""
+                SELECT new ys.cafe.product.service.dto.ProductCatalogItem(
+                    p.productId, p.name.value, p.price, p.status
+                )
+                FROM Product p
+                WHERE p.productId in :productIds
+            """)
+    List<ProductCatalogItem> findCatalogItemsByProductIds(List<Long> productIds);
 }
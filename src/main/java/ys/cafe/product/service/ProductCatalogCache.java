@@ -0,0 +1,62 @@
+package ys.cafe.product.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ys.cafe.common.cache.BoundedCache;
+import ys.cafe.common.cache.CacheInvalidation;
+import ys.cafe.common.cache.CacheStats;
+import ys.cafe.product.service.dto.ProductCatalogItem;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 주문용 상품 카탈로그 캐시
+ * 상품 ID별로 주문에 필요한 정보(ID, 이름, 가격, 상태)만 보관하며,
+ * 상태를 함께 보관하므로 판매 불가 상품도 캐시에서 판별합니다.
+ * 상품 수정/상태 변경/삭제 시 커밋 이후 무효화됩니다.
+ * DB 조회 중 무효화가 있었으면 조회한 값을 적재하지 않아, 변경 커밋 전에 읽은 가격/상태가 남지 않습니다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private final BoundedCache<Long, ProductCatalogItem> cache;
+
+    public ProductCatalogCache(@Value("${product.catalog-cache.max-size:1000}") int maxSize) {
+        this.cache = new BoundedCache<>(maxSize);
+    }
+
+    public Optional<ProductCatalogItem> get(Long productId) {
+        return cache.get(productId);
+    }
+
+    /**
+     * 적재 기준 세대 (DB 조회 전에 읽어 putAll에 전달)
+     */
+    public long loadEpoch() {
+        return cache.invalidationEpoch();
+    }
+
+    /**
+     * DB에서 조회한 상품 적재
+     * 조회 이후(loadEpoch 이후) 무효화가 있었으면 적재하지 않습니다.
+     */
+    public void putAll(Collection<ProductCatalogItem> items, long loadEpoch) {
+        for (ProductCatalogItem item : items) {
+            if (!cache.putIfNotInvalidated(item.productId(), item, loadEpoch)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 상품 무효화 (즉시 + 커밋 이후)
+     */
+    public void evictAfterCommit(Long productId) {
+        CacheInvalidation.nowAndAfterCommit(() -> cache.invalidate(productId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
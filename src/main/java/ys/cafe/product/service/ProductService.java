@@ -2,19 +2,25 @@ package ys.cafe.product.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ys.cafe.common.exception.CommonErrorCode;
 import ys.cafe.common.exception.CommonException;
-import ys.cafe.product.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 import ys.cafe.product.domain.*;
 import ys.cafe.product.service.dto.CreateProductRequest;
+import ys.cafe.product.service.dto.ProductCatalogItem;
 import ys.cafe.product.service.dto.ProductResponse;
 import ys.cafe.product.service.dto.UpdateProductRequest;
 import ys.cafe.product.exception.ProductDomainException;
 import ys.cafe.product.exception.errorcode.ProductDomainErrorCode;
 import ys.cafe.product.repository.ProductRepository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -24,6 +30,7 @@ import java.util.stream.StreamSupport;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
 
     @Transactional
     public ProductResponse createProduct(CreateProductRequest request) {
@@ -72,6 +79,51 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 주문용 판매 가능 상품 조회 (카탈로그 캐시 사용)
+     * 캐시에 없는 상품만 DB에서 조회하며, 모두 캐시에 있으면 DB 커넥션을 사용하지 않습니다.
+     * 조회 중 상품이 변경(무효화)되면 조회한 값은 응답에만 사용하고 캐시에는 적재하지 않습니다.
+     * 존재하지 않는 상품은 결과에서 제외되고, 판매 불가 상품이 포함되면 예외가 발생합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductCatalogItem> getAvailableCatalogItemsByIds(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> distinctProductIds = productIds.stream().distinct().toList();
+        Map<Long, ProductCatalogItem> catalogItems = new HashMap<>();
+        List<Long> missedProductIds = new ArrayList<>();
+
+        for (Long productId : distinctProductIds) {
+            productCatalogCache.get(productId).ifPresentOrElse(
+                    item -> catalogItems.put(productId, item),
+                    () -> missedProductIds.add(productId)
+            );
+        }
+
+        if (!missedProductIds.isEmpty()) {
+            long loadEpoch = productCatalogCache.loadEpoch();
+            List<ProductCatalogItem> loadedItems = productRepository.findCatalogItemsByProductIds(missedProductIds);
+            productCatalogCache.putAll(loadedItems, loadEpoch);
+            loadedItems.forEach(item -> catalogItems.put(item.productId(), item));
+        }
+
+        List<Long> unavailableProductIds = catalogItems.values().stream()
+                .filter(item -> !item.isAvailable())
+                .map(ProductCatalogItem::productId)
+                .toList();
+
+        if (!unavailableProductIds.isEmpty()) {
+            throw new ProductDomainException(ProductDomainErrorCode.PRODUCT_NOT_AVAILABLE, "판매할 수 없는 상품이 포함되어 있습니다: " + unavailableProductIds);
+        }
+
+        return distinctProductIds.stream()
+                .map(catalogItems::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Transactional
     public ProductResponse updateProduct(Long productId, UpdateProductRequest request) {
         Product product = productRepository.findById(productId)
@@ -85,6 +137,7 @@ public class ProductService {
                         .collect(Collectors.toList()),
                 Won.of(request.price())
         );
+        productCatalogCache.evictAfterCommit(productId);
 
         return toProductResponse(product);
     }
@@ -95,6 +148,7 @@ public class ProductService {
             throw new CommonException(CommonErrorCode.NOT_FOUND, "상품을 찾을 수 없습니다. ID: " + productId);
         }
         productRepository.deleteById(productId);
+        productCatalogCache.evictAfterCommit(productId);
     }
 
     @Transactional
@@ -103,6 +157,7 @@ public class ProductService {
                 .orElseThrow(() -> new CommonException(CommonErrorCode.NOT_FOUND, "상품을 찾을 수 없습니다. ID: " + productId));
 
         product.changeStatus(ProductStatus.fromString(status));
+        productCatalogCache.evictAfterCommit(productId);
 
         return toProductResponse(product);
     }
@@ -0,0 +1,27 @@
+package ys.cafe.product.service.dto;
+
+import ys.cafe.common.vo.Won;
+import ys.cafe.product.domain.ProductStatus;
+
+/**
+ * 주문 처리에 필요한 최소 상품 정보 (카탈로그 캐시 항목)
+ * 가격은 원 단위 long으로 보관하여 주문 모듈에 그대로 전달합니다.
+ */
+public record ProductCatalogItem(
+        Long productId,
+        String name,
+        long price,
+        ProductStatus status
+) {
+
+    /**
+     * JPQL 생성자 프로젝션용 생성자
+     */
+    public ProductCatalogItem(Long productId, String name, Won price, ProductStatus status) {
+        this(productId, name, price.getAmount(), status);
+    }
+
+    public boolean isAvailable() {
+        return status == ProductStatus.AVAILABLE;
+    }
+}
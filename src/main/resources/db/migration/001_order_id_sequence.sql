@@ -0,0 +1,50 @@
+-- 주문/주문 항목 ID 할당 방식 변경 마이그레이션 (AUTO_INCREMENT → id_sequence, MySQL 8)
+-- schema.sql로 새로 생성한 DB에는 실행하지 않습니다. (이미 id_sequence로 생성됨)
+--
+-- 배포 순서 (README "기존 DB 마이그레이션" 참고)
+-- 1) 이전 버전 애플리케이션을 모두 중지 (AUTO_INCREMENT에 의존하는 INSERT가 남지 않도록)
+-- 2) 이 스크립트 실행: mysql -u root -p cafe-order < src/main/resources/db/migration/001_order_id_sequence.sql
+-- 3) 새 버전 애플리케이션 시작
+-- 실행 도중 오류가 발생하면 mysql 클라이언트가 중단되므로, 원인을 해결한 뒤 다시 실행합니다. (재실행 가능)
+
+use `cafe-order`;
+
+-- 1. ID 할당 테이블
+CREATE TABLE IF NOT EXISTS id_sequence
+(
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY COMMENT '시퀀스 이름 (테이블명)',
+    next_val      BIGINT      NOT NULL COMMENT '다음 할당 블록의 마지막 값 (pooled optimizer)'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='ID 할당';
+
+-- 2. AUTO_INCREMENT 제거, 주문 항목의 주문 ID 필수화 (INSERT 시 order_id를 함께 저장)
+-- order_line.order_id가 NULL인 행이 있으면 NOT NULL 변경이 실패하므로 먼저 확인합니다.
+--   SELECT COUNT(*) FROM order_line WHERE order_id IS NULL;
+-- orders.order_id는 order_line 외래 키가 참조하므로 변경하는 동안만 외래 키 검사를 끕니다. (컬럼 타입은 그대로)
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE `orders`
+    MODIFY order_id BIGINT NOT NULL COMMENT '주문 ID (id_sequence 할당)';
+ALTER TABLE order_line
+    MODIFY order_line_id BIGINT NOT NULL COMMENT '주문 항목 ID (id_sequence 할당)',
+    MODIFY order_id BIGINT NOT NULL COMMENT '주문 ID';
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- 3. 운영 데이터의 최대 ID 이후부터 할당되도록 초기화
+-- Hibernate pooled optimizer는 next_val을 블록의 마지막 값으로 보고 (next_val - 49) ~ next_val을 할당하므로
+-- 최대 ID + allocationSize(50)로 초기화 (최대 ID + 1이면 이미 사용 중인 ID가 할당되어 PK 중복 발생)
+-- 이미 값이 있으면 더 큰 값으로만 갱신하여 재실행해도 할당 범위가 뒤로 돌아가지 않습니다.
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT seed.sequence_name, seed.next_val
+FROM (SELECT 'orders' AS sequence_name, COALESCE(MAX(order_id), 0) + 50 AS next_val FROM `orders`) seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, seed.next_val);
+
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT seed.sequence_name, seed.next_val
+FROM (SELECT 'order_line' AS sequence_name, COALESCE(MAX(order_line_id), 0) + 50 AS next_val FROM order_line) seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, seed.next_val);
+
+-- 4. 확인 (next_val > 각 테이블의 MAX(id))
+SELECT s.sequence_name, s.next_val,
+       (SELECT COALESCE(MAX(order_id), 0) FROM `orders`)          AS max_order_id,
+       (SELECT COALESCE(MAX(order_line_id), 0) FROM order_line)   AS max_order_line_id
+FROM id_sequence s
+WHERE s.sequence_name IN ('orders', 'order_line');
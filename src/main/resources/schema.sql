@@ -27,7 +27,7 @@ CREATE TABLE product
     name        VARCHAR(100)   NOT NULL COMMENT '상품명',
     description TEXT COMMENT '상품 설명',
     price       DECIMAL(19, 0) NOT NULL COMMENT '가격',
-    currency    VARCHAR(10) COMMENT '통화 (KRW)',
+    currency    VARCHAR(10) DEFAULT 'KRW' COMMENT '통화 (KRW)',
     status      VARCHAR(50)    NOT NULL COMMENT '상품 상태 (AVAILABLE, SOLD_OUT, HIDDEN, DISCONTINUED)',
     created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
@@ -47,34 +47,75 @@ CREATE TABLE product_images
 -- Order 테이블
 CREATE TABLE `orders`
 (
-    order_id        BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '주문 ID',
+    order_id        BIGINT         NOT NULL PRIMARY KEY COMMENT '주문 ID (id_sequence 할당)',
     member_id       BIGINT         NOT NULL COMMENT '회원 ID',
     order_status    VARCHAR(50)    NOT NULL COMMENT '주문 상태 (PAYMENT_WAITING, PREPARING, PAYMENT_FAILED, SERVE, COMPLETED, CANCELED)',
     order_date_time DATETIME       NOT NULL COMMENT '주문 일시',
     total_price     DECIMAL(19, 0) NOT NULL COMMENT '총 가격',
-    currency        VARCHAR(10) COMMENT '통화 (KRW)',
+    currency        VARCHAR(10) DEFAULT 'KRW' COMMENT '통화 (KRW)',
     created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     updated_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
-    INDEX           idx_member_id (member_id),
+    INDEX           idx_member_order_date_time (member_id, order_date_time, order_id),
     INDEX           idx_order_status (order_status),
-    INDEX           idx_order_date_time (order_date_time)
+    INDEX           idx_order_date_time (order_date_time, order_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='주문';
 
 -- OrderLine 테이블
 CREATE TABLE order_line
 (
-    order_line_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '주문 항목 ID',
-    order_id      BIGINT COMMENT '주문 ID',
+    order_line_id BIGINT         NOT NULL PRIMARY KEY COMMENT '주문 항목 ID (id_sequence 할당)',
+    order_id      BIGINT         NOT NULL COMMENT '주문 ID',
     product_id    BIGINT         NOT NULL COMMENT '상품 ID',
     product_name  VARCHAR(100)   NOT NULL COMMENT '상품명',
     quantity      INT            NOT NULL COMMENT '수량',
     price         DECIMAL(19, 0) NOT NULL COMMENT '단가',
-    currency      VARCHAR(10) COMMENT '통화 (KRW)',
+    currency      VARCHAR(10) DEFAULT 'KRW' COMMENT '통화 (KRW)',
     FOREIGN KEY (order_id) REFERENCES `orders` (order_id) ON DELETE CASCADE,
     INDEX         idx_order_id (order_id),
     INDEX         idx_product_id (product_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='주문 항목';
 
+-- 주문 멱등성 키 테이블 (Idempotency-Key 재시도 시 기존 주문 반환, 주문과 같은 트랜잭션에서 저장)
+CREATE TABLE order_idempotency
+(
+    idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '멱등성 키 (Idempotency-Key 헤더)',
+    member_id       BIGINT       NOT NULL COMMENT '회원 ID',
+    order_id        BIGINT       NOT NULL COMMENT '생성된 주문 ID',
+    created_at      DATETIME     NOT NULL COMMENT '생성 일시',
+    INDEX           idx_order_idempotency_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='주문 멱등성 키';
+
+-- 트랜잭셔널 아웃박스 테이블 (주문/결제 상태 변경과 같은 트랜잭션에서 저장, OutboxRelay가 배치로 발행)
+CREATE TABLE outbox_event
+(
+    event_id       BIGINT       NOT NULL PRIMARY KEY COMMENT '이벤트 ID (id_sequence 할당)',
+    aggregate_type VARCHAR(50)  NOT NULL COMMENT '애그리거트 종류 (ORDER, PAYMENT)',
+    aggregate_id   VARCHAR(100) NOT NULL COMMENT '애그리거트 ID (주문 ID, 결제 키)',
+    event_type     VARCHAR(255) NOT NULL COMMENT '이벤트 본문 타입',
+    payload        TEXT         NOT NULL COMMENT '이벤트 본문 (JSON)',
+    created_at     DATETIME     NOT NULL COMMENT '생성 일시',
+    published_at   DATETIME NULL COMMENT '발행 일시 (NULL이면 발행 대상)',
+    claimed_until  DATETIME NULL COMMENT '릴레이 점유 만료 일시 (발행 실패 시 재시도 일시)',
+    attempts       INT          NOT NULL DEFAULT 0 COMMENT '발행 실패 횟수',
+    INDEX          idx_outbox_event_published_at (published_at, event_id),
+    INDEX          idx_outbox_event_aggregate (aggregate_type, aggregate_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='트랜잭셔널 아웃박스';
+
+
+-- ID 할당 테이블 (주문/주문 항목 ID를 50개 단위로 미리 할당하여 INSERT 배치 처리)
+CREATE TABLE id_sequence
+(
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY COMMENT '시퀀스 이름 (테이블명)',
+    next_val      BIGINT      NOT NULL COMMENT '다음 할당 블록의 마지막 값 (pooled optimizer)'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='ID 할당';
+
+-- 새 DB 초기값: pooled optimizer는 next_val을 블록의 마지막 값으로 보므로 50이면 1 ~ 50부터 할당
+-- AUTO_INCREMENT로 생성된 기존 DB는 db/migration/001_order_id_sequence.sql로 전환 (운영 데이터의 최대 ID 기준 초기화)
+INSERT INTO id_sequence (sequence_name, next_val)
+VALUES ('orders', 50),
+       ('order_line', 50),
+       ('outbox_event', 50);
+
 
 -- Payment 테이블 DDL
 
@@ -84,11 +125,16 @@ CREATE TABLE payment
     order_id       BIGINT         NOT NULL COMMENT '주문 ID',
     member_id      BIGINT         NOT NULL COMMENT '회원 ID',
     price          DECIMAL(19, 0) NOT NULL COMMENT '결제 금액',
-    currency       VARCHAR(255) COMMENT '통화 (KRW)',
-    status         VARCHAR(20)    NOT NULL COMMENT '결제 상태 (PENDING, SUCCESS, FAILED, CANCELED, CANCEL_COMPLETED)',
+    currency       VARCHAR(255) DEFAULT 'KRW' COMMENT '통화 (KRW)',
+    status         VARCHAR(20)    NOT NULL COMMENT '결제 상태 (PENDING, SUCCESS, FAILED, CANCELED, CANCEL_COMPLETED, CANCEL_FAILED)',
     transaction_id VARCHAR(100) COMMENT '외부 결제 시스템 트랜잭션 ID',
     created_at     TIMESTAMP      NOT NULL COMMENT '생성 일시',
     updated_at     TIMESTAMP NULL COMMENT '수정 일시',
+    claimed_by     VARCHAR(100) NULL COMMENT '취소 배치 점유 노드 ID',
+    claimed_until  TIMESTAMP NULL COMMENT '취소 배치 점유 만료 일시',
+    cancel_attempts        INT          NOT NULL DEFAULT 0 COMMENT '외부 결제 시스템 취소 시도 횟수',
+    cancel_next_attempt_at TIMESTAMP NULL COMMENT '외부 결제 시스템 취소 다음 시도 일시 (지수 백오프)',
+    cancel_last_error      VARCHAR(500) NULL COMMENT '외부 결제 시스템 취소 마지막 실패 사유',
     PRIMARY KEY (payment_key)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='결제 정보';
 
@@ -96,5 +142,6 @@ CREATE TABLE payment
 CREATE INDEX idx_payment_order_id ON payment (order_id);
 CREATE INDEX idx_payment_member_id ON payment (member_id);
 CREATE INDEX idx_payment_status ON payment (status);
+CREATE INDEX idx_payment_status_claimed_until ON payment (status, claimed_until);
 CREATE INDEX idx_payment_created_at ON payment (created_at);
 
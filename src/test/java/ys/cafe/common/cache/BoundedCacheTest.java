@@ -0,0 +1,159 @@
+package ys.cafe.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("저장한 값을 조회하면 적중, 없는 키를 조회하면 실패로 집계한다")
+    void getCountsHitsAndMisses() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10);
+        cache.put(1L, "아메리카노");
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        CacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(2);
+        cache.put(1L, "아메리카노");
+        cache.put(2L, "카페라떼");
+        cache.get(1L);
+
+        // when
+        cache.put(3L, "카푸치노");
+
+        // then
+        assertThat(cache.get(1L)).contains("아메리카노");
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(3L)).contains("카푸치노");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화한 항목은 조회되지 않고 무효화 횟수로 집계한다")
+    void invalidate() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10);
+        cache.put(1L, "아메리카노");
+        cache.put(2L, "카페라떼");
+
+        // when
+        cache.invalidate(1L);
+        cache.invalidate(99L);
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+        assertThat(cache.stats().evictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 무효화 시 모든 항목을 제거한다")
+    void invalidateAll() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10);
+        cache.put(1L, "아메리카노");
+        cache.put(2L, "카페라떼");
+
+        // when
+        cache.invalidateAll();
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.stats().invalidations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 이후 무효화가 있었으면 조회한 값을 저장하지 않는다")
+    void putIfNotInvalidatedSkipsAfterInvalidation() {
+        // given - 조회 시작 → 무효화(커밋 이후) → 조회한 이전 값 저장 시도
+        BoundedCache<Long, String> cache = new BoundedCache<>(10);
+        long epoch = cache.invalidationEpoch();
+        cache.invalidate(1L);
+
+        // when
+        boolean stored = cache.putIfNotInvalidated(1L, "이전 값", epoch);
+
+        // then
+        assertThat(stored).isFalse();
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.putIfNotInvalidated(1L, "새 값", cache.invalidationEpoch())).isTrue();
+        assertThat(cache.get(1L)).contains("새 값");
+    }
+
+    @Test
+    @DisplayName("전체 무효화 이후에도 조회 전에 읽은 세대로는 저장하지 않는다")
+    void putIfNotInvalidatedSkipsAfterInvalidateAll() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10);
+        long epoch = cache.invalidationEpoch();
+        cache.invalidateAll();
+
+        // when & then
+        assertThat(cache.putIfNotInvalidated(1L, "이전 값", epoch)).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회 실패로 처리하고 만료 횟수로 집계한다")
+    void expiresAfterTtl() {
+        // given
+        AtomicLong now = new AtomicLong();
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofSeconds(30), now::get);
+        cache.put(1L, "아메리카노");
+
+        // when
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("병합 함수가 기존 값을 유지하면 값과 만료 시각을 바꾸지 않는다")
+    void mergeKeepsExistingEntry() {
+        // given
+        AtomicLong now = new AtomicLong();
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofSeconds(30), now::get);
+        cache.put(1L, "아메리카노");
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        // when
+        cache.merge(1L, "카페라떼", (existing, value) -> existing);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기가 1보다 작으면 예외가 발생한다")
+    void invalidMaxSize() {
+        assertThatThrownBy(() -> new BoundedCache<Long, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
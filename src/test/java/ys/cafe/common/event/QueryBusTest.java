@@ -0,0 +1,128 @@
+package ys.cafe.common.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueryBus 테스트")
+class QueryBusTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    @DisplayName("기본 전달 방식은 쿼리와 결과를 직렬화 없이 참조로 전달한다")
+    void ask_Reference() {
+        // given
+        GreetingHandler handler = new GreetingHandler(QueryDispatchMode.REFERENCE);
+        QueryBus queryBus = new QueryBus(List.of(handler), objectMapper);
+        GreetingQuery query = new GreetingQuery("커피");
+
+        // when
+        Greeting result = queryBus.ask(query);
+
+        // then
+        assertThat(result).isSameAs(handler.lastResult);
+        assertThat(handler.lastQuery).isSameAs(query);
+    }
+
+    @Test
+    @DisplayName("JSON 전달 방식은 쿼리와 결과를 직렬화한 복사본으로 전달한다")
+    void ask_Json() {
+        // given
+        GreetingHandler handler = new GreetingHandler(QueryDispatchMode.JSON);
+        QueryBus queryBus = new QueryBus(List.of(handler), objectMapper);
+        GreetingQuery query = new GreetingQuery("커피");
+
+        // when
+        Greeting result = queryBus.ask(query);
+
+        // then
+        assertThat(result).isEqualTo(new Greeting("안녕하세요, 커피"));
+        assertThat(result).isNotSameAs(handler.lastResult);
+        assertThat(handler.lastQuery).isEqualTo(query).isNotSameAs(query);
+    }
+
+    @Test
+    @DisplayName("핸들러에서 발생한 예외는 그대로 호출자에게 전달된다")
+    void ask_HandlerException() {
+        // given
+        QueryBus queryBus = new QueryBus(List.of(new GreetingHandler(QueryDispatchMode.REFERENCE)), objectMapper);
+
+        // when & then
+        assertThatThrownBy(() -> queryBus.ask(new GreetingQuery(null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이름이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 쿼리를 요청하면 예외가 발생한다")
+    void ask_UnknownQuery() {
+        // given
+        QueryBus queryBus = new QueryBus(List.of(), objectMapper);
+
+        // when & then
+        assertThatThrownBy(() -> queryBus.ask(new GreetingQuery("커피")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("등록된 쿼리 핸들러가 없습니다");
+    }
+
+    @Test
+    @DisplayName("같은 쿼리 타입의 핸들러가 둘 이상이면 시작 시 예외가 발생한다")
+    void duplicateHandler() {
+        // when & then
+        assertThatThrownBy(() -> new QueryBus(List.of(
+                new GreetingHandler(QueryDispatchMode.REFERENCE),
+                new GreetingHandler(QueryDispatchMode.JSON)
+        ), objectMapper))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("중복 등록");
+    }
+
+    record GreetingQuery(String name) implements Query<Greeting> {
+    }
+
+    record Greeting(String message) {
+    }
+
+    static class GreetingHandler implements QueryHandler<GreetingQuery, Greeting> {
+
+        private final QueryDispatchMode dispatchMode;
+        private GreetingQuery lastQuery;
+        private Greeting lastResult;
+
+        GreetingHandler(QueryDispatchMode dispatchMode) {
+            this.dispatchMode = dispatchMode;
+        }
+
+        @Override
+        public Class<GreetingQuery> queryType() {
+            return GreetingQuery.class;
+        }
+
+        @Override
+        public Class<Greeting> resultType() {
+            return Greeting.class;
+        }
+
+        @Override
+        public Greeting handle(GreetingQuery query) {
+            if (query.name() == null) {
+                throw new IllegalArgumentException("이름이 없습니다.");
+            }
+            lastQuery = query;
+            lastResult = new Greeting("안녕하세요, " + query.name());
+            return lastResult;
+        }
+
+        @Override
+        public QueryDispatchMode dispatchMode() {
+            return dispatchMode;
+        }
+    }
+}
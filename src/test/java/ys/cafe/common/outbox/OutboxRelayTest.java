@@ -0,0 +1,119 @@
+package ys.cafe.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private OutboxStore outboxStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OutboxRelay relay(int batchSize) {
+        OutboxRelayProperties properties = new OutboxRelayProperties(
+                batchSize, Duration.ofMinutes(1), Duration.ofSeconds(10), 10, Duration.ofDays(7));
+        return new OutboxRelay(outboxStore, eventPublisher, objectMapper, properties);
+    }
+
+    @Test
+    @DisplayName("점유한 이벤트를 역직렬화하여 ID 순으로 발행하고 배치 단위로 발행 완료 처리한다")
+    void relay_PublishesBatch() throws Exception {
+        // given
+        OrderStatusChangedEvent first = orderEvent(1L, OrderStatus.PAYMENT_WAITING);
+        OrderStatusChangedEvent second = orderEvent(1L, OrderStatus.PREPARING);
+        when(outboxStore.claim(eq(10), any(LocalDateTime.class)))
+                .thenReturn(List.of(claimed(1L, first), claimed(2L, second)));
+
+        // when
+        relay(10).relay();
+
+        // then
+        var inOrder = inOrder(eventPublisher, outboxStore);
+        inOrder.verify(eventPublisher).publishEvent(first);
+        inOrder.verify(eventPublisher).publishEvent(second);
+        inOrder.verify(outboxStore).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboxStore, never()).markFailed(anyList(), any());
+        // 배치보다 적게 점유되면 더 이상 조회하지 않음
+        verify(outboxStore, times(1)).claim(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("리스너가 실패한 이벤트만 재시도 예약하고 나머지는 발행 완료 처리한다")
+    void relay_FailedEventIsRetried() throws Exception {
+        // given
+        OrderStatusChangedEvent failing = orderEvent(1L, OrderStatus.PREPARING);
+        OrderStatusChangedEvent succeeding = orderEvent(2L, OrderStatus.PREPARING);
+        when(outboxStore.claim(eq(10), any(LocalDateTime.class)))
+                .thenReturn(List.of(claimed(1L, failing), claimed(2L, succeeding)));
+        doThrow(new IllegalStateException("리스너 오류")).when(eventPublisher).publishEvent(failing);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        relay(10).relay();
+
+        // then
+        verify(outboxStore).markPublished(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(outboxStore).markFailed(eq(List.of(1L)), argThat(retryAt -> !retryAt.isBefore(before.plusSeconds(10))));
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 발행 대상이 없을 때까지 다음 배치를 이어서 점유한다")
+    void relay_ContinuesWhileBatchIsFull() throws Exception {
+        // given
+        when(outboxStore.claim(eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of(claimed(1L, orderEvent(1L, OrderStatus.PAYMENT_WAITING)),
+                        claimed(2L, orderEvent(2L, OrderStatus.PAYMENT_WAITING))))
+                .thenReturn(List.of());
+
+        // when
+        relay(2).relay();
+
+        // then
+        verify(outboxStore, times(2)).claim(eq(2), any(LocalDateTime.class));
+        verify(outboxStore).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 이벤트 타입은 발행하지 않고 재시도 예약한다")
+    void relay_UnknownEventType() {
+        // given
+        when(outboxStore.claim(eq(10), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ClaimedOutboxEvent(1L, "ys.cafe.UnknownEvent", "{}")));
+
+        // when
+        relay(10).relay();
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(outboxStore).markFailed(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    private static OrderStatusChangedEvent orderEvent(Long orderId, OrderStatus orderStatus) {
+        return new OrderStatusChangedEvent(orderId, 1L, orderStatus, LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+
+    private ClaimedOutboxEvent claimed(Long eventId, OrderStatusChangedEvent event) throws Exception {
+        return new ClaimedOutboxEvent(eventId, event.getClass().getName(), objectMapper.writeValueAsString(event));
+    }
+}
@@ -0,0 +1,46 @@
+package ys.cafe.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Outbox 테스트")
+class OutboxTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final Outbox outbox = new Outbox(outboxEventRepository, objectMapper);
+
+    @Test
+    @DisplayName("이벤트 본문을 JSON으로 직렬화하여 애그리거트 정보와 함께 저장한다")
+    void append() throws Exception {
+        // given
+        OrderStatusChangedEvent event = new OrderStatusChangedEvent(
+                10L, 1L, OrderStatus.PREPARING, LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        // when
+        outbox.append(event);
+
+        // then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+
+        OutboxEvent saved = captor.getValue();
+        assertThat(saved.getAggregateType()).isEqualTo("ORDER");
+        assertThat(saved.getAggregateId()).isEqualTo("10");
+        assertThat(saved.getEventType()).isEqualTo(OrderStatusChangedEvent.class.getName());
+        assertThat(saved.getPublishedAt()).isNull();
+        assertThat(saved.getAttempts()).isZero();
+        assertThat(saved.getPayload()).doesNotContain("aggregateType");
+        assertThat(objectMapper.readValue(saved.getPayload(), OrderStatusChangedEvent.class)).isEqualTo(event);
+    }
+}
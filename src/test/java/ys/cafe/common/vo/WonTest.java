@@ -3,9 +3,9 @@ package ys.cafe.common.vo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import ys.cafe.common.exception.MoneyValidationException;
-import ys.cafe.payment.domain.vo.Won;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -22,7 +22,7 @@ class WonTest {
         Won won = Won.of(amount);
 
         // then
-        assertThat(won.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+        assertThat(won.getAmount()).isEqualTo(5000L);
     }
 
     @Test
@@ -35,7 +35,7 @@ class WonTest {
         Won won = Won.of(amount);
 
         // then
-        assertThat(won.getAmount()).isEqualByComparingTo(amount);
+        assertThat(won.getAmount()).isEqualTo(amount.longValueExact());
     }
 
     @Test
@@ -45,7 +45,7 @@ class WonTest {
         Won won = Won.zero();
 
         // then
-        assertThat(won.getAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(won.getAmount()).isZero();
     }
 
     @Test
@@ -78,7 +78,7 @@ class WonTest {
         Won result = won1.add(won2);
 
         // then
-        assertThat(result.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(8000));
+        assertThat(result.getAmount()).isEqualTo(8000L);
     }
 
     @Test
@@ -92,7 +92,7 @@ class WonTest {
         Won result = won1.subtract(won2);
 
         // then
-        assertThat(result.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(2000));
+        assertThat(result.getAmount()).isEqualTo(2000L);
     }
 
     @Test
@@ -117,7 +117,7 @@ class WonTest {
         Won result = won.multiply(5);
 
         // then
-        assertThat(result.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+        assertThat(result.getAmount()).isEqualTo(5000L);
     }
 
     @Test
@@ -130,7 +130,7 @@ class WonTest {
         Won result = won.multiply(0);
 
         // then
-        assertThat(result.getAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.getAmount()).isZero();
     }
 
     @Test
@@ -190,4 +190,52 @@ class WonTest {
         // then
         assertThat(result).isEqualTo("5000원");
     }
+
+    @Test
+    @DisplayName("원 단위 미만 금액으로는 Won을 생성할 수 없다")
+    void createWonWithFraction() {
+        // when & then
+        assertThatThrownBy(() -> Won.of("4500.5"))
+                .isInstanceOf(MoneyValidationException.class);
+    }
+
+    @Test
+    @DisplayName("100원 단위의 자주 쓰이는 금액은 같은 인스턴스를 재사용한다")
+    void cachedInstance() {
+        // when & then
+        assertThat(Won.of(4500)).isSameAs(Won.of("4500"));
+        assertThat(Won.zero()).isSameAs(Won.of(0));
+        assertThat(Won.of(4550)).isEqualTo(Won.of(4550));
+    }
+
+    @Test
+    @DisplayName("Won 목록의 합계를 계산할 수 있다")
+    void sum() {
+        // when
+        Won total = Won.sum(List.of(Won.of(9000), Won.of(5000), Won.zero()));
+
+        // then
+        assertThat(total).isEqualTo(Won.of(14000));
+    }
+
+    @Test
+    @DisplayName("곱셈 결과가 long 범위를 넘으면 예외가 발생한다")
+    void multiplyOverflow() {
+        // given
+        Won won = Won.of(Long.MAX_VALUE / 2 + 1);
+
+        // when & then
+        assertThatThrownBy(() -> won.multiply(2))
+                .isInstanceOf(MoneyValidationException.class)
+                .hasMessageContaining("금액이 너무 높습니다");
+    }
+
+    @Test
+    @DisplayName("합계가 long 범위를 넘으면 예외가 발생한다")
+    void sumOverflow() {
+        // when & then
+        assertThatThrownBy(() -> Won.sum(List.of(Won.of(Long.MAX_VALUE), Won.of(1))))
+                .isInstanceOf(MoneyValidationException.class)
+                .hasMessageContaining("금액이 너무 높습니다");
+    }
 }
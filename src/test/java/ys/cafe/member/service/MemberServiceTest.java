@@ -9,14 +9,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 import ys.cafe.common.exception.CommonErrorCode;
 import ys.cafe.common.exception.CommonException;
 import ys.cafe.member.domain.Member;
+import ys.cafe.member.domain.vo.MemberStatus;
 import ys.cafe.member.domain.vo.PhoneNumber;
 import ys.cafe.member.exception.MemberValidationException;
 import ys.cafe.member.exception.errorcode.MemberValidationErrorCode;
 import ys.cafe.member.persistence.MemberRepository;
 import ys.cafe.member.service.dto.request.MemberSignUpRequest;
+import ys.cafe.member.service.dto.response.MemberAdmission;
 import ys.cafe.member.service.dto.response.MemberResponse;
 
 import java.util.Optional;
@@ -24,6 +27,10 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +45,9 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberAdmissionCache memberAdmissionCache;
+
     @Nested
     @DisplayName("회원가입 성공 테스트")
     class SignUpSuccessTest {
@@ -278,6 +288,7 @@ class MemberServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.status()).isEqualTo("WITHDRAW_REQUESTED");
             assertThat(activeMember.getWithdrawRequestedAt()).isNotNull();
+            verify(memberAdmissionCache).evictAfterCommit(memberId);
         }
 
         @Test
@@ -357,6 +368,7 @@ class MemberServiceTest {
             assertThat(response.status()).isEqualTo("ACTIVE");
             assertThat(withdrawnMember.getWithdrawRequestedAt()).isNull();
             assertThat(withdrawnMember.isActive()).isTrue();
+            verify(memberAdmissionCache).evictAfterCommit(memberId);
         }
 
         @Test
@@ -434,4 +446,143 @@ class MemberServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문/결제용 회원 정보 조회 테스트")
+    class MemberAdmissionTest {
+
+        @Test
+        @DisplayName("회원 캐시에 있으면 DB를 조회하지 않는다")
+        void getMemberAdmissionFromCache() {
+            // given
+            Long memberId = 1L;
+            MemberAdmission cached = new MemberAdmission(
+                    memberId, MemberStatus.ACTIVE, "김철수", "01012345678", "MALE", "1990-01-01", "2025-11-01T12:00:00"
+            );
+            when(memberAdmissionCache.get(memberId)).thenReturn(Optional.of(cached));
+
+            // when
+            MemberAdmission admission = memberService.getMemberAdmission(memberId);
+
+            // then
+            assertThat(admission).isEqualTo(cached);
+            verify(memberRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("회원 캐시에 없으면 DB에서 조회하여 캐시에 적재한다")
+        void getMemberAdmissionLoadsOnMiss() {
+            // given
+            Long memberId = 1L;
+            Member member = Member.register(
+                    "Password123!",
+                    "김",
+                    "철수",
+                    "010-1234-5678",
+                    "MALE",
+                    "1990-01-01",
+                    s -> s + "encoded"
+            );
+            when(memberAdmissionCache.get(memberId)).thenReturn(Optional.empty());
+            when(memberAdmissionCache.loadEpoch()).thenReturn(3L);
+            when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+
+            // when
+            MemberAdmission admission = memberService.getMemberAdmission(memberId);
+
+            // then
+            assertThat(admission.isActive()).isTrue();
+            assertThat(admission.fullName()).isEqualTo("김철수");
+            assertThat(admission.phoneNumber()).isEqualTo("01012345678");
+            verify(memberAdmissionCache).put(admission, 3L);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 회원이면 예외가 발생하고 캐시에 적재하지 않는다")
+        void getMemberAdmissionNotFound() {
+            // given
+            Long memberId = 999L;
+            when(memberAdmissionCache.get(memberId)).thenReturn(Optional.empty());
+            when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> memberService.getMemberAdmission(memberId))
+                    .isInstanceOf(CommonException.class)
+                    .hasMessage("존재하지 않는 회원입니다.");
+            verify(memberAdmissionCache, never()).put(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("탈퇴 회원 일괄 비활성화 시 회원 캐시를 전체 무효화한다")
+        void deactivateExpiredWithdrawnMembersEvictsAll() {
+            // given
+            when(memberRepository.bulkDeactivate(any(), eq(MemberStatus.DELETED))).thenReturn(3);
+
+            // when
+            memberService.deactivateExpiredWithdrawnMembers();
+
+            // then
+            verify(memberAdmissionCache).evictAllAfterCommit();
+        }
+
+        @Test
+        @DisplayName("회원 조회 중 탈퇴로 캐시가 무효화되면 조회 전에 읽은 ACTIVE 상태를 캐시에 적재하지 않는다")
+        void getMemberAdmissionSkipsPutWhenEvictedDuringLoad() {
+            // given
+            Long memberId = 1L;
+            Member member = activeMember(memberId);
+            MemberAdmissionCache realCache = new MemberAdmissionCache(100);
+            MemberService service = new MemberService(memberRepository, passwordEncoder, realCache);
+            when(memberRepository.findById(memberId)).thenAnswer(invocation -> {
+                // 조회 결과(ACTIVE)를 읽은 직후 다른 트랜잭션의 탈퇴 커밋으로 무효화
+                Optional<Member> loaded = Optional.of(activeMember(memberId));
+                realCache.evictAfterCommit(memberId);
+                return loaded;
+            }).thenReturn(Optional.of(member));
+
+            // when
+            MemberAdmission stale = service.getMemberAdmission(memberId);
+
+            // then
+            assertThat(stale.isActive()).isTrue();
+            assertThat(realCache.get(memberId)).isEmpty();
+
+            member.withdraw();
+            assertThat(service.getMemberAdmission(memberId).isActive()).isFalse();
+            assertThat(realCache.get(memberId)).hasValueSatisfying(cached -> assertThat(cached.isActive()).isFalse());
+        }
+
+        @Test
+        @DisplayName("회원 조회 중 일괄 비활성화로 캐시가 전체 무효화되면 조회한 상태를 캐시에 적재하지 않는다")
+        void getMemberAdmissionSkipsPutWhenEvictedAllDuringLoad() {
+            // given
+            Long memberId = 1L;
+            MemberAdmissionCache realCache = new MemberAdmissionCache(100);
+            MemberService service = new MemberService(memberRepository, passwordEncoder, realCache);
+            when(memberRepository.findById(memberId)).thenAnswer(invocation -> {
+                Optional<Member> loaded = Optional.of(activeMember(memberId));
+                realCache.evictAllAfterCommit();
+                return loaded;
+            });
+
+            // when
+            service.getMemberAdmission(memberId);
+
+            // then
+            assertThat(realCache.get(memberId)).isEmpty();
+        }
+
+        private Member activeMember(Long memberId) {
+            Member member = Member.register(
+                    "Password123!",
+                    "김",
+                    "철수",
+                    "010-1234-5678",
+                    "MALE",
+                    "1990-01-01",
+                    s -> s + "encoded"
+            );
+            ReflectionTestUtils.setField(member, "memberId", memberId);
+            return member;
+        }
+    }
 }
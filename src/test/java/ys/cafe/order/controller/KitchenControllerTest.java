@@ -0,0 +1,87 @@
+package ys.cafe.order.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.service.KitchenService;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KitchenController 테스트")
+class KitchenControllerTest {
+
+    @Mock
+    private KitchenService kitchenService;
+
+    @InjectMocks
+    private KitchenController kitchenController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(kitchenController).build();
+    }
+
+    @Test
+    @DisplayName("주방 대기열 조회 성공")
+    void getQueue() throws Exception {
+        // given
+        OrderResponse order = OrderResponse.from(OrderMother.assignId(OrderMother.orderInPreparing(1L), 1L));
+        given(kitchenService.getQueue()).willReturn(List.of(order));
+
+        // when & then
+        mockMvc.perform(get("/kitchen/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].orderId").value(1))
+                .andExpect(jsonPath("$[0].orderStatus").value("PREPARING"));
+    }
+
+    @Test
+    @DisplayName("서빙 시작 성공")
+    void startServing() throws Exception {
+        // given
+        OrderResponse order = OrderResponse.from(OrderMother.assignId(OrderMother.orderInServe(1L), 1L));
+        given(kitchenService.startServing(1L)).willReturn(order);
+
+        // when & then
+        mockMvc.perform(post("/kitchen/orders/1/start-serving")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderStatus").value(OrderStatus.SERVE.name()));
+
+        verify(kitchenService).startServing(1L);
+    }
+
+    @Test
+    @DisplayName("서빙 완료 성공")
+    void completeServing() throws Exception {
+        // given
+        OrderResponse order = OrderResponse.from(OrderMother.assignId(OrderMother.orderInCompleted(1L), 1L));
+        given(kitchenService.completeServing(1L)).willReturn(order);
+
+        // when & then
+        mockMvc.perform(post("/kitchen/orders/1/complete-serving")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderStatus").value(OrderStatus.COMPLETED.name()));
+    }
+}
@@ -8,26 +8,53 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
 import ys.cafe.order.objectmother.OrderCreateRequestMother;
 import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.service.OrderExportService;
 import ys.cafe.order.service.OrderService;
 import ys.cafe.order.service.dto.OrderCancelRequest;
 import ys.cafe.order.service.dto.OrderCreateRequest;
-import ys.cafe.order.service.dto.OrderListResponse;
+import ys.cafe.order.service.dto.OrderCursor;
+import ys.cafe.order.service.dto.OrderExportPeriod;
 import ys.cafe.order.service.dto.OrderResponse;
+import ys.cafe.order.service.dto.OrderSliceResponse;
+import ys.cafe.order.service.dto.OrderSummaryResponse;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +64,9 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderExportService orderExportService;
+
     @InjectMocks
     private OrderController orderController;
 
@@ -57,17 +87,37 @@ class OrderControllerTest {
         OrderCreateRequest request = OrderCreateRequestMother.requestForMember(1L);
         OrderResponse response = OrderResponse.from(OrderMother.orderWithId(10L, 1L));
 
-        given(orderService.placeOrder(any(OrderCreateRequest.class))).willReturn(response);
+        given(orderService.placeOrder(any(OrderCreateRequest.class), isNull())).willReturn(response);
 
         // when & then
         mockMvc.perform(post("/orders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.orderId").value(10))
                 .andExpect(jsonPath("$.memberId").value(1));
 
-        verify(orderService).placeOrder(any(OrderCreateRequest.class));
+        verify(orderService).placeOrder(any(OrderCreateRequest.class), isNull());
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 Idempotency-Key 헤더를 서비스에 전달한다")
+    void placeOrder_WithIdempotencyKey() throws Exception {
+        // given
+        OrderCreateRequest request = OrderCreateRequestMother.requestForMember(1L);
+        OrderResponse response = OrderResponse.from(OrderMother.orderWithId(10L, 1L));
+
+        given(orderService.placeOrder(any(OrderCreateRequest.class), eq("order-key-1"))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", "order-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.orderId").value(10));
+
+        verify(orderService).placeOrder(any(OrderCreateRequest.class), eq("order-key-1"));
     }
 
     @Test
@@ -89,33 +139,139 @@ class OrderControllerTest {
         verify(orderService).getOrder(orderId);
     }
 
+    @Test
+    @DisplayName("주문 상태 구독 시 SSE 스트림을 연다")
+    void subscribeOrderStatus() throws Exception {
+        // given
+        given(orderService.subscribeOrderStatus(20L)).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/orders/{orderId}/stream", 20L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(orderService).subscribeOrderStatus(20L);
+    }
+
     @Test
     @DisplayName("전체 주문 조회 성공")
     void getAllOrders() throws Exception {
         // given
+        Order lastOrder = OrderMother.orderWithId(1L, 1L);
         List<OrderResponse> orders = List.of(
-                OrderResponse.from(OrderMother.orderWithId(1L, 1L)),
-                OrderResponse.from(OrderMother.orderWithId(2L, 1L))
+                OrderResponse.from(OrderMother.orderWithId(2L, 1L)),
+                OrderResponse.from(lastOrder)
         );
-        OrderListResponse response = OrderListResponse.of(orders, 2, 0, 20, 1, false);
+        OrderCursor nextCursor = OrderCursor.from(lastOrder);
+        OrderSliceResponse<OrderResponse> response = OrderSliceResponse.of(orders, 2, nextCursor, null);
 
-        given(orderService.getAllOrders(0, 20)).willReturn(response);
+        given(orderService.getAllOrders(null, 2, false)).willReturn(response);
 
         // when & then
         mockMvc.perform(get("/orders")
-                        .param("page", "0")
-                        .param("size", "20")
+                        .param("size", "2")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.orders").isArray())
-                .andExpect(jsonPath("$.orders[0].orderId").value(1))
-                .andExpect(jsonPath("$.totalElements").value(2))
-                .andExpect(jsonPath("$.page").value(0))
-                .andExpect(jsonPath("$.size").value(20))
-                .andExpect(jsonPath("$.totalPages").value(1))
+                .andExpect(jsonPath("$.orders[0].orderId").value(2))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor.encode()))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(orderService).getAllOrders(null, 2, false);
+    }
+
+    @Test
+    @DisplayName("전체 주문 요약 조회 성공")
+    void getOrderSummaries() throws Exception {
+        // given
+        List<OrderSummaryResponse> summaries = List.of(
+                new OrderSummaryResponse(2L, 1L, OrderStatus.PREPARING, "4500", LocalDateTime.of(2025, 11, 5, 10, 30)),
+                new OrderSummaryResponse(1L, 1L, OrderStatus.COMPLETED, "9000", LocalDateTime.of(2025, 11, 5, 10, 0))
+        );
+        OrderSliceResponse<OrderSummaryResponse> response = OrderSliceResponse.of(summaries, 20, null, null);
+
+        given(orderService.getOrderSummaries(null, 20, false)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/orders")
+                        .param("view", "summary")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].orderId").value(2))
+                .andExpect(jsonPath("$.orders[0].orderStatus").value("PREPARING"))
+                .andExpect(jsonPath("$.orders[0].totalPrice").value("4500"))
+                .andExpect(jsonPath("$.orders[0].orderLines").doesNotExist())
                 .andExpect(jsonPath("$.hasNext").value(false));
 
-        verify(orderService).getAllOrders(0, 20);
+        verify(orderService).getOrderSummaries(null, 20, false);
+        verify(orderService, never()).getAllOrders(any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("주문 내보내기는 NDJSON을 스트리밍한다")
+    void exportOrders() throws Exception {
+        // given
+        given(orderExportService.tryAcquire()).willReturn(true);
+        given(orderExportService.timeout()).willReturn(Duration.ofMinutes(30));
+        String line = "{\"orderId\":1,\"memberId\":1,\"orderStatus\":\"COMPLETED\",\"totalPrice\":\"4500\",\"orderDateTime\":\"2025-11-05T09:00:00\"}\n";
+        given(orderExportService.exportOrders(any(OrderExportPeriod.class), any(OutputStream.class)))
+                .willAnswer(invocation -> {
+                    OutputStream outputStream = invocation.getArgument(1);
+                    outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/orders/export")
+                        .param("from", "2025-11-05")
+                        .param("to", "2025-11-05"))
+                .andExpect(request().asyncStarted())
+                .andExpect(request().asyncTimeout(Duration.ofMinutes(30).toMillis()))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("orders-2025-11-05-2025-11-05.ndjson")))
+                .andExpect(content().string(line));
+
+        verify(orderExportService).exportOrders(
+                eq(new OrderExportPeriod(LocalDate.of(2025, 11, 5), LocalDate.of(2025, 11, 5))),
+                any(OutputStream.class)
+        );
+        verify(orderExportService).release();
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 주문 내보내기가 한도를 넘으면 내보내기를 시작하지 않는다")
+    void exportOrders_Busy() {
+        // given
+        given(orderExportService.tryAcquire()).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> mockMvc.perform(get("/orders/export")
+                        .param("from", "2025-11-05")
+                        .param("to", "2025-11-05")))
+                .hasCauseInstanceOf(OrderValidationException.class)
+                .hasRootCauseMessage(OrderValidationErrorCode.ORDER_EXPORT_BUSY.getMessage());
+        verify(orderExportService, never()).exportOrders(any(OrderExportPeriod.class), any(OutputStream.class));
+        verify(orderExportService, never()).release();
+    }
+
+    @Test
+    @DisplayName("주문 내보내기 기간이 최대 기간을 넘으면 동시 내보내기 허가를 얻지 않는다")
+    void exportOrders_PeriodTooLong() {
+        // when & then
+        assertThatThrownBy(() -> mockMvc.perform(get("/orders/export")
+                        .param("from", "2025-11-01")
+                        .param("to", "2025-12-02")))
+                .cause()
+                .isInstanceOf(OrderValidationException.class)
+                .hasMessageContaining("주문 내보내기 기간은 최대 31일입니다");
+        verify(orderExportService, never()).tryAcquire();
     }
 
     @Test
@@ -123,25 +279,28 @@ class OrderControllerTest {
     void getMemberOrders() throws Exception {
         // given
         Long memberId = 1L;
+        String cursor = OrderCursor.from(OrderMother.orderWithId(102L, memberId)).encode();
         List<OrderResponse> orders = List.of(
-                OrderResponse.from(OrderMother.orderWithId(100L, memberId)),
-                OrderResponse.from(OrderMother.orderWithId(101L, memberId))
+                OrderResponse.from(OrderMother.orderWithId(101L, memberId)),
+                OrderResponse.from(OrderMother.orderWithId(100L, memberId))
         );
-        OrderListResponse response = OrderListResponse.unpaged(orders);
+        OrderSliceResponse<OrderResponse> response = OrderSliceResponse.of(orders, 20, null, 3L);
 
-        given(orderService.getMemberOrders(memberId)).willReturn(response);
+        given(orderService.getMemberOrders(memberId, cursor, 20, true)).willReturn(response);
 
         // when & then
         mockMvc.perform(get("/orders/members/{memberId}", memberId)
+                        .param("cursor", cursor)
+                        .param("includeTotal", "true")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.orders").isArray())
-                .andExpect(jsonPath("$.orders[0].orderId").value(100))
-                .andExpect(jsonPath("$.totalElements").value(2))
-                .andExpect(jsonPath("$.size").value(2))
-                .andExpect(jsonPath("$.hasNext").value(false));
+                .andExpect(jsonPath("$.orders[0].orderId").value(101))
+                .andExpect(jsonPath("$.size").value(20))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").value(3));
 
-        verify(orderService).getMemberOrders(memberId);
+        verify(orderService).getMemberOrders(memberId, cursor, 20, true);
     }
 
     @Test
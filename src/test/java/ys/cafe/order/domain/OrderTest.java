@@ -2,7 +2,7 @@ package ys.cafe.order.domain;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import ys.cafe.order.domain.vo.Won;
+import ys.cafe.common.vo.Won;
 import ys.cafe.order.exception.OrderValidationException;
 import ys.cafe.order.objectmother.OrderLineMother;
 import ys.cafe.order.objectmother.OrderMother;
@@ -22,8 +22,8 @@ class OrderTest {
         // given
         Long memberId = 1L;
         List<OrderLine> orderLines = Arrays.asList(
-                OrderLineMother.orderLine(1L, "아메리카노", 2, "4500"),
-                OrderLineMother.orderLine(2L, "카페라떼", 1, "5000")
+                OrderLineMother.orderLine(1L, "아메리카노", 2, 4500L),
+                OrderLineMother.orderLine(2L, "카페라떼", 1, 5000L)
         );
 
         // when
@@ -43,7 +43,7 @@ class OrderTest {
         // given
         Long memberId = null;
         List<OrderLine> orderLines = List.of(
-                OrderLineMother.orderLine(1L, "아메리카노", 2, "4500")
+                OrderLineMother.orderLine(1L, "아메리카노", 2, 4500L)
         );
 
         // when & then
@@ -81,9 +81,9 @@ class OrderTest {
         // given
         Long memberId = 1L;
         List<OrderLine> orderLines = Arrays.asList(
-                OrderLineMother.orderLine(1L, "아메리카노", 3, "4500"),  // 13500
-                OrderLineMother.orderLine(2L, "카페라떼", 2, "5000"),     // 10000
-                OrderLineMother.orderLine(3L, "카푸치노", 1, "5500")      // 5500
+                OrderLineMother.orderLine(1L, "아메리카노", 3, 4500L),  // 13500
+                OrderLineMother.orderLine(2L, "카페라떼", 2, 5000L),     // 10000
+                OrderLineMother.orderLine(3L, "카푸치노", 1, 5500L)      // 5500
         );
 
         // when
@@ -273,7 +273,7 @@ class OrderTest {
         // given
         Long memberId = 1L;
         List<OrderLine> orderLines = List.of(
-                OrderLineMother.orderLine(1L, "아메리카노", 2, "4500")
+                OrderLineMother.orderLine(1L, "아메리카노", 2, 4500L)
         );
 
         // when
@@ -294,10 +294,10 @@ class OrderTest {
         // given
         Long memberId = 100L;
         List<OrderLine> orderLines = Arrays.asList(
-                OrderLineMother.orderLine(1L, "아메리카노", 2, "4500"),
-                OrderLineMother.orderLine(2L, "카페라떼", 1, "5000"),
-                OrderLineMother.orderLine(3L, "카푸치노", 3, "5500"),
-                OrderLineMother.orderLine(4L, "에스프레소", 1, "3500")
+                OrderLineMother.orderLine(1L, "아메리카노", 2, 4500L),
+                OrderLineMother.orderLine(2L, "카페라떼", 1, 5000L),
+                OrderLineMother.orderLine(3L, "카푸치노", 3, 5500L),
+                OrderLineMother.orderLine(4L, "에스프레소", 1, 3500L)
         );
 
         // when
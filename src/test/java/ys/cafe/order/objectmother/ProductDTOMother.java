@@ -8,8 +8,8 @@ public final class ProductDTOMother {
 
     public static List<ProductDTO> availableProducts() {
         return List.of(
-                ProductDTO.of(1L, "아메리카노", "4500"),
-                ProductDTO.of(2L, "카페라떼", "5000")
+                ProductDTO.of(1L, "아메리카노", 4500L),
+                ProductDTO.of(2L, "카페라떼", 5000L)
         );
     }
 }
@@ -0,0 +1,207 @@
+package ys.cafe.order.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.objectmother.OrderLineMother;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.service.dto.OrderSummaryResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 저장/목록 조회 시 실행되는 SQL 문 수 검증
+ * (H2 + Hibernate 통계 사용, schema.sql은 MySQL 전용이므로 스키마는 Hibernate가 생성)
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("OrderRepository 테스트")
+class OrderRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @DisplayName("주문 항목 5개인 주문은 주문/주문 항목 배치 INSERT 두 번으로 저장된다")
+    void saveOrderWithFiveLines() {
+        // given
+        // ID 블록 선할당 (id_sequence 접근은 50건마다 한 번이므로 측정 대상에서 제외)
+        orderRepository.saveAndFlush(OrderMother.orderWithLines(1L, List.of(OrderLineMother.americano(1))));
+        testEntityManager.clear();
+        statistics.clear();
+
+        // IDENTITY + @JoinColumn(nullable 허용) 매핑에서는 INSERT 6번 + UPDATE order_line SET order_id 5번 = 11번
+        Order order = OrderMother.orderWithLines(1L, List.of(
+                OrderLineMother.americano(1),
+                OrderLineMother.cafeLatte(2),
+                OrderLineMother.cappuccino(1),
+                OrderLineMother.americano(3),
+                OrderLineMother.cafeLatte(1)
+        ));
+
+        // when
+        orderRepository.saveAndFlush(order);
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(6);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(order.getOrderId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("저장한 주문은 주문 항목과 함께 조회된다")
+    void findSavedOrderWithLines() {
+        // given
+        Order order = OrderMother.orderWithLines(2L, List.of(
+                OrderLineMother.americano(1),
+                OrderLineMother.cafeLatte(2)
+        ));
+        Long orderId = orderRepository.saveAndFlush(order).getOrderId();
+        testEntityManager.clear();
+
+        // when
+        Order found = orderRepository.findById(orderId).orElseThrow();
+
+        // then
+        assertThat(found.getMemberId()).isEqualTo(2L);
+        assertThat(found.getOrderLines()).hasSize(2);
+    }
+
+    @ParameterizedTest(name = "페이지 크기 {0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("주문 목록 조회 시 페이지 크기와 무관하게 주문 항목은 한 번의 배치 쿼리로 로딩된다")
+    void findLatestLoadsOrderLinesInOneBatch(int pageSize) {
+        // given
+        for (int i = 0; i < pageSize; i++) {
+            orderRepository.save(OrderMother.orderWithLines(3L, List.of(
+                    OrderLineMother.americano(1),
+                    OrderLineMother.cafeLatte(1)
+            )));
+        }
+        orderRepository.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // when
+        List<Order> orders = orderRepository.findLatestByMemberId(3L, Limit.of(pageSize));
+        int lineCount = orders.stream()
+                .mapToInt(order -> order.getOrderLines().size())
+                .sum();
+
+        // then
+        // 주문 SELECT 1번 + 주문 항목 배치 SELECT 1번 (EAGER 매핑에서는 1 + pageSize번)
+        assertThat(orders).hasSize(pageSize);
+        assertThat(lineCount).isEqualTo(pageSize * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주문 요약 목록은 주문 항목을 로딩하지 않고 한 번의 쿼리로 조회된다")
+    void findLatestSummariesWithoutLines() {
+        // given
+        Order order = orderRepository.saveAndFlush(OrderMother.orderWithLines(4L, List.of(
+                OrderLineMother.americano(1),
+                OrderLineMother.cafeLatte(2)
+        )));
+        testEntityManager.clear();
+        statistics.clear();
+
+        // when
+        List<OrderSummaryResponse> summaries = orderRepository.findLatestSummaries(Limit.of(10));
+
+        // then
+        assertThat(summaries).first().satisfies(summary -> {
+            assertThat(summary.orderId()).isEqualTo(order.getOrderId());
+            assertThat(summary.memberId()).isEqualTo(4L);
+            assertThat(summary.totalPrice()).isEqualTo(order.getTotalPrice().toPlainString());
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    /**
+     * 마이그레이션 스크립트(db/migration/001_order_id_sequence.sql)와 같은 방식으로 기존 최대 ID에서 id_sequence를 초기화한 뒤의 ID 할당 검증
+     * ID 할당 상태(pooled optimizer)는 SessionFactory에 남으므로 다른 테스트와 컨텍스트(DB 포함)를 분리하고,
+     * id_sequence는 별도 트랜잭션에서 조회되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증합니다.
+     */
+    @Nested
+    @TestPropertySource(properties = "spring.datasource.name=order-id-sequence-seed")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("기존 데이터가 있는 DB에서 id_sequence를 초기화하면")
+    class SeededIdSequence {
+
+        // db/migration/001_order_id_sequence.sql의 id_sequence 초기화 값 (MySQL 전용 ON DUPLICATE KEY UPDATE 제외)
+        private static final String SEED_ORDERS =
+                "INSERT INTO id_sequence (sequence_name, next_val) SELECT 'orders', COALESCE(MAX(order_id), 0) + 50 FROM orders";
+        private static final String SEED_ORDER_LINE =
+                "INSERT INTO id_sequence (sequence_name, next_val) SELECT 'order_line', COALESCE(MAX(order_line_id), 0) + 50 FROM order_line";
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        @DisplayName("새 주문과 주문 항목은 기존 최대 ID 이후의 ID를 할당받는다")
+        void allocatesAfterExistingMaxIds() {
+            // given
+            jdbcTemplate.update("INSERT INTO orders (order_id, member_id, order_status, order_date_time, total_price) "
+                    + "VALUES (120, 5, 'COMPLETED', CURRENT_TIMESTAMP, 4500)");
+            jdbcTemplate.update("INSERT INTO order_line (order_line_id, order_id, product_id, product_name, quantity, price) "
+                    + "VALUES (300, 120, 1, '아메리카노', 1, 4500)");
+            jdbcTemplate.update("DELETE FROM id_sequence");
+            jdbcTemplate.update(SEED_ORDERS);
+            jdbcTemplate.update(SEED_ORDER_LINE);
+
+            // when
+            Order first = orderRepository.saveAndFlush(OrderMother.orderWithLines(5L, List.of(
+                    OrderLineMother.americano(1),
+                    OrderLineMother.cafeLatte(1)
+            )));
+            Order second = orderRepository.saveAndFlush(OrderMother.orderWithLines(5L, List.of(
+                    OrderLineMother.cappuccino(1)
+            )));
+
+            // then
+            // MAX(id) + 1로 초기화하면 pooled optimizer가 (MAX - 48) ~ (MAX + 1)을 할당하여 기존 ID와 중복
+            assertThat(first.getOrderId()).isEqualTo(121L);
+            assertThat(second.getOrderId()).isEqualTo(122L);
+            assertThat(jdbcTemplate.queryForList("SELECT order_line_id FROM order_line WHERE order_id IN (?, ?)",
+                    Long.class, first.getOrderId(), second.getOrderId()))
+                    .containsExactlyInAnyOrder(301L, 302L, 303L);
+        }
+    }
+}
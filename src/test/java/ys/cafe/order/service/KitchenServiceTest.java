@@ -0,0 +1,162 @@
+package ys.cafe.order.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KitchenService 테스트")
+class KitchenServiceTest {
+
+    @Mock
+    private OrderTransactionHelper orderTransactionHelper;
+
+    @Mock
+    private KitchenDisplayPublisher kitchenDisplayPublisher;
+
+    private KitchenQueue kitchenQueue;
+
+    private KitchenService kitchenService;
+
+    @BeforeEach
+    void setUp() {
+        kitchenQueue = new KitchenQueue();
+        kitchenService = new KitchenService(orderTransactionHelper, kitchenQueue, kitchenDisplayPublisher);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 시 DB의 조리/서빙 중 주문으로 대기열을 복원한다")
+    void restoreQueue() {
+        // given
+        OrderResponse preparing = preparing(2L);
+        OrderResponse serving = OrderResponse.from(OrderMother.assignId(OrderMother.orderInServe(1L), 1L));
+        when(orderTransactionHelper.findKitchenOrders()).thenReturn(List.of(serving, preparing));
+
+        // when
+        kitchenService.restoreQueue();
+
+        // then
+        assertThat(kitchenService.getQueue())
+                .extracting(OrderResponse::orderId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("결제가 완료되어 PREPARING이 된 주문은 DB에서 읽어 대기열에 넣고 화면에 알린다")
+    void onOrderStatusChanged_Preparing() {
+        // given
+        OrderResponse order = preparing(1L);
+        when(orderTransactionHelper.findOrder(1L)).thenReturn(Optional.of(order));
+
+        // when
+        kitchenService.onOrderStatusChanged(event(1L, OrderStatus.PREPARING));
+
+        // then
+        assertThat(kitchenService.getQueue()).containsExactly(order);
+        verify(kitchenDisplayPublisher).publishUpdated(order);
+    }
+
+    @Test
+    @DisplayName("대기열에 있는 주문의 상태 변경 이벤트는 DB 조회 없이 반영한다")
+    void onOrderStatusChanged_QueuedOrder() {
+        // given
+        kitchenQueue.put(preparing(1L));
+
+        // when
+        kitchenService.onOrderStatusChanged(event(1L, OrderStatus.SERVE));
+
+        // then
+        assertThat(kitchenQueue.get(1L)).hasValueSatisfying(order ->
+                assertThat(order.orderStatus()).isEqualTo(OrderStatus.SERVE));
+        verify(orderTransactionHelper, never()).findOrder(anyLong());
+        verify(kitchenDisplayPublisher).publishUpdated(any());
+    }
+
+    @Test
+    @DisplayName("이미 처리된 주문의 늦은 이벤트는 DB 상태를 기준으로 무시한다")
+    void onOrderStatusChanged_StaleEvent() {
+        // given
+        OrderResponse completed = OrderResponse.from(OrderMother.assignId(OrderMother.orderInCompleted(1L), 1L));
+        when(orderTransactionHelper.findOrder(1L)).thenReturn(Optional.of(completed));
+
+        // when
+        kitchenService.onOrderStatusChanged(event(1L, OrderStatus.PREPARING));
+
+        // then
+        assertThat(kitchenService.getQueue()).isEmpty();
+        verify(kitchenDisplayPublisher, never()).publishUpdated(any());
+    }
+
+    @Test
+    @DisplayName("서빙 중인 주문에 늦게 도착한 PREPARING 이벤트는 상태를 되돌리지 않는다")
+    void onOrderStatusChanged_DoesNotMoveBackward() {
+        // given
+        kitchenQueue.put(preparing(1L).withOrderStatus(OrderStatus.SERVE));
+
+        // when
+        kitchenService.onOrderStatusChanged(event(1L, OrderStatus.PREPARING));
+
+        // then
+        assertThat(kitchenQueue.get(1L)).hasValueSatisfying(order ->
+                assertThat(order.orderStatus()).isEqualTo(OrderStatus.SERVE));
+        verify(kitchenDisplayPublisher, never()).publishUpdated(any());
+    }
+
+    @Test
+    @DisplayName("취소된 주문은 대기열에서 제거하고 화면에 알린다")
+    void onOrderStatusChanged_Canceled() {
+        // given
+        kitchenQueue.put(preparing(1L));
+
+        // when
+        kitchenService.onOrderStatusChanged(event(1L, OrderStatus.CANCELED));
+
+        // then
+        assertThat(kitchenService.getQueue()).isEmpty();
+        verify(kitchenDisplayPublisher).publishRemoved(1L, OrderStatus.CANCELED);
+    }
+
+    @Test
+    @DisplayName("서빙을 완료하면 대기열에서 바로 제거하고 이후 도착한 같은 이벤트는 무시한다")
+    void completeServing() {
+        // given
+        kitchenQueue.put(preparing(1L).withOrderStatus(OrderStatus.SERVE));
+        OrderResponse completed = OrderResponse.from(OrderMother.assignId(OrderMother.orderInCompleted(1L), 1L));
+        when(orderTransactionHelper.completeServing(1L)).thenReturn(completed);
+
+        // when
+        OrderResponse result = kitchenService.completeServing(1L);
+        kitchenService.onOrderStatusChanged(event(1L, OrderStatus.COMPLETED));
+
+        // then
+        assertThat(result.orderStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(kitchenService.getQueue()).isEmpty();
+        verify(kitchenDisplayPublisher).publishRemoved(1L, OrderStatus.COMPLETED);
+    }
+
+    private static OrderResponse preparing(Long orderId) {
+        return OrderResponse.from(OrderMother.assignId(OrderMother.orderInPreparing(1L), orderId));
+    }
+
+    private static OrderStatusChangedEvent event(Long orderId, OrderStatus orderStatus) {
+        return new OrderStatusChangedEvent(orderId, 1L, orderStatus, LocalDateTime.now());
+    }
+}
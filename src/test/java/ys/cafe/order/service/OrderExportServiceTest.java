@@ -0,0 +1,143 @@
+package ys.cafe.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ys.cafe.common.vo.Won;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
+import ys.cafe.order.repository.OrderRepository;
+import ys.cafe.order.service.dto.OrderExportPeriod;
+import ys.cafe.order.service.dto.OrderSummaryResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExportService 테스트")
+class OrderExportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        orderExportService = new OrderExportService(orderRepository, objectMapper, Duration.ofMinutes(30), 2);
+    }
+
+    @Test
+    @DisplayName("기간 내 주문을 한 줄에 하나씩 NDJSON으로 기록하고 조회 스트림을 닫는다")
+    void exportOrders() throws Exception {
+        // given
+        OrderExportPeriod period = new OrderExportPeriod(LocalDate.of(2025, 11, 5), LocalDate.of(2025, 11, 5));
+        AtomicBoolean streamClosed = new AtomicBoolean(false);
+        Stream<OrderSummaryResponse> summaries = Stream.of(
+                new OrderSummaryResponse(1L, 10L, OrderStatus.COMPLETED, Won.of(4500L), LocalDateTime.of(2025, 11, 5, 9, 0)),
+                new OrderSummaryResponse(2L, 11L, OrderStatus.CANCELED, Won.of(9000L), LocalDateTime.of(2025, 11, 5, 18, 30))
+        ).onClose(() -> streamClosed.set(true));
+        given(orderRepository.streamSummariesBetween(
+                LocalDateTime.of(2025, 11, 5, 0, 0),
+                LocalDateTime.of(2025, 11, 6, 0, 0)
+        )).willReturn(summaries);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long exportedCount = orderExportService.exportOrders(period, outputStream);
+
+        // then
+        assertThat(exportedCount).isEqualTo(2);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n"))
+                .containsExactly(
+                        "{\"orderId\":1,\"memberId\":10,\"orderStatus\":\"COMPLETED\",\"totalPrice\":\"4500\",\"orderDateTime\":\"2025-11-05T09:00:00\"}",
+                        "{\"orderId\":2,\"memberId\":11,\"orderStatus\":\"CANCELED\",\"totalPrice\":\"9000\",\"orderDateTime\":\"2025-11-05T18:30:00\"}"
+                );
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("기간 내 주문이 없으면 아무것도 기록하지 않는다")
+    void exportOrders_Empty() throws Exception {
+        // given
+        OrderExportPeriod period = new OrderExportPeriod(LocalDate.of(2025, 11, 5), LocalDate.of(2025, 11, 6));
+        given(orderRepository.streamSummariesBetween(period.startInclusive(), period.endExclusive()))
+                .willReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long exportedCount = orderExportService.exportOrders(period, outputStream);
+
+        // then
+        assertThat(exportedCount).isZero();
+        assertThat(outputStream.size()).isZero();
+        verify(orderRepository).streamSummariesBetween(
+                LocalDateTime.of(2025, 11, 5, 0, 0),
+                LocalDateTime.of(2025, 11, 7, 0, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("종료일이 시작일보다 앞서면 내보내기 기간을 만들 수 없다")
+    void invalidPeriod() {
+        // when & then
+        assertThatThrownBy(() -> new OrderExportPeriod(LocalDate.of(2025, 11, 6), LocalDate.of(2025, 11, 5)))
+                .isInstanceOf(OrderValidationException.class)
+                .hasMessageContaining("주문 내보내기 기간이 유효하지 않습니다");
+    }
+
+    @Test
+    @DisplayName("내보내기 기간이 최대 기간(31일)을 넘으면 내보내기 기간을 만들 수 없다")
+    void periodTooLong() {
+        // given
+        LocalDate from = LocalDate.of(2025, 11, 1);
+
+        // when
+        OrderExportPeriod maxPeriod = new OrderExportPeriod(from, from.plusDays(OrderExportPeriod.MAX_DAYS - 1));
+
+        // then
+        assertThat(maxPeriod.to()).isEqualTo(LocalDate.of(2025, 12, 1));
+        assertThatThrownBy(() -> new OrderExportPeriod(from, from.plusDays(OrderExportPeriod.MAX_DAYS)))
+                .isInstanceOf(OrderValidationException.class)
+                .extracting(e -> ((OrderValidationException) e).getErrorCode())
+                .isEqualTo(OrderValidationErrorCode.ORDER_EXPORT_PERIOD_TOO_LONG);
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 한도를 넘으면 허가를 얻지 못하고, 진행 중인 내보내기가 허가를 반환하면 다시 얻는다")
+    void tryAcquire_MaxConcurrent() {
+        // given
+        assertThat(orderExportService.tryAcquire()).isTrue();
+        assertThat(orderExportService.tryAcquire()).isTrue();
+
+        // when
+        boolean acquiredOverLimit = orderExportService.tryAcquire();
+        orderExportService.release();
+        boolean acquiredAfterRelease = orderExportService.tryAcquire();
+
+        // then
+        assertThat(acquiredOverLimit).isFalse();
+        assertThat(acquiredAfterRelease).isTrue();
+    }
+}
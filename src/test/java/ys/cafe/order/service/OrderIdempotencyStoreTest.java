@@ -0,0 +1,94 @@
+package ys.cafe.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderIdempotencyStore 테스트")
+class OrderIdempotencyStoreTest {
+
+    private final OrderIdempotencyStore store = new OrderIdempotencyStore(100);
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 요청하면 최초 요청의 응답을 기다려 함께 반환한다")
+    void execute_WaitsForInFlightRequest() throws Exception {
+        // given
+        OrderResponse response = OrderResponse.from(OrderMother.orderWithId(1L, 1L));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<OrderResponse> first = CompletableFuture.supplyAsync(() ->
+                store.execute("order-key-1", () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return response;
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<OrderResponse> replay = CompletableFuture.supplyAsync(() ->
+                store.execute("order-key-1", () -> {
+                    executions.incrementAndGet();
+                    return response;
+                }));
+        release.countDown();
+
+        // then
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(replay.get(1, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("완료된 키는 action을 다시 실행하지 않고 캐시된 응답을 반환한다")
+    void execute_ReturnsCompletedResponse() {
+        // given
+        OrderResponse response = OrderResponse.from(OrderMother.orderWithId(2L, 1L));
+        store.execute("order-key-2", () -> response);
+
+        // when
+        OrderResponse replay = store.execute("order-key-2", () -> {
+            throw new IllegalStateException("다시 실행되면 안 됩니다.");
+        });
+
+        // then
+        assertThat(replay).isEqualTo(response);
+        assertThat(store.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 시도할 수 있다")
+    void execute_FailureIsNotCached() {
+        // given
+        OrderResponse response = OrderResponse.from(OrderMother.orderWithId(3L, 1L));
+
+        // when
+        assertThatThrownBy(() -> store.execute("order-key-3", () -> {
+            throw new OrderValidationException(OrderValidationErrorCode.ORDER_LINE_PRODUCT_NOT_FOUND);
+        })).isInstanceOf(OrderValidationException.class);
+
+        // then
+        assertThat(store.execute("order-key-3", () -> response)).isEqualTo(response);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package ys.cafe.order.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.out.port.PaymentPort;
+import ys.cafe.order.repository.OrderIdempotencyRepository;
+import ys.cafe.order.repository.OrderRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPaymentReconciler 테스트")
+class OrderPaymentReconcilerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderIdempotencyRepository orderIdempotencyRepository;
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private PaymentPort paymentPort;
+
+    private OrderTransactionHelper orderTransactionHelper;
+
+    private OrderPaymentReconciler orderPaymentReconciler;
+
+    @BeforeEach
+    void setUp() {
+        orderTransactionHelper = new OrderTransactionHelper(
+                orderRepository, orderIdempotencyRepository, outbox, new OrderResponseCache(100, Duration.ofSeconds(30)));
+        orderPaymentReconciler = new OrderPaymentReconciler(
+                orderRepository, orderTransactionHelper, paymentPort, Duration.ofMinutes(2), 100);
+    }
+
+    @Test
+    @DisplayName("결제 결과 반영이 실패하여 PAYMENT_WAITING에 남은 주문은 결제 성공 기록에 따라 PREPARING으로 복구한다")
+    void reconcile_RecoversAfterApplyPaymentResultFailure() {
+        // given - 결제는 SUCCESS로 기록되었지만 결제 결과 반영(2차 트랜잭션)이 실패한 주문
+        Long orderId = 10L;
+        Order order = OrderMother.orderWithId(orderId, 1L);
+        when(orderRepository.findById(orderId))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(Optional.of(order));
+        assertThatThrownBy(() -> orderTransactionHelper.applyPaymentResult(orderId, true))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PAYMENT_WAITING);
+
+        when(orderRepository.findOrderIdsByOrderStatusBefore(eq(OrderStatus.PAYMENT_WAITING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(orderId));
+        when(paymentPort.settleStalePayment(orderId)).thenReturn(true);
+
+        // when
+        orderPaymentReconciler.reconcile();
+
+        // then
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PREPARING);
+        verify(outbox).append(argThat(event -> event instanceof OrderStatusChangedEvent changed
+                && changed.orderId().equals(orderId)
+                && changed.orderStatus() == OrderStatus.PREPARING));
+    }
+
+    @Test
+    @DisplayName("결제가 실패했거나 결과가 기록되지 않은 주문은 PAYMENT_FAILED로 정산한다")
+    void reconcile_PaymentNotSucceeded() {
+        // given
+        Long orderId = 11L;
+        Order order = OrderMother.orderWithId(orderId, 1L);
+        when(orderRepository.findOrderIdsByOrderStatusBefore(eq(OrderStatus.PAYMENT_WAITING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(orderId));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(paymentPort.settleStalePayment(orderId)).thenReturn(false);
+
+        // when
+        orderPaymentReconciler.reconcile();
+
+        // then
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+    }
+
+    @Test
+    @DisplayName("정산 중 결제 결과가 먼저 반영된 주문은 변경하지 않는다")
+    void reconcile_AlreadyApplied() {
+        // given
+        Long orderId = 12L;
+        Order order = OrderMother.assignId(OrderMother.orderInPreparing(1L), orderId);
+        when(orderRepository.findOrderIdsByOrderStatusBefore(eq(OrderStatus.PAYMENT_WAITING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(orderId));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(paymentPort.settleStalePayment(orderId)).thenReturn(true);
+
+        // when
+        orderPaymentReconciler.reconcile();
+
+        // then
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PREPARING);
+        verify(outbox, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("한 주문의 정산이 실패해도 나머지 주문과 결과 미기록 결제 취소 등록은 계속 진행한다")
+    void reconcile_ContinuesAfterFailure() {
+        // given
+        Order order = OrderMother.orderWithId(14L, 1L);
+        when(orderRepository.findOrderIdsByOrderStatusBefore(eq(OrderStatus.PAYMENT_WAITING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(13L, 14L));
+        when(paymentPort.settleStalePayment(13L)).thenThrow(new DataAccessResourceFailureException("timeout"));
+        when(paymentPort.settleStalePayment(14L)).thenReturn(true);
+        when(orderRepository.findById(14L)).thenReturn(Optional.of(order));
+
+        // when
+        orderPaymentReconciler.reconcile();
+
+        // then
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PREPARING);
+        verify(paymentPort).cancelStalePendingPayments(any(LocalDateTime.class), eq(100));
+    }
+}
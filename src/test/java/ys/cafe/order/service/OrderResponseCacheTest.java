@@ -0,0 +1,50 @@
+package ys.cafe.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderResponseCache 테스트")
+class OrderResponseCacheTest {
+
+    private final OrderResponseCache cache = new OrderResponseCache(100, Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("상태 변경으로 저장한 응답은 이전 상태의 조회 결과로 덮어쓰지 않는다")
+    void put_DoesNotMoveBackward() {
+        // given
+        OrderResponse preparing = OrderResponse.from(OrderMother.assignId(OrderMother.orderInPreparing(1L), 1L));
+        cache.putAfterCommit(preparing.withOrderStatus(OrderStatus.SERVE));
+
+        // when
+        cache.put(preparing);
+
+        // then
+        assertThat(cache.get(1L)).hasValueSatisfying(cached ->
+                assertThat(cached.orderStatus()).isEqualTo(OrderStatus.SERVE));
+    }
+
+    @Test
+    @DisplayName("캐시에서 응답하면 응답 횟수와 저장 이후 경과 시간을 집계한다")
+    void get_RecordsStaleness() {
+        // given
+        cache.put(OrderResponse.from(OrderMother.orderWithId(1L, 1L)));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        assertThat(cache.servedCount()).isEqualTo(2);
+        assertThat(cache.servedAge(TimeUnit.NANOSECONDS)).isNotNegative();
+        assertThat(cache.stats().hitRate()).isEqualTo(2.0 / 3);
+    }
+}
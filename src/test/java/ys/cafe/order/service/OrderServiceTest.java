@@ -1,21 +1,25 @@
 package ys.cafe.order.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import ys.cafe.common.outbox.Outbox;
 import ys.cafe.member.service.MemberService;
-import ys.cafe.member.service.dto.response.MemberResponse;
+import ys.cafe.member.service.dto.response.MemberAdmission;
 import ys.cafe.order.domain.Order;
 import ys.cafe.order.domain.OrderLine;
 import ys.cafe.order.domain.OrderStatus;
-import ys.cafe.order.domain.vo.Won;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+import ys.cafe.common.vo.Won;
 import ys.cafe.order.exception.OrderValidationException;
 import ys.cafe.order.objectmother.*;
 import ys.cafe.order.out.port.PaymentPort;
@@ -24,9 +28,12 @@ import ys.cafe.order.repository.OrderRepository;
 import ys.cafe.order.service.dto.*;
 import ys.cafe.payment.out.port.MemberPort;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -51,11 +58,26 @@ class OrderServiceTest {
     @Mock
     private MemberService memberService;
 
+    @Mock
+    private OrderTransactionHelper orderTransactionHelper;
+
+    @Mock
+    private Outbox outbox;
+
+    @Spy
+    private OrderIdempotencyStore orderIdempotencyStore = new OrderIdempotencyStore(100);
+
+    @Spy
+    private OrderResponseCache orderResponseCache = new OrderResponseCache(100, Duration.ofSeconds(30));
+
+    @Spy
+    private OrderPlacementMetrics orderPlacementMetrics = new OrderPlacementMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private OrderService orderService;
 
     @Test
-    @DisplayName("주문 생성 시 결제가 성공하면 주문 상태가 PREPARING으로 변경된다")
+    @DisplayName("주문 생성 시 PAYMENT_WAITING 상태로 즉시 응답하고, 결제가 성공하면 결제 결과를 반영한다")
     void placeOrder_Success() {
         // given
         Long memberId = 1L;
@@ -74,26 +96,57 @@ class OrderServiceTest {
                 }).toList();
 
         // Mock 활성 회원
-        MemberResponse activeMember = mock(MemberResponse.class);
-        when(activeMember.status()).thenReturn("ACTIVE");
-        when(memberService.getMember(memberId)).thenReturn(activeMember);
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
 
+        Order savedOrder = OrderMother.orderWithLinesAndId(10L, memberId, orderLines);
         when(productPort.findAvailableProductsByIds(List.of(1L, 2L))).thenReturn(availableProducts);
-        when(orderRepository.save(any(Order.class))).thenReturn(OrderMother.orderWithLinesAndId(10L, memberId, orderLines));
-        when(paymentPort.processPayment(anyLong(), anyLong(), any(Won.class)))
-                .thenReturn(true);
+        when(orderTransactionHelper.saveNewOrder(any(Order.class))).thenReturn(savedOrder);
+        when(paymentPort.processPaymentAsync(anyLong(), anyLong(), any(Won.class)))
+                .thenReturn(CompletableFuture.completedFuture(true));
 
         // when
         OrderResponse response = orderService.placeOrder(orderCreateRequest);
 
         // then
-        assertThat(response.orderStatus()).isEqualTo(OrderStatus.PREPARING);
+        assertThat(response.orderStatus()).isEqualTo(OrderStatus.PAYMENT_WAITING);
         assertThat(response.totalPrice()).isEqualTo("14000");
         assertThat(response.orderLines()).hasSize(2);
 
-        verify(paymentPort).processPayment(eq(10L), eq(memberId), eq(Won.of("14000")));
+        verify(paymentPort).processPaymentAsync(eq(10L), eq(memberId), eq(Won.of("14000")));
+        verify(orderTransactionHelper).applyPaymentResult(10L, true);
         verify(productPort).findAvailableProductsByIds(List.of(1L, 2L));
-        verify(orderRepository).save(any(Order.class));
+        verify(orderTransactionHelper).saveNewOrder(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 주문 저장 커밋 이후 결제를 호출하고, 결제 결과는 별도 트랜잭션으로 반영한다")
+    void placeOrder_StagedPipeline() {
+        // given
+        Long memberId = 1L;
+        Long orderId = 11L;
+        OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
+
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
+
+        Order savedOrder = OrderMother.orderWithId(orderId, memberId);
+        when(productPort.findAvailableProductsByIds(List.of(1L, 2L))).thenReturn(ProductDTOMother.availableProducts());
+        when(orderTransactionHelper.saveNewOrder(any(Order.class))).thenReturn(savedOrder);
+        when(paymentPort.processPaymentAsync(anyLong(), anyLong(), any(Won.class)))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        // when
+        orderService.placeOrder(orderCreateRequest);
+
+        // then
+        InOrder inOrder = inOrder(orderTransactionHelper, paymentPort);
+        inOrder.verify(orderTransactionHelper).saveNewOrder(any(Order.class));
+        inOrder.verify(paymentPort).processPaymentAsync(eq(orderId), eq(memberId), any(Won.class));
+        inOrder.verify(orderTransactionHelper).applyPaymentResult(orderId, true);
+        verify(orderRepository, never()).save(any());
     }
 
     @Test
@@ -103,12 +156,12 @@ class OrderServiceTest {
         Long memberId = 1L;
 
         // Mock 활성 회원
-        MemberResponse activeMember = mock(MemberResponse.class);
-        when(activeMember.status()).thenReturn("ACTIVE");
-        when(memberService.getMember(memberId)).thenReturn(activeMember);
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
 
         when(productPort.findAvailableProductsByIds(List.of(1L, 2L)))
-                .thenReturn(List.of(ProductDTO.of(1L, "아메리카노", "4500")));
+                .thenReturn(List.of(ProductDTO.of(1L, "아메리카노", 4500L)));
 
         // when & then
         assertThatThrownBy(() -> orderService.placeOrder(
@@ -122,8 +175,8 @@ class OrderServiceTest {
                 .isInstanceOf(OrderValidationException.class)
                 .hasMessageContaining("상품을 찾을 수 없습니다");
 
-        verify(orderRepository, never()).save(any());
-        verify(paymentPort, never()).processPayment(anyLong(), anyLong(), any());
+        verify(orderTransactionHelper, never()).saveNewOrder(any());
+        verify(paymentPort, never()).processPaymentAsync(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -137,27 +190,178 @@ class OrderServiceTest {
         OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
 
         // Mock 활성 회원
-        MemberResponse activeMember = mock(MemberResponse.class);
-        when(activeMember.status()).thenReturn("ACTIVE");
-        when(memberService.getMember(memberId)).thenReturn(activeMember);
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
 
         when(productPort.findAvailableProductsByIds(List.of(1L, 2L))).thenReturn(availableProducts);
 
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+        Order[] savedOrder = new Order[1];
+        when(orderTransactionHelper.saveNewOrder(any(Order.class))).thenAnswer(invocation -> {
             Order order = (Order) invocation.getArgument(0);
             OrderMother.setField(order, "orderId", orderId);
+            savedOrder[0] = order;
             return order;
         } );
 
-        when(paymentPort.processPayment(anyLong(), anyLong(), any(Won.class)))
-                .thenReturn(false);
+        when(paymentPort.processPaymentAsync(anyLong(), anyLong(), any(Won.class)))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        // when
+        OrderResponse response = orderService.placeOrder(orderCreateRequest);
+
+        // then
+        assertThat(response.orderId()).isEqualTo(savedOrder[0].getOrderId());
+        assertThat(response.orderStatus()).isEqualTo(OrderStatus.PAYMENT_WAITING);
+        verify(paymentPort).processPaymentAsync(eq(orderId), eq(memberId), any(Won.class));
+        verify(orderTransactionHelper).applyPaymentResult(orderId, false);
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 결제 응답 전에는 결제 결과를 반영하지 않고, 응답이 도착하면 반영한다")
+    void placeOrder_PaymentPending() {
+        // given
+        Long memberId = 1L;
+        Long orderId = 21L;
+        OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
+
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
+
+        Order savedOrder = OrderMother.orderWithId(orderId, memberId);
+        when(productPort.findAvailableProductsByIds(List.of(1L, 2L))).thenReturn(ProductDTOMother.availableProducts());
+        when(orderTransactionHelper.saveNewOrder(any(Order.class))).thenReturn(savedOrder);
+
+        CompletableFuture<Boolean> paymentFuture = new CompletableFuture<>();
+        when(paymentPort.processPaymentAsync(anyLong(), anyLong(), any(Won.class))).thenReturn(paymentFuture);
 
         // when
         OrderResponse response = orderService.placeOrder(orderCreateRequest);
 
         // then
-        assertThat(response.orderStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
-        verify(paymentPort).processPayment(eq(orderId), eq(memberId), any(Won.class));
+        assertThat(response.orderStatus()).isEqualTo(OrderStatus.PAYMENT_WAITING);
+        verify(orderTransactionHelper, never()).applyPaymentResult(anyLong(), anyBoolean());
+
+        paymentFuture.complete(true);
+        verify(orderTransactionHelper).applyPaymentResult(orderId, true);
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 결제 중 예외가 발생하면 결제 실패로 반영한다")
+    void placeOrder_PaymentException() {
+        // given
+        Long memberId = 1L;
+        Long orderId = 22L;
+        OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
+
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
+
+        Order savedOrder = OrderMother.orderWithId(orderId, memberId);
+        when(productPort.findAvailableProductsByIds(List.of(1L, 2L))).thenReturn(ProductDTOMother.availableProducts());
+        when(orderTransactionHelper.saveNewOrder(any(Order.class))).thenReturn(savedOrder);
+        when(paymentPort.processPaymentAsync(anyLong(), anyLong(), any(Won.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("게이트웨이 오류")));
+
+        // when
+        OrderResponse response = orderService.placeOrder(orderCreateRequest);
+
+        // then
+        assertThat(response.orderStatus()).isEqualTo(OrderStatus.PAYMENT_WAITING);
+        verify(orderTransactionHelper).applyPaymentResult(orderId, false);
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 재시도하면 새 주문을 만들지 않고 최초 응답을 반환한다")
+    void placeOrder_IdempotentReplay() {
+        // given
+        Long memberId = 1L;
+        Long orderId = 23L;
+        OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
+
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
+
+        Order savedOrder = OrderMother.orderWithId(orderId, memberId);
+        when(orderTransactionHelper.findOrderByIdempotencyKey("order-key-1")).thenReturn(Optional.empty());
+        when(productPort.findAvailableProductsByIds(List.of(1L, 2L))).thenReturn(ProductDTOMother.availableProducts());
+        when(orderTransactionHelper.saveNewOrder(any(Order.class), eq("order-key-1"))).thenReturn(savedOrder);
+        when(paymentPort.processPaymentAsync(anyLong(), anyLong(), any(Won.class)))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        // when
+        OrderResponse first = orderService.placeOrder(orderCreateRequest, "order-key-1");
+        OrderResponse replay = orderService.placeOrder(orderCreateRequest, "order-key-1");
+
+        // then
+        assertThat(replay).isEqualTo(first);
+        assertThat(replay.orderId()).isEqualTo(orderId);
+        verify(memberService, times(1)).getMemberAdmission(memberId);
+        verify(productPort, times(1)).findAvailableProductsByIds(anyList());
+        verify(paymentPort, times(1)).processPaymentAsync(anyLong(), anyLong(), any(Won.class));
+        verify(orderTransactionHelper, never()).saveNewOrder(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("인메모리 저장소에 없는 멱등성 키는 DB에 기록된 주문을 반환하고 회원/상품/결제를 호출하지 않는다")
+    void placeOrder_IdempotentReplayFromDatabase() {
+        // given
+        Long memberId = 1L;
+        OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
+        OrderResponse stored = OrderResponse.from(OrderMother.orderWithId(24L, memberId));
+        when(orderTransactionHelper.findOrderByIdempotencyKey("order-key-2")).thenReturn(Optional.of(stored));
+
+        // when
+        OrderResponse response = orderService.placeOrder(orderCreateRequest, "order-key-2");
+
+        // then
+        assertThat(response).isEqualTo(stored);
+        verifyNoInteractions(memberService, productPort, paymentPort);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 같은 멱등성 키로 먼저 저장하면 해당 노드가 생성한 주문을 반환한다")
+    void placeOrder_IdempotencyKeyRace() {
+        // given
+        Long memberId = 1L;
+        OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
+        OrderResponse winner = OrderResponse.from(OrderMother.orderWithId(25L, memberId));
+
+        MemberAdmission activeMember = mock(MemberAdmission.class);
+        when(activeMember.isActive()).thenReturn(true);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(activeMember);
+
+        when(orderTransactionHelper.findOrderByIdempotencyKey("order-key-3"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(productPort.findAvailableProductsByIds(List.of(1L, 2L))).thenReturn(ProductDTOMother.availableProducts());
+        when(orderTransactionHelper.saveNewOrder(any(Order.class), eq("order-key-3")))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'order-key-3'"));
+
+        // when
+        OrderResponse response = orderService.placeOrder(orderCreateRequest, "order-key-3");
+
+        // then
+        assertThat(response).isEqualTo(winner);
+        verifyNoInteractions(paymentPort);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 주문에 사용된 멱등성 키로 주문하면 예외가 발생한다")
+    void placeOrder_IdempotencyKeyConflict() {
+        // given
+        OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(2L);
+        OrderResponse stored = OrderResponse.from(OrderMother.orderWithId(26L, 1L));
+        when(orderTransactionHelper.findOrderByIdempotencyKey("order-key-4")).thenReturn(Optional.of(stored));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.placeOrder(orderCreateRequest, "order-key-4"))
+                .isInstanceOf(OrderValidationException.class)
+                .hasMessageContaining("멱등성 키");
+        verifyNoInteractions(memberService, productPort, paymentPort);
     }
 
     @Test
@@ -167,7 +371,7 @@ class OrderServiceTest {
         Long memberId = 1L;
         Long orderId = 30L;
         Order order = OrderMother.orderWithId(orderId, memberId);
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderTransactionHelper.findOrder(orderId)).thenReturn(Optional.of(OrderResponse.from(order)));
 
         // when
         OrderResponse response = orderService.getOrder(orderId);
@@ -175,7 +379,25 @@ class OrderServiceTest {
         // then
         assertThat(response.orderId()).isEqualTo(orderId);
         assertThat(response.memberId()).isEqualTo(memberId);
-        verify(orderRepository).findById(orderId);
+        verify(orderTransactionHelper).findOrder(orderId);
+    }
+
+    @Test
+    @DisplayName("최근 조회한 주문은 DB 조회 없이 캐시에서 응답한다")
+    void getOrder_CacheHit() {
+        // given
+        Long orderId = 31L;
+        Order order = OrderMother.orderWithId(orderId, 1L);
+        when(orderTransactionHelper.findOrder(orderId)).thenReturn(Optional.of(OrderResponse.from(order)));
+        orderService.getOrder(orderId);
+
+        // when
+        OrderResponse response = orderService.getOrder(orderId);
+
+        // then
+        assertThat(response.orderId()).isEqualTo(orderId);
+        verify(orderTransactionHelper, times(1)).findOrder(orderId);
+        assertThat(orderResponseCache.stats().hits()).isEqualTo(1);
     }
 
     @Test
@@ -183,75 +405,140 @@ class OrderServiceTest {
     void getOrder_NotFound() {
         // given
         Long orderId = 999L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderTransactionHelper.findOrder(orderId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> orderService.getOrder(orderId))
                 .isInstanceOf(OrderValidationException.class)
                 .hasMessageContaining("주문을 찾을 수 없습니다");
 
-        verify(orderRepository).findById(orderId);
+        verify(orderTransactionHelper).findOrder(orderId);
     }
 
     @Test
-    @DisplayName("전체 주문 목록을 조회할 수 있다")
-    void getAllOrders_Success() {
+    @DisplayName("전체 주문 첫 페이지를 조회하면 다음 페이지 커서를 반환한다")
+    void getAllOrders_FirstPage() {
         // given
         Long memberId = 1L;
-        Order order1 = OrderMother.orderWithId(100L, memberId);
+        Order order1 = OrderMother.orderWithId(102L, memberId);
         Order order2 = OrderMother.orderWithId(101L, memberId);
-        when(orderRepository.findAll(any(Pageable.class)))
-                .thenAnswer(invocation -> {
-                    Pageable pageable = invocation.getArgument(0, Pageable.class);
-                    return new PageImpl<>(List.of(order1, order2), pageable, 2);
-                });
+        Order order3 = OrderMother.orderWithId(100L, memberId);
+        when(orderRepository.findLatest(Limit.of(3))).thenReturn(List.of(order1, order2, order3));
 
         // when
-        OrderListResponse response = orderService.getAllOrders(0, 20);
+        OrderSliceResponse<OrderResponse> response = orderService.getAllOrders(null, 2, false);
 
         // then
-        assertThat(response.orders()).hasSize(2);
-        assertThat(response.totalElements()).isEqualTo(2);
-        assertThat(response.page()).isEqualTo(0);
-        assertThat(response.size()).isEqualTo(20);
-        assertThat(response.totalPages()).isEqualTo(1);
+        assertThat(response.orders()).extracting(OrderResponse::orderId).containsExactly(102L, 101L);
+        assertThat(response.size()).isEqualTo(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(OrderCursor.decode(response.nextCursor())).isEqualTo(OrderCursor.from(order2));
+        assertThat(response.totalElements()).isNull();
+        verify(orderRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("커서로 전체 주문 다음 페이지를 조회하고 요청 시 전체 건수를 포함한다")
+    void getAllOrders_NextPageWithTotal() {
+        // given
+        Long memberId = 1L;
+        Order lastOrder = OrderMother.orderWithId(101L, memberId);
+        OrderCursor cursor = OrderCursor.from(lastOrder);
+        Order order = OrderMother.orderWithId(100L, memberId);
+        when(orderRepository.findLatestBefore(cursor.orderDateTime(), cursor.orderId(), Limit.of(3)))
+                .thenReturn(List.of(order));
+        when(orderRepository.count()).thenReturn(3L);
+
+        // when
+        OrderSliceResponse<OrderResponse> response = orderService.getAllOrders(cursor.encode(), 2, true);
+
+        // then
+        assertThat(response.orders()).extracting(OrderResponse::orderId).containsExactly(100L);
         assertThat(response.hasNext()).isFalse();
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(orderRepository).findAll(pageableCaptor.capture());
-        Pageable captured = pageableCaptor.getValue();
-        assertThat(captured.getPageNumber()).isEqualTo(0);
-        assertThat(captured.getPageSize()).isEqualTo(20);
+        assertThat(response.nextCursor()).isNull();
+        assertThat(response.totalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("주문 요약 목록은 프로젝션으로 조회하고 마지막 요약으로 다음 커서를 만든다")
+    void getOrderSummaries_Success() {
+        // given
+        LocalDateTime orderDateTime = LocalDateTime.of(2025, 11, 5, 10, 30);
+        OrderSummaryResponse summary1 = new OrderSummaryResponse(3L, 1L, OrderStatus.PREPARING, Won.of(4500L), orderDateTime);
+        OrderSummaryResponse summary2 = new OrderSummaryResponse(2L, 1L, OrderStatus.COMPLETED, Won.of(9000L), orderDateTime);
+        OrderSummaryResponse summary3 = new OrderSummaryResponse(1L, 2L, OrderStatus.CANCELED, Won.of(5000L), orderDateTime.minusMinutes(1));
+        when(orderRepository.findLatestSummaries(Limit.of(3))).thenReturn(List.of(summary1, summary2, summary3));
+
+        // when
+        OrderSliceResponse<OrderSummaryResponse> response = orderService.getOrderSummaries(null, 2, false);
+
+        // then
+        assertThat(response.orders()).containsExactly(summary1, summary2);
+        assertThat(response.orders().get(0).totalPrice()).isEqualTo("4500");
+        assertThat(response.hasNext()).isTrue();
+        assertThat(OrderCursor.decode(response.nextCursor())).isEqualTo(new OrderCursor(orderDateTime, 2L));
+        verify(orderRepository, never()).findLatest(any());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서로 주문 목록을 조회하면 예외가 발생한다")
+    void getAllOrders_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> orderService.getAllOrders("not-a-cursor", 20, false))
+                .isInstanceOf(OrderValidationException.class)
+                .hasMessageContaining("커서");
+
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
-    @DisplayName("회원 ID로 주문 목록을 조회할 수 있다")
+    @DisplayName("회원 ID로 주문 목록을 커서 기반으로 조회할 수 있다")
     void getMemberOrders_Success() {
         // given
         Long memberId = 1L;
-        Order order1 = OrderMother.orderWithId(200L, memberId);
-        Order order2 = OrderMother.orderWithId(201L, memberId);
-        when(orderRepository.findByMemberId(memberId)).thenReturn(List.of(order1, order2));
+        Order order1 = OrderMother.orderWithId(201L, memberId);
+        Order order2 = OrderMother.orderWithId(200L, memberId);
+        when(orderRepository.findLatestByMemberId(memberId, Limit.of(21))).thenReturn(List.of(order1, order2));
 
         // when
-        OrderListResponse response = orderService.getMemberOrders(memberId);
+        OrderSliceResponse<OrderResponse> response = orderService.getMemberOrders(memberId, null, 20, false);
 
         // then
         assertThat(response.orders()).hasSize(2);
-        assertThat(response.totalElements()).isEqualTo(2);
-        assertThat(response.size()).isEqualTo(2);
-        assertThat(response.page()).isEqualTo(0);
-        assertThat(response.totalPages()).isEqualTo(1);
+        assertThat(response.size()).isEqualTo(20);
         assertThat(response.hasNext()).isFalse();
-        verify(orderRepository).findByMemberId(memberId);
+        assertThat(response.nextCursor()).isNull();
+        assertThat(response.totalElements()).isNull();
+        verify(orderRepository, never()).countByMemberId(anyLong());
     }
 
     @Test
-    @DisplayName("주문 취소 시 회원이 일치하면 결제 취소를 호출한다")
+    @DisplayName("커서로 회원 주문 다음 페이지를 조회할 수 있다")
+    void getMemberOrders_NextPage() {
+        // given
+        Long memberId = 1L;
+        OrderCursor cursor = OrderCursor.from(OrderMother.orderWithId(201L, memberId));
+        Order order = OrderMother.orderWithId(200L, memberId);
+        when(orderRepository.findLatestByMemberIdBefore(memberId, cursor.orderDateTime(), cursor.orderId(), Limit.of(21)))
+                .thenReturn(List.of(order));
+        when(orderRepository.countByMemberId(memberId)).thenReturn(2L);
+
+        // when
+        OrderSliceResponse<OrderResponse> response = orderService.getMemberOrders(memberId, cursor.encode(), 20, true);
+
+        // then
+        assertThat(response.orders()).extracting(OrderResponse::orderId).containsExactly(200L);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.totalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("주문 취소 시 회원이 일치하면 결제 취소를 호출하고 취소 이벤트를 아웃박스에 기록한다")
     void cancelOrder_Success() {
         // given
         Long memberId = 1L;
         Long orderId = 300L;
-        Order order = OrderMother.orderWithId(orderId, memberId);
+        Order order = OrderMother.assignId(OrderMother.orderInPreparing(memberId), orderId);
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
 
         // when
@@ -261,6 +548,11 @@ class OrderServiceTest {
         assertThat(response.orderId()).isEqualTo(orderId);
         verify(paymentPort).cancelPayment(orderId);
         verify(orderRepository).save(order);
+        verify(outbox).append(argThat(event -> event instanceof OrderStatusChangedEvent changed
+                && changed.orderId().equals(orderId)
+                && changed.orderStatus() == OrderStatus.CANCELED));
+        assertThat(orderResponseCache.get(orderId)).hasValueSatisfying(cached ->
+                assertThat(cached.orderStatus()).isEqualTo(OrderStatus.CANCELED));
     }
 
     @Test
@@ -281,6 +573,25 @@ class OrderServiceTest {
         verify(orderRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("결제 진행 중인 주문은 결제 취소를 호출하지 않고 취소를 거절한다")
+    void cancelOrder_PaymentWaiting() {
+        // given
+        Long memberId = 1L;
+        Long orderId = 450L;
+        Order order = OrderMother.orderWithId(orderId, memberId);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId, memberId))
+                .isInstanceOf(OrderValidationException.class)
+                .hasMessageContaining("결제 진행 중인 주문은 취소할 수 없습니다");
+
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PAYMENT_WAITING);
+        verify(paymentPort, never()).cancelPayment(anyLong());
+        verify(orderRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("주문 취소 시 주문을 찾을 수 없으면 예외가 발생한다")
     void cancelOrder_OrderNotFound() {
@@ -306,17 +617,17 @@ class OrderServiceTest {
         OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
 
         // Mock 탈퇴 요청 회원
-        MemberResponse withdrawnMember = mock(MemberResponse.class);
-        when(withdrawnMember.status()).thenReturn("WITHDRAW_REQUESTED");
-        when(memberService.getMember(memberId)).thenReturn(withdrawnMember);
+        MemberAdmission withdrawnMember = mock(MemberAdmission.class);
+        when(withdrawnMember.isActive()).thenReturn(false);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(withdrawnMember);
 
         // when & then
         assertThatThrownBy(() -> orderService.placeOrder(orderCreateRequest))
                 .isInstanceOf(ys.cafe.member.exception.MemberValidationException.class);
 
         verify(productPort, never()).findAvailableProductsByIds(any());
-        verify(orderRepository, never()).save(any());
-        verify(paymentPort, never()).processPayment(anyLong(), anyLong(), any());
+        verify(orderTransactionHelper, never()).saveNewOrder(any());
+        verify(paymentPort, never()).processPaymentAsync(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -327,17 +638,17 @@ class OrderServiceTest {
         OrderCreateRequest orderCreateRequest = OrderCreateRequestMother.requestForMember(memberId);
 
         // Mock 삭제된 회원
-        MemberResponse deletedMember = mock(MemberResponse.class);
-        when(deletedMember.status()).thenReturn("DELETED");
-        when(memberService.getMember(memberId)).thenReturn(deletedMember);
+        MemberAdmission deletedMember = mock(MemberAdmission.class);
+        when(deletedMember.isActive()).thenReturn(false);
+        when(memberService.getMemberAdmission(memberId)).thenReturn(deletedMember);
 
         // when & then
         assertThatThrownBy(() -> orderService.placeOrder(orderCreateRequest))
                 .isInstanceOf(ys.cafe.member.exception.MemberValidationException.class);
 
         verify(productPort, never()).findAvailableProductsByIds(any());
-        verify(orderRepository, never()).save(any());
-        verify(paymentPort, never()).processPayment(anyLong(), anyLong(), any());
+        verify(orderTransactionHelper, never()).saveNewOrder(any());
+        verify(paymentPort, never()).processPaymentAsync(anyLong(), anyLong(), any());
     }
 
 }
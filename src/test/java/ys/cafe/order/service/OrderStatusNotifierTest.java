@@ -0,0 +1,100 @@
+package ys.cafe.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.exception.errorcode.OrderValidationErrorCode;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderStatusNotifier 테스트")
+class OrderStatusNotifierTest {
+
+    private final OrderStatusNotifier notifier = new OrderStatusNotifier(
+            Duration.ofMinutes(30), Duration.ofSeconds(10), 32, Runnable::run);
+
+    @Test
+    @DisplayName("주문별 구독은 최종 상태 이벤트를 받으면 연결을 종료하고 구독을 제거한다")
+    void subscribeOrder_CompletesOnFinalStatus() {
+        // given
+        SseEmitter emitter = notifier.subscribeOrder(1L, () -> event(1L, OrderStatus.PREPARING));
+        notifier.onOrderStatusChanged(event(1L, OrderStatus.SERVE));
+        assertThat(notifier.subscriberCount()).isEqualTo(1);
+
+        // when
+        notifier.onOrderStatusChanged(event(1L, OrderStatus.COMPLETED));
+
+        // then
+        assertThat(notifier.subscriberCount()).isZero();
+        assertThatThrownBy(() -> emitter.send("after-complete"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("구독 시점에 이미 최종 상태인 주문은 현재 상태만 보내고 연결을 종료한다")
+    void subscribeOrder_AlreadyFinal() {
+        // when
+        notifier.subscribeOrder(1L, () -> event(1L, OrderStatus.CANCELED));
+
+        // then
+        assertThat(notifier.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문이 없으면 예외를 그대로 던지고 구독을 남기지 않는다")
+    void subscribeOrder_OrderNotFound() {
+        // when & then
+        assertThatThrownBy(() -> notifier.subscribeOrder(999L, () -> {
+            throw new OrderValidationException(OrderValidationErrorCode.ORDER_NOT_FOUND);
+        })).isInstanceOf(OrderValidationException.class);
+
+        assertThat(notifier.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원별 구독은 주문이 최종 상태가 되어도 유지된다")
+    void subscribeMember_KeepsSubscription() {
+        // given
+        notifier.subscribeMember(1L);
+        notifier.subscribeMember(1L);
+
+        // when
+        notifier.onOrderStatusChanged(event(1L, OrderStatus.PREPARING));
+        notifier.onOrderStatusChanged(event(1L, OrderStatus.COMPLETED));
+
+        // then
+        assertThat(notifier.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 느린 구독자는 대기 이벤트 한도를 넘으면 알림 스레드를 막지 않고 연결을 끊는다")
+    void onOrderStatusChanged_DisconnectsSlowSubscriber() {
+        // given - 전송 작업이 실행되지 않는(응답을 읽지 않는) 연결
+        List<Runnable> queuedWrites = new ArrayList<>();
+        OrderStatusNotifier slowNotifier = new OrderStatusNotifier(
+                Duration.ofMinutes(30), Duration.ofSeconds(10), 2, queuedWrites::add);
+        slowNotifier.subscribeMember(1L);
+
+        // when
+        slowNotifier.onOrderStatusChanged(event(1L, OrderStatus.PAYMENT_WAITING));
+        slowNotifier.onOrderStatusChanged(event(1L, OrderStatus.PREPARING));
+        assertThat(slowNotifier.subscriberCount()).isEqualTo(1);
+        slowNotifier.onOrderStatusChanged(event(1L, OrderStatus.SERVE));
+
+        // then
+        assertThat(slowNotifier.subscriberCount()).isZero();
+    }
+
+    private static OrderStatusChangedEvent event(Long orderId, OrderStatus orderStatus) {
+        return new OrderStatusChangedEvent(orderId, 1L, orderStatus, LocalDateTime.now());
+    }
+}
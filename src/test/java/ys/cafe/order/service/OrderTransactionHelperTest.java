@@ -0,0 +1,159 @@
+package ys.cafe.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.order.domain.Order;
+import ys.cafe.order.domain.OrderIdempotency;
+import ys.cafe.order.domain.OrderStatus;
+import ys.cafe.order.event.OrderStatusChangedEvent;
+import ys.cafe.order.exception.OrderValidationException;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.repository.OrderIdempotencyRepository;
+import ys.cafe.order.repository.OrderRepository;
+import ys.cafe.order.service.dto.OrderResponse;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderTransactionHelper 테스트")
+class OrderTransactionHelperTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderIdempotencyRepository orderIdempotencyRepository;
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private OrderResponseCache orderResponseCache;
+
+    @InjectMocks
+    private OrderTransactionHelper orderTransactionHelper;
+
+    @Test
+    @DisplayName("결제 성공 결과를 반영하면 주문 상태가 PREPARING으로 변경되고 상태 변경 이벤트를 아웃박스에 기록한다")
+    void applyPaymentResult_Success() {
+        // given
+        Long orderId = 1L;
+        Order order = OrderMother.orderWithId(orderId, 1L);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // when
+        Order result = orderTransactionHelper.applyPaymentResult(orderId, true);
+
+        // then
+        assertThat(result.getOrderStatus()).isEqualTo(OrderStatus.PREPARING);
+        verify(outbox).append(argThat(event -> event instanceof OrderStatusChangedEvent changed
+                && changed.orderId().equals(orderId)
+                && changed.orderStatus() == OrderStatus.PREPARING));
+    }
+
+    @Test
+    @DisplayName("결제 실패 결과를 반영하면 주문 상태가 PAYMENT_FAILED로 변경된다")
+    void applyPaymentResult_Failed() {
+        // given
+        Long orderId = 2L;
+        Order order = OrderMother.orderWithId(orderId, 1L);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // when
+        Order result = orderTransactionHelper.applyPaymentResult(orderId, false);
+
+        // then
+        assertThat(result.getOrderStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+    }
+
+    @Test
+    @DisplayName("결제 결과 반영 시 주문이 없으면 예외가 발생한다")
+    void applyPaymentResult_OrderNotFound() {
+        // given
+        Long orderId = 999L;
+        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderTransactionHelper.applyPaymentResult(orderId, true))
+                .isInstanceOf(OrderValidationException.class)
+                .hasMessageContaining("주문을 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("서빙을 시작하면 주문 상태가 SERVE로 변경되고 상태 변경 이벤트를 아웃박스에 기록한다")
+    void startServing() {
+        // given
+        Long orderId = 3L;
+        Order order = OrderMother.assignId(OrderMother.orderInPreparing(1L), orderId);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // when
+        OrderResponse result = orderTransactionHelper.startServing(orderId);
+
+        // then
+        assertThat(result.orderStatus()).isEqualTo(OrderStatus.SERVE);
+        verify(orderResponseCache).putAfterCommit(result);
+        verify(outbox).append(argThat(event -> event instanceof OrderStatusChangedEvent changed
+                && changed.orderId().equals(orderId)
+                && changed.orderStatus() == OrderStatus.SERVE));
+    }
+
+    @Test
+    @DisplayName("멱등성 키와 함께 저장하면 주문 ID를 멱등성 키로 기록한다")
+    void saveNewOrder_WithIdempotencyKey() {
+        // given
+        Order order = OrderMother.orderWithId(20L, 1L);
+        when(orderRepository.save(order)).thenReturn(order);
+
+        // when
+        Order result = orderTransactionHelper.saveNewOrder(order, "order-key-1");
+
+        // then
+        assertThat(result).isSameAs(order);
+        verify(orderIdempotencyRepository).save(argThat(idempotency ->
+                idempotency.getIdempotencyKey().equals("order-key-1")
+                        && idempotency.getOrderId().equals(20L)
+                        && idempotency.getMemberId().equals(1L)));
+        verify(outbox).append(argThat(event -> event instanceof OrderStatusChangedEvent changed
+                && changed.orderStatus() == OrderStatus.PAYMENT_WAITING));
+    }
+
+    @Test
+    @DisplayName("멱등성 키로 기존 주문을 조회한다")
+    void findOrderByIdempotencyKey() {
+        // given
+        Order order = OrderMother.orderWithId(20L, 1L);
+        when(orderIdempotencyRepository.findById("order-key-1"))
+                .thenReturn(Optional.of(OrderIdempotency.create("order-key-1", 1L, 20L)));
+        when(orderRepository.findById(20L)).thenReturn(Optional.of(order));
+
+        // when
+        Optional<OrderResponse> result = orderTransactionHelper.findOrderByIdempotencyKey("order-key-1");
+
+        // then
+        assertThat(result).hasValueSatisfying(response -> assertThat(response.orderId()).isEqualTo(20L));
+    }
+
+    @Test
+    @DisplayName("처음 사용하는 멱등성 키는 조회 결과가 없다")
+    void findOrderByIdempotencyKey_NotFound() {
+        // given
+        when(orderIdempotencyRepository.findById("order-key-2")).thenReturn(Optional.empty());
+
+        // when
+        Optional<OrderResponse> result = orderTransactionHelper.findOrderByIdempotencyKey("order-key-2");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(orderRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,154 @@
+package ys.cafe.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SseConnection 테스트")
+class SseConnectionTest {
+
+    private static final long SEND_TIMEOUT_NANOS = Duration.ofSeconds(10).toNanos();
+
+    @Test
+    @DisplayName("이벤트는 전송 스레드에서 넣은 순서대로 보내고, 종료 요청은 대기 중인 이벤트를 보낸 뒤 처리한다")
+    void send_InOrderThenComplete() {
+        // given
+        List<Runnable> writerTasks = new ArrayList<>();
+        RecordingEmitter emitter = new RecordingEmitter();
+        SseConnection connection = new SseConnection(emitter, writerTasks::add, 10, SEND_TIMEOUT_NANOS, c -> {});
+
+        // when
+        connection.send(() -> SseEmitter.event().name("first").data(1));
+        connection.send(() -> SseEmitter.event().name("second").data(2));
+        connection.complete();
+        assertThat(emitter.sent).isZero();
+
+        runAll(writerTasks);
+
+        // then
+        assertThat(emitter.sent).isEqualTo(2);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(connection.send(() -> SseEmitter.event().comment("after-complete"))).isFalse();
+        assertThatThrownBy(() -> emitter.send("after-complete"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("전송을 기다리는 이벤트가 한도를 넘으면 연결을 끊고 구독을 해제한다")
+    void send_DisconnectsWhenPendingExceeded() {
+        // given
+        List<Runnable> writerTasks = new ArrayList<>();
+        AtomicInteger disconnected = new AtomicInteger();
+        SseConnection connection = new SseConnection(new RecordingEmitter(), writerTasks::add, 2, SEND_TIMEOUT_NANOS,
+                c -> disconnected.incrementAndGet());
+
+        // when
+        boolean first = connection.send(() -> SseEmitter.event().data(1));
+        boolean second = connection.send(() -> SseEmitter.event().data(2));
+        boolean overflow = connection.send(() -> SseEmitter.event().data(3));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(overflow).isFalse();
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(disconnected).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 연결을 끊고 구독을 해제한다")
+    void send_DisconnectsOnWriteFailure() {
+        // given
+        AtomicInteger disconnected = new AtomicInteger();
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        SseConnection connection = new SseConnection(emitter, Runnable::run, 10, SEND_TIMEOUT_NANOS,
+                c -> disconnected.incrementAndGet());
+
+        // when
+        connection.send(() -> SseEmitter.event().data(1));
+
+        // then
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(disconnected).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("전송이 send-timeout을 넘도록 끝나지 않으면 쓰기를 기다리지 않고 연결을 끊는다")
+    void disconnectIfStalled() throws InterruptedException {
+        // given
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        SseEmitter stalledEmitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Broken pipe");
+            }
+        };
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        AtomicInteger disconnected = new AtomicInteger();
+        long sendTimeoutNanos = Duration.ofMillis(10).toNanos();
+        SseConnection connection = new SseConnection(stalledEmitter, writer, 10, sendTimeoutNanos,
+                c -> disconnected.incrementAndGet());
+
+        try {
+            connection.send(() -> SseEmitter.event().data(1));
+            assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            boolean notYet = connection.disconnectIfStalled(System.nanoTime() - sendTimeoutNanos * 100);
+            boolean stalled = connection.disconnectIfStalled(System.nanoTime() + sendTimeoutNanos * 100);
+
+            // then
+            assertThat(notYet).isFalse();
+            assertThat(stalled).isTrue();
+            assertThat(connection.isClosed()).isTrue();
+            assertThat(disconnected).hasValue(1);
+            assertThat(connection.send(() -> SseEmitter.event().data(2))).isFalse();
+        } finally {
+            releaseWrite.countDown();
+            writer.shutdown();
+            assertThat(writer.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(disconnected).hasValue(1);
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private int sent;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            super.send(builder);
+            sent++;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ys.cafe.order.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ys.cafe.order.objectmother.OrderMother;
+import ys.cafe.order.service.dto.OrderResponse;
+import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DataSerializer 테스트")
+class DataSerializerTest {
+
+    private final DataSerializer dataSerializer = new DataSerializer(JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build());
+
+    private final OrderResponse orderResponse = OrderResponse.from(OrderMother.orderWithId(1L, 1L));
+
+    @Test
+    @DisplayName("문자열로 직렬화한 주문 응답을 같은 값으로 역직렬화한다")
+    void roundTrip_String() {
+        // when
+        String json = dataSerializer.serialize(orderResponse);
+
+        // then
+        assertThat(dataSerializer.deserialize(json, OrderResponse.class)).isEqualTo(orderResponse);
+    }
+
+    @Test
+    @DisplayName("byte 배열로 직렬화한 주문 응답을 같은 값으로 역직렬화한다")
+    void roundTrip_Bytes() {
+        // when
+        byte[] bytes = dataSerializer.serializeToBytes(orderResponse);
+
+        // then
+        assertThat(dataSerializer.deserialize(bytes, OrderResponse.class)).isEqualTo(orderResponse);
+    }
+
+    @Test
+    @DisplayName("스트림으로 읽고 쓰며 호출자의 스트림은 닫지 않는다")
+    void roundTrip_Stream() {
+        // given
+        AtomicBoolean outputClosed = new AtomicBoolean();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        OutputStream out = new TrackingOutputStream(buffer, outputClosed);
+
+        // when
+        boolean written = dataSerializer.serialize(orderResponse, out);
+        AtomicBoolean inputClosed = new AtomicBoolean();
+        InputStream in = new ByteArrayInputStream(buffer.toByteArray()) {
+            @Override
+            public void close() {
+                inputClosed.set(true);
+            }
+        };
+        OrderResponse result = dataSerializer.deserialize(in, OrderResponse.class);
+
+        // then
+        assertThat(written).isTrue();
+        assertThat(result).isEqualTo(orderResponse);
+        assertThat(outputClosed).isFalse();
+        assertThat(inputClosed).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 대상 타입인 객체는 변환하지 않고 그대로 반환한다")
+    void convert_SameType() {
+        // given
+        PaymentInfoResponse response = PaymentInfoResponse.of(1L, 1L, "5000", "SUCCESS");
+
+        // when & then
+        assertThat(dataSerializer.deserialize((Object) response, PaymentInfoResponse.class)).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("Map을 대상 타입으로 변환한다")
+    void convert_Map() {
+        // given
+        Map<String, Object> data = Map.of("orderId", 1, "memberId", 2, "amount", "5000", "status", "SUCCESS");
+
+        // when
+        PaymentInfoResponse result = dataSerializer.deserialize((Object) data, PaymentInfoResponse.class);
+
+        // then
+        assertThat(result).isEqualTo(PaymentInfoResponse.of(1L, 2L, "5000", "SUCCESS"));
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON은 null을 반환한다")
+    void deserialize_InvalidJson() {
+        // when & then
+        assertThat(dataSerializer.deserialize("{invalid", PaymentInfoResponse.class)).isNull();
+    }
+
+    private static final class TrackingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private final AtomicBoolean closed;
+
+        private TrackingOutputStream(OutputStream delegate, AtomicBoolean closed) {
+            this.delegate = delegate;
+            this.closed = closed;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package ys.cafe.payment.domain;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import ys.cafe.payment.domain.vo.Won;
+import ys.cafe.common.vo.Won;
+
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -202,4 +204,42 @@ class PaymentTest {
         // then
         assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCEL_COMPLETED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("취소 실패 시 시도 횟수와 실패 사유를 기록하고 점유를 해제한다")
+    void scheduleCancelRetry() {
+        // given
+        Payment payment = Payment.create("test_payment_key", 1L, 100L, Won.of(10000));
+        payment.markAsCanceled();
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusMinutes(1);
+
+        // when
+        payment.scheduleCancelRetry("a".repeat(600), nextAttemptAt);
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        assertThat(payment.getCancelAttempts()).isEqualTo(1);
+        assertThat(payment.getCancelNextAttemptAt()).isEqualTo(nextAttemptAt);
+        assertThat(payment.getCancelLastError()).hasSize(500);
+        assertThat(payment.getClaimedBy()).isNull();
+        assertThat(payment.getClaimedUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("취소 재시도 한도를 초과하면 CANCEL_FAILED 상태로 변경된다")
+    void markAsCancelFailed() {
+        // given
+        Payment payment = Payment.create("test_payment_key", 1L, 100L, Won.of(10000));
+        payment.markAsCanceled();
+        payment.scheduleCancelRetry("1차 실패", LocalDateTime.now());
+
+        // when
+        payment.markAsCancelFailed("2차 실패");
+
+        // then
+        assertThat(payment.isCancelFailed()).isTrue();
+        assertThat(payment.getCancelAttempts()).isEqualTo(2);
+        assertThat(payment.getCancelLastError()).isEqualTo("2차 실패");
+        assertThat(payment.getCancelNextAttemptAt()).isNull();
+    }
+}
@@ -0,0 +1,122 @@
+package ys.cafe.payment.out.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ys.cafe.payment.config.PaymentGatewayProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PaymentGatewayCircuitBreaker 테스트")
+class PaymentGatewayCircuitBreakerTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-05T05:00:00Z");
+
+    private Clock clock;
+    private PaymentGatewayCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+
+        // 최근 4건 중 최소 4건 호출, 실패율 50% 이상이면 오픈, 10초 후 2건 시험 호출
+        PaymentGatewayProperties properties = new PaymentGatewayProperties(
+                10, 10, Duration.ofSeconds(4), 50, 4, 4, Duration.ofSeconds(10), 2, false);
+        circuitBreaker = new PaymentGatewayCircuitBreaker(PaymentGatewayOperation.PAY, properties, clock);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 이전에는 실패율이 높아도 서킷을 열지 않는다")
+    void staysClosedBeforeMinimumCalls() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentGatewayCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치 이상이면 서킷을 열고 호출을 허용하지 않는다")
+    void opensWhenFailureRateExceedsThreshold() {
+        // when
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentGatewayCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("sliding window를 벗어난 오래된 결과는 실패율에서 제외한다")
+    void slidingWindowDropsOldOutcomes() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // when
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.failureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("오픈 시간이 지나면 시험 호출을 허용하고, 시험 호출이 모두 성공하면 서킷을 닫는다")
+    void halfOpenClosesAfterSuccessfulTrialCalls() {
+        // given
+        openCircuit();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+
+        // when
+        boolean first = circuitBreaker.tryAcquirePermission();
+        boolean second = circuitBreaker.tryAcquirePermission();
+        boolean third = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentGatewayCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.failureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 서킷을 다시 연다")
+    void halfOpenReopensOnFailure() {
+        // given
+        openCircuit();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentGatewayCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentGatewayCircuitBreaker.State.OPEN);
+    }
+}
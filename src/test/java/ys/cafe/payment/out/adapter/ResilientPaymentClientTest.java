@@ -0,0 +1,238 @@
+package ys.cafe.payment.out.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ys.cafe.payment.config.PaymentGatewayProperties;
+import ys.cafe.payment.service.dto.response.PaymentResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResilientPaymentClient 테스트")
+class ResilientPaymentClientTest {
+
+    @Mock
+    private PaymentClient delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResilientPaymentClient paymentClient;
+
+    @BeforeEach
+    void setUp() {
+        // 결제 동시 요청 1건, 타임아웃 100ms, 최근 2건이 모두 실패하면 서킷 오픈
+        meterRegistry = new SimpleMeterRegistry();
+        paymentClient = new ResilientPaymentClient(delegate, Runnable::run, Runnable::run, properties(false), meterRegistry);
+    }
+
+    private static PaymentGatewayProperties properties(boolean countDeclinedAsFailure) {
+        return new PaymentGatewayProperties(
+                1, 1, Duration.ofMillis(100), 100, 2, 2, Duration.ofMinutes(1), 1, countDeclinedAsFailure);
+    }
+
+    @Test
+    @DisplayName("게이트웨이 응답을 그대로 반환하고 성공 건수를 집계한다")
+    void payAsync_Success() {
+        // given
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.success("payment-key")));
+
+        // when
+        PaymentResponse response = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // then
+        assertThat(response.success()).isTrue();
+        PaymentGatewayStats stats = paymentClient.stats(PaymentGatewayOperation.PAY);
+        assertThat(stats.successful()).isEqualTo(1);
+        assertThat(stats.inFlight()).isZero();
+        assertThat(meterRegistry.get("payment.gateway.latency")
+                .tag("operation", "pay")
+                .tag("outcome", "success")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답이 타임아웃 내에 오지 않으면 실패로 응답하고, 게이트웨이 호출이 끝날 때까지 동시 요청 수에 포함한다")
+    void payAsync_Timeout() {
+        // given
+        CompletableFuture<PaymentResponse> hanging = new CompletableFuture<>();
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString())).thenReturn(hanging);
+
+        // when
+        PaymentResponse response = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(response.timedOut()).isTrue();
+        assertThat(response.message()).contains("시간 초과");
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).timedOut()).isEqualTo(1);
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).inFlight()).isEqualTo(1);
+
+        hanging.complete(PaymentResponse.success("payment-key"));
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("타임아웃 이후 게이트웨이가 성공 응답하면 늦게 도착한 결과를 lateResponse로 전달한다")
+    void payAsync_LateSuccessAfterTimeout() {
+        // given
+        CompletableFuture<PaymentResponse> hanging = new CompletableFuture<>();
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString())).thenReturn(hanging);
+        PaymentResponse response = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+        assertThat(response.lateResponse()).isNotDone();
+
+        // when
+        hanging.complete(PaymentResponse.success("payment-key"));
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(response.lateResponse().join().success()).isTrue();
+    }
+
+    @Test
+    @DisplayName("게이트웨이 호출이 시작되기 전 스레드 풀 대기 시간은 타임아웃에 포함하지 않는다")
+    void payAsync_TimeoutStartsWhenCallStarts() throws InterruptedException {
+        // given
+        List<Runnable> queuedCalls = new ArrayList<>();
+        paymentClient = new ResilientPaymentClient(delegate, queuedCalls::add, Runnable::run, properties(false), meterRegistry);
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.success("payment-key")));
+
+        CompletableFuture<PaymentResponse> result = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500");
+        Thread.sleep(200);
+        assertThat(result).isNotDone();
+
+        // when
+        queuedCalls.forEach(Runnable::run);
+
+        // then
+        assertThat(result.join().success()).isTrue();
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).timedOut()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 요청 한도를 넘으면 게이트웨이를 호출하지 않고 즉시 실패한다")
+    void payAsync_BulkheadFull() {
+        // given
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(new CompletableFuture<>());
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500");
+
+        // when
+        PaymentResponse response = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).bulkheadFull()).isEqualTo(1);
+        verify(delegate, times(1)).payAsync(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("결제와 취소는 벌크헤드를 따로 사용한다")
+    void cancel_SeparateBulkhead() {
+        // given
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(new CompletableFuture<>());
+        when(delegate.cancel("payment-key"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.success("payment-key")));
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500");
+
+        // when
+        PaymentResponse response = paymentClient.cancel("payment-key").join();
+
+        // then
+        assertThat(response.success()).isTrue();
+        assertThat(paymentClient.stats(PaymentGatewayOperation.CANCEL).successful()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘어 서킷이 열리면 게이트웨이를 호출하지 않고 즉시 실패한다")
+    void payAsync_CircuitOpen() {
+        // given
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("연결 실패")));
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // when
+        PaymentResponse response = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // then
+        assertThat(paymentClient.circuitState(PaymentGatewayOperation.PAY)).isEqualTo(PaymentGatewayCircuitBreaker.State.OPEN);
+        assertThat(response.success()).isFalse();
+        assertThat(response.message()).contains("서킷 오픈");
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).notPermitted()).isEqualTo(1);
+        verify(delegate, times(2)).payAsync(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("취소 호출 실패로 취소 서킷이 열려도 결제 호출은 차단하지 않는다")
+    void cancel_CircuitOpenDoesNotBlockPay() {
+        // given
+        when(delegate.cancel("payment-key"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("연결 실패")));
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.success("payment-key")));
+        paymentClient.cancel("payment-key").join();
+        paymentClient.cancel("payment-key").join();
+
+        // when
+        PaymentResponse cancelResponse = paymentClient.cancel("payment-key").join();
+        PaymentResponse payResponse = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // then
+        assertThat(paymentClient.circuitState(PaymentGatewayOperation.CANCEL)).isEqualTo(PaymentGatewayCircuitBreaker.State.OPEN);
+        assertThat(cancelResponse.message()).contains("서킷 오픈");
+        assertThat(paymentClient.circuitState(PaymentGatewayOperation.PAY)).isEqualTo(PaymentGatewayCircuitBreaker.State.CLOSED);
+        assertThat(payResponse.success()).isTrue();
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).notPermitted()).isZero();
+    }
+
+    @Test
+    @DisplayName("게이트웨이의 결제 거절 응답은 기본적으로 서킷 실패로 집계하지 않는다")
+    void payAsync_DeclinedDoesNotOpenCircuit() {
+        // given
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.failure("외부 결제 게이트웨이 처리 실패")));
+
+        // when
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+        PaymentResponse response = paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // then
+        assertThat(paymentClient.circuitState(PaymentGatewayOperation.PAY)).isEqualTo(PaymentGatewayCircuitBreaker.State.CLOSED);
+        assertThat(paymentClient.circuitFailureRate(PaymentGatewayOperation.PAY)).isZero();
+        assertThat(response.message()).doesNotContain("서킷 오픈");
+        assertThat(paymentClient.stats(PaymentGatewayOperation.PAY).failed()).isEqualTo(3);
+        verify(delegate, times(3)).payAsync(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("count-declined-as-failure 설정 시 결제 거절 응답도 서킷 실패로 집계한다")
+    void payAsync_DeclinedCountedAsFailureWhenConfigured() {
+        // given
+        paymentClient = new ResilientPaymentClient(delegate, Runnable::run, Runnable::run, properties(true), meterRegistry);
+        when(delegate.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.failure("외부 결제 게이트웨이 처리 실패")));
+
+        // when
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+        paymentClient.payAsync("홍길동", "19900101", "01012345678", "4500").join();
+
+        // then
+        assertThat(paymentClient.circuitState(PaymentGatewayOperation.PAY)).isEqualTo(PaymentGatewayCircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,196 @@
+package ys.cafe.payment.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ys.cafe.common.vo.Won;
+import ys.cafe.payment.domain.Payment;
+import ys.cafe.payment.domain.PaymentStatus;
+import ys.cafe.payment.domain.vo.PaymentKey;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 취소 배치 점유 쿼리 검증 (lockClaimablePaymentKeys, claimPayments, updateStatusOfClaimedPayments)
+ * 노드마다 별도 트랜잭션에서 점유하므로 테스트 트랜잭션 없이 커밋된 데이터로 검증합니다.
+ * (H2도 FOR UPDATE SKIP LOCKED를 지원하므로 MySQL과 같은 쿼리를 실행, 스키마는 Hibernate가 생성)
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.name=payment-claim"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PaymentRepository 취소 배치 점유 테스트")
+class PaymentRepositoryTest {
+
+    private static final String CANCELED = PaymentStatus.CANCELED.name();
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        paymentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 트랜잭션이 잠근 결제는 건너뛰어 두 노드가 서로 다른 결제를 점유한다")
+    void lockClaimablePaymentKeys_SkipLocked() throws Exception {
+        // given
+        saveCanceledPayments("key-1", "key-2", "key-3", "key-4");
+        LocalDateTime claimedUntil = LocalDateTime.now().plusMinutes(5);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        // node-1: 2건을 잠그고 점유한 뒤 커밋하지 않고 대기
+        CompletableFuture<List<String>> firstNode = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<String> keys = claimInTransaction("node-1", 2, claimedUntil);
+                    firstClaimed.countDown();
+                    await(releaseFirst);
+                    return keys;
+                }));
+        assertThat(firstClaimed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - node-1 트랜잭션이 진행 중일 때 node-2가 점유
+        List<String> secondKeys = claim("node-2", 4, claimedUntil);
+        releaseFirst.countDown();
+        List<String> firstKeys = firstNode.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(firstKeys).containsExactly("key-1", "key-2");
+        assertThat(secondKeys).containsExactly("key-3", "key-4");
+        assertThat(claimedBy("key-1")).isEqualTo("node-1");
+        assertThat(claimedBy("key-3")).isEqualTo("node-2");
+    }
+
+    @Test
+    @DisplayName("점유가 만료된 결제는 다른 노드가 다시 점유하고, 만료되지 않은 결제는 점유하지 않는다")
+    void lockClaimablePaymentKeys_ReclaimsExpiredLease() {
+        // given
+        saveCanceledPayments("key-1", "key-2");
+        claimKeys(List.of("key-1"), "node-1", LocalDateTime.now().minusSeconds(1));
+        claimKeys(List.of("key-2"), "node-1", LocalDateTime.now().plusMinutes(5));
+
+        // when
+        List<String> reclaimed = claim("node-2", 10, LocalDateTime.now().plusMinutes(5));
+
+        // then
+        assertThat(reclaimed).containsExactly("key-1");
+        assertThat(claimedBy("key-1")).isEqualTo("node-2");
+        assertThat(claimedBy("key-2")).isEqualTo("node-1");
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간(cancel_next_attempt_at)이 지나지 않은 결제와 CANCELED가 아닌 결제는 점유하지 않는다")
+    void lockClaimablePaymentKeys_FiltersNextAttemptAndStatus() {
+        // given
+        saveCanceledPayments("key-1");
+        Payment waiting = canceledPayment("key-2");
+        waiting.scheduleCancelRetry("외부 시스템 오류", LocalDateTime.now().plusHours(1));
+        Payment due = canceledPayment("key-3");
+        due.scheduleCancelRetry("외부 시스템 오류", LocalDateTime.now().minusMinutes(1));
+        Payment succeeded = Payment.create("key-4", 4L, 1L, Won.of(4500));
+        succeeded.markAsSuccess();
+        paymentRepository.saveAll(List.of(waiting, due, succeeded));
+
+        // when
+        List<String> claimed = claim("node-1", 10, LocalDateTime.now().plusMinutes(5));
+
+        // then
+        assertThat(claimed).containsExactly("key-1", "key-3");
+    }
+
+    @Test
+    @DisplayName("점유가 다른 노드로 넘어간 결제는 이전 노드가 상태를 변경하지 못한다")
+    void updateStatusOfClaimedPayments_OnlyOwner() {
+        // given - node-1의 점유가 만료되어 node-2가 다시 점유
+        saveCanceledPayments("key-1");
+        claimKeys(List.of("key-1"), "node-1", LocalDateTime.now().minusSeconds(1));
+        assertThat(claim("node-2", 10, LocalDateTime.now().plusMinutes(5))).containsExactly("key-1");
+
+        // when
+        int staleOwnerUpdated = completeClaimed("node-1", List.of("key-1"));
+        int ownerUpdated = completeClaimed("node-2", List.of("key-1"));
+
+        // then
+        assertThat(staleOwnerUpdated).isZero();
+        assertThat(ownerUpdated).isEqualTo(1);
+        Payment payment = paymentRepository.findByPaymentKey(PaymentKey.of("key-1")).orElseThrow();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCEL_COMPLETED);
+        assertThat(payment.getClaimedBy()).isNull();
+        assertThat(payment.getClaimedUntil()).isNull();
+    }
+
+    // PaymentServiceImpl.claimCanceledPayments와 같은 순서로 잠금 후 점유
+    private List<String> claim(String nodeId, int limit, LocalDateTime claimedUntil) {
+        return transactionTemplate.execute(status -> claimInTransaction(nodeId, limit, claimedUntil));
+    }
+
+    private List<String> claimInTransaction(String nodeId, int limit, LocalDateTime claimedUntil) {
+        List<String> paymentKeys = paymentRepository.lockClaimablePaymentKeys(CANCELED, LocalDateTime.now(), limit);
+        if (!paymentKeys.isEmpty()) {
+            paymentRepository.claimPayments(paymentKeys, nodeId, claimedUntil);
+        }
+        return paymentKeys;
+    }
+
+    private void claimKeys(List<String> paymentKeys, String nodeId, LocalDateTime claimedUntil) {
+        transactionTemplate.executeWithoutResult(status ->
+                paymentRepository.claimPayments(paymentKeys, nodeId, claimedUntil));
+    }
+
+    private int completeClaimed(String nodeId, List<String> paymentKeys) {
+        return transactionTemplate.execute(status -> paymentRepository.updateStatusOfClaimedPayments(
+                paymentKeys, nodeId, PaymentStatus.CANCELED, PaymentStatus.CANCEL_COMPLETED, LocalDateTime.now()));
+    }
+
+    private String claimedBy(String paymentKey) {
+        return paymentRepository.findByPaymentKey(PaymentKey.of(paymentKey)).orElseThrow().getClaimedBy();
+    }
+
+    private void saveCanceledPayments(String... paymentKeys) {
+        List<Payment> payments = new ArrayList<>();
+        for (String paymentKey : paymentKeys) {
+            payments.add(canceledPayment(paymentKey));
+        }
+        paymentRepository.saveAll(payments);
+    }
+
+    private static Payment canceledPayment(String paymentKey) {
+        Payment payment = Payment.create(paymentKey, 1L, 1L, Won.of(4500));
+        payment.markAsCanceled();
+        return payment;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package ys.cafe.payment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import ys.cafe.payment.config.PaymentCancelRetryProperties;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentCancelRetryPolicy 테스트")
+class PaymentCancelRetryPolicyTest {
+
+    private final PaymentCancelRetryPolicy policy = new PaymentCancelRetryPolicy(
+            new PaymentCancelRetryProperties(5, Duration.ofMinutes(1), Duration.ofMinutes(10)));
+
+    @ParameterizedTest(name = "{0}번 실패 후 대기 시간은 {1}초 이상 {2}초 이하")
+    @CsvSource({
+            "1, 30, 60",
+            "2, 60, 120",
+            "3, 120, 240",
+            "4, 240, 480",
+            "5, 300, 600",
+            "30, 300, 600"
+    })
+    @DisplayName("실패할 때마다 대기 시간이 2배씩 늘어나며, 상한 내에서 지터가 적용된다")
+    void backoff(int attempts, long minSeconds, long maxSeconds) {
+        for (int i = 0; i < 100; i++) {
+            // when
+            Duration backoff = policy.backoff(attempts);
+
+            // then
+            assertThat(backoff).isBetween(Duration.ofSeconds(minSeconds), Duration.ofSeconds(maxSeconds));
+        }
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 재시도하지 않는다")
+    void isExhausted() {
+        assertThat(policy.isExhausted(4)).isFalse();
+        assertThat(policy.isExhausted(5)).isTrue();
+    }
+}
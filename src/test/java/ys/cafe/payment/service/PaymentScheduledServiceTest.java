@@ -1,61 +1,392 @@
 package ys.cafe.payment.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import ys.cafe.payment.domain.PaymentStatus;
-import ys.cafe.payment.repository.PaymentRepository;
+import ys.cafe.payment.config.PaymentCancelProperties;
+import ys.cafe.payment.out.adapter.PaymentClient;
+import ys.cafe.payment.service.dto.response.PaymentResponse;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PaymentScheduledService 테스트")
 class PaymentScheduledServiceTest {
 
-    @Mock
-    private PaymentRepository paymentRepository;
+    private static final String NODE_ID = "node-1";
 
     @Mock
     private PaymentService paymentService;
 
-    @InjectMocks
+    @Mock
+    private PaymentClient paymentClient;
+
     private PaymentScheduledService paymentScheduledService;
 
+    @BeforeEach
+    void setUp() {
+        paymentScheduledService = new PaymentScheduledService(
+                paymentService,
+                paymentClient,
+                new PaymentCancelProperties(2, 2, Duration.ofMinutes(5), NODE_ID)
+        );
+    }
+
+    @Test
+    @DisplayName("CANCELED 상태 결제를 chunk 단위로 점유하고, 취소 성공 건을 chunk마다 일괄 갱신한다")
+    void processCanceledPayments_ChunkedBulkUpdate() {
+        // given
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of("key-1", "key-2"))
+                .thenReturn(List.of("key-3"));
+        when(paymentClient.cancel(anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        PaymentResponse.success(invocation.getArgument(0))));
+
+        // when
+        paymentScheduledService.processCanceledPayments();
+
+        // then
+        verify(paymentService, times(2)).claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class));
+        verify(paymentService).completeCanceledPayments(eq(NODE_ID), argThat(keys ->
+                keys.size() == 2 && keys.containsAll(List.of("key-1", "key-2"))));
+        verify(paymentService).completeCanceledPayments(NODE_ID, List.of("key-3"));
+        verify(paymentClient, times(3)).cancel(anyString());
+    }
+
+    @Test
+    @DisplayName("배치 실행 후 처리 결과와 남은 CANCELED 결제 건수를 지표로 갱신한다")
+    void processCanceledPayments_RefreshesMetrics() {
+        // given
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of("key-1"));
+        when(paymentClient.cancel("key-1"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.success("key-1")));
+        when(paymentService.completeCanceledPayments(NODE_ID, List.of("key-1"))).thenReturn(1);
+        when(paymentService.countCancelBacklog()).thenReturn(5L);
+
+        // when
+        paymentScheduledService.processCanceledPayments();
+
+        // then
+        assertThat(paymentScheduledService.completedCancels()).isEqualTo(1);
+        assertThat(paymentScheduledService.cancelBacklog()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("점유 만료 일시는 lease-duration 이후로 설정된다")
+    void processCanceledPayments_LeaseDuration() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // when
+        paymentScheduledService.processCanceledPayments();
+
+        // then
+        verify(paymentService).claimCanceledPayments(eq(NODE_ID), eq(2), argThat(claimedUntil ->
+                !claimedUntil.isBefore(before.plusMinutes(5))));
+    }
+
     @Test
-    @DisplayName("CANCELED 상태 결제가 존재하면 비동기 취소 처리를 트리거한다")
-    void processCanceledPayments_CanceledPaymentsExist() {
+    @DisplayName("외부 결제 시스템 취소에 실패한 건은 일괄 갱신에서 제외된다")
+    void processCanceledPayments_ExcludeFailedCancels() {
         // given
-        List<String> canceledKeys = List.of("key-1", "key-2");
-        when(paymentRepository.findPaymentKeyByStatus(PaymentStatus.CANCELED))
-                .thenReturn(canceledKeys);
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of("key-1"));
+        when(paymentClient.cancel("key-1"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.failure("외부 시스템 오류")));
 
         // when
         paymentScheduledService.processCanceledPayments();
 
         // then
-        verify(paymentRepository).findPaymentKeyByStatus(PaymentStatus.CANCELED);
-        verify(paymentService).processSingleCanceledPaymentAsync("key-1");
-        verify(paymentService).processSingleCanceledPaymentAsync("key-2");
+        verify(paymentService, never()).completeCanceledPayments(anyString(), anyList());
+        verify(paymentService).recordCancelFailures(NODE_ID, Map.of("key-1", "외부 시스템 오류"));
     }
 
     @Test
-    @DisplayName("CANCELED 상태 결제가 없으면 비동기 취소 처리를 호출하지 않는다")
+    @DisplayName("취소 요청 중 예외가 발생해도 나머지 건은 일괄 갱신된다")
+    void processCanceledPayments_CancelException() {
+        // given
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of("key-1", "key-2"))
+                .thenReturn(List.of());
+        when(paymentClient.cancel("key-1"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+        when(paymentClient.cancel("key-2"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.success("key-2")));
+
+        // when
+        paymentScheduledService.processCanceledPayments();
+
+        // then
+        verify(paymentService).completeCanceledPayments(NODE_ID, List.of("key-2"));
+        verify(paymentService).recordCancelFailures(NODE_ID, Map.of("key-1", "timeout"));
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과된 취소는 실제 결과가 올 때까지 동시 요청 허가를 유지하고, 늦게 도착한 성공 응답은 취소 완료로 반영한다")
+    void processCanceledPayments_TimedOutCancelLateSuccess() throws Exception {
+        // given
+        paymentScheduledService = new PaymentScheduledService(
+                paymentService,
+                paymentClient,
+                new PaymentCancelProperties(2, 1, Duration.ofMinutes(5), NODE_ID)
+        );
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of("key-1", "key-2"))
+                .thenReturn(List.of());
+        CompletableFuture<PaymentResponse> lateResponse = new CompletableFuture<>();
+        when(paymentClient.cancel("key-1"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.timeout("결제 게이트웨이 응답 시간 초과", lateResponse)));
+        when(paymentClient.cancel("key-2"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.success("key-2")));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> run = executor.submit(() -> paymentScheduledService.processCanceledPayments());
+            sleep(100);
+            verify(paymentClient, never()).cancel("key-2");
+
+            // when
+            lateResponse.complete(PaymentResponse.success("key-1"));
+            run.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        verify(paymentClient, times(1)).cancel("key-1");
+        verify(paymentService).completeCanceledPayments(eq(NODE_ID), argThat(keys ->
+                keys.size() == 2 && keys.containsAll(List.of("key-1", "key-2"))));
+        verify(paymentService, never()).recordCancelFailures(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과 이후 게이트웨이가 취소 실패로 응답하면 실패로 기록한다")
+    void processCanceledPayments_TimedOutCancelLateFailure() {
+        // given
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of("key-1"));
+        when(paymentClient.cancel("key-1"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.timeout("결제 게이트웨이 응답 시간 초과",
+                        CompletableFuture.completedFuture(PaymentResponse.failure("외부 시스템 오류")))));
+
+        // when
+        paymentScheduledService.processCanceledPayments();
+
+        // then
+        verify(paymentService, never()).completeCanceledPayments(anyString(), anyList());
+        verify(paymentService).recordCancelFailures(NODE_ID, Map.of("key-1", "외부 시스템 오류"));
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과된 취소의 결과가 점유 만료 전까지 오지 않으면 실패로 기록한다")
+    void processCanceledPayments_TimedOutCancelNoResultBeforeLeaseExpiry() {
+        // given
+        paymentScheduledService = new PaymentScheduledService(
+                paymentService,
+                paymentClient,
+                new PaymentCancelProperties(2, 2, Duration.ofMillis(100), NODE_ID)
+        );
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of("key-1"));
+        when(paymentClient.cancel("key-1"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentResponse.timeout("결제 게이트웨이 응답 시간 초과",
+                        new CompletableFuture<>())));
+
+        // when
+        paymentScheduledService.processCanceledPayments();
+
+        // then
+        verify(paymentService, never()).completeCanceledPayments(anyString(), anyList());
+        verify(paymentService).recordCancelFailures(eq(NODE_ID), argThat(failures ->
+                failures.size() == 1 && failures.get("key-1").contains("시간 초과")));
+    }
+
+    @Test
+    @DisplayName("동시 취소 요청 수는 max-in-flight를 넘지 않는다")
+    void processCanceledPayments_BoundedInFlight() {
+        // given
+        paymentScheduledService = new PaymentScheduledService(
+                paymentService,
+                paymentClient,
+                new PaymentCancelProperties(10, 2, Duration.ofMinutes(5), NODE_ID)
+        );
+        List<String> paymentKeys = List.of("key-1", "key-2", "key-3", "key-4", "key-5", "key-6");
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(10), any(LocalDateTime.class)))
+                .thenReturn(paymentKeys);
+
+        ExecutorService gateway = Executors.newFixedThreadPool(6);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        when(paymentClient.cancel(anyString())).thenAnswer(invocation -> {
+            String paymentKey = invocation.getArgument(0);
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(20);
+                inFlight.decrementAndGet();
+                return PaymentResponse.success(paymentKey);
+            }, gateway);
+        });
+
+        try {
+            // when
+            paymentScheduledService.processCanceledPayments();
+        } finally {
+            gateway.shutdownNow();
+        }
+
+        // then
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(2);
+        verify(paymentService).completeCanceledPayments(eq(NODE_ID), argThat(keys -> keys.size() == 6));
+    }
+
+    @Test
+    @DisplayName("CANCELED 상태 결제가 없으면 취소 요청과 일괄 갱신을 하지 않는다")
     void processCanceledPayments_NoCanceledPayments() {
         // given
-        when(paymentRepository.findPaymentKeyByStatus(PaymentStatus.CANCELED))
+        when(paymentService.claimCanceledPayments(eq(NODE_ID), eq(2), any(LocalDateTime.class)))
                 .thenReturn(List.of());
 
         // when
         paymentScheduledService.processCanceledPayments();
 
         // then
-        verify(paymentRepository).findPaymentKeyByStatus(PaymentStatus.CANCELED);
-        verify(paymentService, never()).processSingleCanceledPaymentAsync(anyString());
+        verify(paymentClient, never()).cancel(anyString());
+        verify(paymentService, never()).completeCanceledPayments(anyString(), anyList());
+        verify(paymentService, never()).recordCancelFailures(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 실행해도 같은 결제를 중복으로 취소 요청하지 않는다")
+    void processCanceledPayments_MultiNode() throws Exception {
+        // given
+        int nodeCount = 4;
+        List<String> paymentKeys = IntStream.rangeClosed(1, 200)
+                .mapToObj(i -> "key-%03d".formatted(i))
+                .toList();
+        InMemoryClaimStore claimStore = new InMemoryClaimStore(paymentKeys);
+
+        Map<String, AtomicInteger> cancelCounts = new ConcurrentHashMap<>();
+        PaymentClient sharedGateway = mock(PaymentClient.class);
+        when(sharedGateway.cancel(anyString())).thenAnswer(invocation -> {
+            String paymentKey = invocation.getArgument(0);
+            cancelCounts.computeIfAbsent(paymentKey, key -> new AtomicInteger()).incrementAndGet();
+            return CompletableFuture.completedFuture(PaymentResponse.success(paymentKey));
+        });
+
+        List<PaymentScheduledService> nodes = new ArrayList<>();
+        for (int i = 1; i <= nodeCount; i++) {
+            nodes.add(new PaymentScheduledService(
+                    claimStore.paymentServiceFor(),
+                    sharedGateway,
+                    new PaymentCancelProperties(7, 3, Duration.ofMinutes(5), "node-" + i)
+            ));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(nodeCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> runs = new ArrayList<>();
+        for (PaymentScheduledService node : nodes) {
+            runs.add(executor.submit(() -> {
+                start.await();
+                node.processCanceledPayments();
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> run : runs) {
+            run.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+
+        // then
+        assertThat(cancelCounts).hasSize(paymentKeys.size());
+        assertThat(cancelCounts.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(claimStore.completedKeys()).containsExactlyInAnyOrderElementsOf(paymentKeys);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED + claimed_by/claimed_until 갱신과 같은 점유 규칙을 따르는 인메모리 저장소
+     * (점유 시점에 원자적으로 미점유 결제만 가져가며, 완료 갱신은 점유 노드만 가능)
+     */
+    private static class InMemoryClaimStore {
+
+        private final Set<String> canceled;
+        private final Map<String, String> claimedBy = new ConcurrentHashMap<>();
+        private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+        InMemoryClaimStore(List<String> paymentKeys) {
+            this.canceled = new LinkedHashSet<>(paymentKeys);
+        }
+
+        PaymentService paymentServiceFor() {
+            PaymentService paymentService = mock(PaymentService.class);
+            when(paymentService.claimCanceledPayments(anyString(), anyInt(), any(LocalDateTime.class)))
+                    .thenAnswer(invocation -> claim(invocation.getArgument(0), invocation.getArgument(1)));
+            when(paymentService.completeCanceledPayments(anyString(), anyList()))
+                    .thenAnswer(invocation -> complete(invocation.getArgument(0), invocation.getArgument(1)));
+            return paymentService;
+        }
+
+        synchronized List<String> claim(String nodeId, int limit) {
+            List<String> claimed = canceled.stream()
+                    .filter(paymentKey -> !claimedBy.containsKey(paymentKey))
+                    .limit(limit)
+                    .toList();
+            claimed.forEach(paymentKey -> claimedBy.put(paymentKey, nodeId));
+            return claimed;
+        }
+
+        synchronized int complete(String nodeId, List<String> paymentKeys) {
+            int updated = 0;
+            for (String paymentKey : paymentKeys) {
+                if (nodeId.equals(claimedBy.get(paymentKey)) && canceled.remove(paymentKey)) {
+                    claimedBy.remove(paymentKey);
+                    completed.add(paymentKey);
+                    updated++;
+                }
+            }
+            return updated;
+        }
+
+        Set<String> completedKeys() {
+            return completed;
+        }
     }
 }
@@ -6,13 +6,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
 import ys.cafe.common.exception.CommonException;
-import ys.cafe.payment.domain.vo.Won;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.common.vo.Won;
+import ys.cafe.payment.config.PaymentCancelRetryProperties;
 import ys.cafe.payment.out.adapter.PaymentClient;
 import ys.cafe.payment.domain.Payment;
 import ys.cafe.payment.domain.PaymentStatus;
 import ys.cafe.payment.domain.vo.PaymentKey;
+import ys.cafe.payment.event.PaymentStatusChangedEvent;
 import ys.cafe.payment.out.port.MemberPort;
 import ys.cafe.payment.repository.PaymentRepository;
 import ys.cafe.payment.service.dto.MemberDTO;
@@ -20,7 +26,11 @@ import ys.cafe.payment.service.dto.response.PaymentInfoResponse;
 import ys.cafe.payment.service.dto.response.PaymentListResponse;
 import ys.cafe.payment.service.dto.response.PaymentResponse;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -41,12 +51,22 @@ class PaymentServiceImplTest {
     @Mock
     private PaymentClient paymentClient;
 
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private PaymentTransactionHelper paymentTransactionHelper;
+
+    @Spy
+    private PaymentCancelRetryPolicy cancelRetryPolicy = new PaymentCancelRetryPolicy(
+            new PaymentCancelRetryProperties(3, Duration.ofMinutes(1), Duration.ofHours(1)));
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
     private Long orderId;
     private Long memberId;
-    private String amount;
+    private long amount;
     private MemberDTO memberDTO;
     private Payment payment;
 
@@ -54,7 +74,7 @@ class PaymentServiceImplTest {
     void setUp() {
         orderId = 1L;
         memberId = 1L;
-        amount = "5000";
+        amount = 5000L;
 
         memberDTO = MemberDTO.of(
                 "홍길동",
@@ -73,42 +93,117 @@ class PaymentServiceImplTest {
     }
 
     @Test
-    @DisplayName("결제 처리 성공")
-    void processPayment_Success() {
+    @DisplayName("비동기 결제 처리 시 게이트웨이 호출 전에 PENDING 결제를 저장하고, 결제 응답 이후 결제 결과를 저장한다")
+    void processPaymentAsync_Success() {
         // given
+        List<PaymentStatus> savedStatuses = recordSavedStatuses();
+        CompletableFuture<PaymentResponse> gatewayFuture = new CompletableFuture<>();
         given(memberPort.getMember(memberId)).willReturn(memberDTO);
-        given(paymentClient.pay(anyString(), anyString(), anyString(), anyString()))
-                .willReturn(PaymentResponse.success("test-payment-key"));
-        given(paymentRepository.save(any(Payment.class))).willReturn(payment);
+        given(paymentClient.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .willReturn(gatewayFuture);
 
         // when
-        PaymentResponse response = paymentService.processPayment(orderId, memberId, amount);
+        CompletableFuture<PaymentResponse> result = paymentService.processPaymentAsync(orderId, memberId, amount);
 
         // then
-        assertThat(response.success()).isTrue();
+        assertThat(result).isNotDone();
+        assertThat(savedStatuses).containsExactly(PaymentStatus.PENDING);
 
-        verify(memberPort).getMember(memberId);
-        verify(paymentClient).pay(anyString(), anyString(), anyString(), anyString());
-        verify(paymentRepository).save(any(Payment.class));
+        gatewayFuture.complete(PaymentResponse.success("test-payment-key"));
+
+        assertThat(result.join().success()).isTrue();
+        assertThat(savedStatuses).containsExactly(PaymentStatus.PENDING, PaymentStatus.SUCCESS);
     }
 
     @Test
-    @DisplayName("결제 처리 실패")
-    void processPayment_Fail() {
+    @DisplayName("비동기 결제 처리 중 게이트웨이 예외가 발생하면 결제 실패로 저장한다")
+    void processPaymentAsync_GatewayException() {
         // given
+        List<PaymentStatus> savedStatuses = recordSavedStatuses();
         given(memberPort.getMember(memberId)).willReturn(memberDTO);
-        given(paymentClient.pay(anyString(), anyString(), anyString(), anyString()))
-                .willReturn(PaymentResponse.failure("결제 실패"));
-        given(paymentRepository.save(any(Payment.class))).willReturn(payment);
+        given(paymentClient.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
 
         // when
-        PaymentResponse response = paymentService.processPayment(orderId, memberId, amount);
+        PaymentResponse response = paymentService.processPaymentAsync(orderId, memberId, amount).join();
 
         // then
         assertThat(response.success()).isFalse();
-        assertThat(response.message()).isEqualTo("결제 실패");
+        assertThat(savedStatuses).containsExactly(PaymentStatus.PENDING, PaymentStatus.FAILED);
+    }
 
-        verify(paymentRepository).save(any(Payment.class));
+    @Test
+    @DisplayName("게이트웨이 승인 후 결제 결과 저장에 실패하면 결제는 PENDING으로 남아 정산 대상이 된다")
+    void processPaymentAsync_RecordFailureLeavesPending() {
+        // given
+        List<PaymentStatus> savedStatuses = new ArrayList<>();
+        given(paymentRepository.save(any(Payment.class)))
+                .willAnswer(invocation -> {
+                    Payment saved = invocation.getArgument(0);
+                    savedStatuses.add(saved.getStatus());
+                    return saved;
+                })
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+        given(memberPort.getMember(memberId)).willReturn(memberDTO);
+        given(paymentClient.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(PaymentResponse.success("test-payment-key")));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPaymentAsync(orderId, memberId, amount).join())
+                .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(savedStatuses).containsExactly(PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("PENDING 결제 저장에 실패하면 게이트웨이를 호출하지 않는다")
+    void processPaymentAsync_PendingSaveFailure() {
+        // given
+        given(memberPort.getMember(memberId)).willReturn(memberDTO);
+        given(paymentRepository.save(any(Payment.class))).willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPaymentAsync(orderId, memberId, amount))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(paymentClient, never()).payAsync(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과로 결제 실패를 저장한 뒤 게이트웨이가 성공 응답하면 결제를 취소 등록한다")
+    void processPaymentAsync_LateSuccessAfterTimeout() {
+        // given
+        List<PaymentStatus> savedStatuses = recordSavedStatuses();
+        CompletableFuture<PaymentResponse> lateResponse = new CompletableFuture<>();
+        given(memberPort.getMember(memberId)).willReturn(memberDTO);
+        given(paymentClient.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(PaymentResponse.timeout("결제 게이트웨이 응답 시간 초과", lateResponse)));
+
+        PaymentResponse response = paymentService.processPaymentAsync(orderId, memberId, amount).join();
+        assertThat(response.success()).isFalse();
+        assertThat(savedStatuses).containsExactly(PaymentStatus.PENDING, PaymentStatus.FAILED);
+        verify(paymentTransactionHelper, never()).cancelLateSucceededPayment(anyString());
+
+        // when
+        lateResponse.complete(PaymentResponse.success("test-payment-key"));
+
+        // then
+        verify(paymentTransactionHelper).cancelLateSucceededPayment(anyString());
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과 이후 게이트웨이가 실패 응답하면 보상 처리하지 않는다")
+    void processPaymentAsync_LateFailureAfterTimeout() {
+        // given
+        CompletableFuture<PaymentResponse> lateResponse = new CompletableFuture<>();
+        given(memberPort.getMember(memberId)).willReturn(memberDTO);
+        given(paymentClient.payAsync(anyString(), anyString(), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(PaymentResponse.timeout("결제 게이트웨이 응답 시간 초과", lateResponse)));
+        paymentService.processPaymentAsync(orderId, memberId, amount).join();
+
+        // when
+        lateResponse.complete(PaymentResponse.failure("외부 결제 게이트웨이 처리 실패"));
+
+        // then
+        verify(paymentTransactionHelper, never()).cancelLateSucceededPayment(anyString());
     }
 
     @Test
@@ -165,6 +260,9 @@ class PaymentServiceImplTest {
 
         verify(paymentRepository).findByOrderId(orderId);
         verify(paymentRepository).save(payment);
+        verify(outbox).append(argThat(event -> event instanceof PaymentStatusChangedEvent changed
+                && changed.orderId().equals(orderId)
+                && changed.status() == PaymentStatus.CANCELED));
     }
 
     @Test
@@ -180,81 +278,127 @@ class PaymentServiceImplTest {
 
         verify(paymentRepository).findByOrderId(orderId);
         verify(paymentRepository, never()).save(any());
+        verify(outbox, never()).append(any());
     }
 
     @Test
-    @DisplayName("비동기 결제 취소 처리 성공")
-    void processSingleCanceledPaymentAsync_Success() {
+    @DisplayName("CANCELED 결제를 잠금 조회한 뒤 같은 트랜잭션에서 노드가 점유한다")
+    void claimCanceledPayments_Success() {
         // given
-        String paymentKey = "test-payment-key";
-        payment.markAsCanceled();
-
-        given(paymentRepository.findByPaymentKey(PaymentKey.of(paymentKey))).willReturn(Optional.of(payment));
-        given(paymentClient.cancel(paymentKey))
-                .willReturn(CompletableFuture.completedFuture(PaymentResponse.success(paymentKey)));
-        given(paymentRepository.save(any(Payment.class))).willReturn(payment);
+        String nodeId = "node-1";
+        LocalDateTime claimedUntil = LocalDateTime.now().plusMinutes(5);
+        List<String> paymentKeys = List.of("key-1", "key-2");
+        given(paymentRepository.lockClaimablePaymentKeys(eq("CANCELED"), any(LocalDateTime.class), eq(10)))
+                .willReturn(paymentKeys);
 
         // when
-        paymentService.processSingleCanceledPaymentAsync(paymentKey);
+        List<String> claimed = paymentService.claimCanceledPayments(nodeId, 10, claimedUntil);
 
         // then
-        verify(paymentRepository).findByPaymentKey(PaymentKey.of(paymentKey));
-        verify(paymentClient).cancel(paymentKey);
-        verify(paymentRepository).save(payment);
+        assertThat(claimed).containsExactly("key-1", "key-2");
+        verify(paymentRepository).claimPayments(paymentKeys, nodeId, claimedUntil);
     }
 
     @Test
-    @DisplayName("비동기 결제 취소 처리 - CANCELED 상태가 아닌 경우 처리하지 않음")
-    void processSingleCanceledPaymentAsync_NotCanceledStatus() {
+    @DisplayName("점유 가능한 CANCELED 결제가 없으면 점유 갱신을 하지 않는다")
+    void claimCanceledPayments_Empty() {
         // given
-        String paymentKey = "test-payment-key";
-        payment.markAsSuccess(); // CANCELED가 아닌 SUCCESS 상태
+        given(paymentRepository.lockClaimablePaymentKeys(eq("CANCELED"), any(LocalDateTime.class), eq(10)))
+                .willReturn(List.of());
 
-        given(paymentRepository.findByPaymentKey(PaymentKey.of(paymentKey))).willReturn(Optional.of(payment));
+        // when
+        List<String> claimed = paymentService.claimCanceledPayments("node-1", 10, LocalDateTime.now());
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(paymentRepository, never()).claimPayments(anyList(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("취소 완료된 결제들을 한 번의 UPDATE로 CANCEL_COMPLETED 처리하고 결제별 취소 완료 이벤트를 기록한다")
+    void completeCanceledPayments_Success() {
+        // given
+        String nodeId = "node-1";
+        List<String> paymentKeys = List.of("key-1", "key-2");
+        Payment first = Payment.create("key-1", 1L, memberId, Won.of(amount));
+        Payment second = Payment.create("key-2", 2L, memberId, Won.of(amount));
+        given(paymentRepository.findClaimedPayments(paymentKeys, nodeId, PaymentStatus.CANCELED))
+                .willReturn(List.of(first, second));
+        given(paymentRepository.updateStatusOfClaimedPayments(
+                eq(paymentKeys), eq(nodeId), eq(PaymentStatus.CANCELED), eq(PaymentStatus.CANCEL_COMPLETED), any()))
+                .willReturn(2);
 
         // when
-        paymentService.processSingleCanceledPaymentAsync(paymentKey);
+        int updatedCount = paymentService.completeCanceledPayments(nodeId, paymentKeys);
 
         // then
-        verify(paymentRepository).findByPaymentKey(PaymentKey.of(paymentKey));
-        verify(paymentClient, never()).cancel(anyString());
+        assertThat(updatedCount).isEqualTo(2);
         verify(paymentRepository, never()).save(any());
+        verify(outbox, times(2)).append(argThat(event -> event instanceof PaymentStatusChangedEvent changed
+                && changed.status() == PaymentStatus.CANCEL_COMPLETED));
     }
 
     @Test
-    @DisplayName("비동기 결제 취소 처리 실패 - 결제 정보 없음")
-    void processSingleCanceledPaymentAsync_NotFound() {
+    @DisplayName("취소 완료 처리 시 점유하지 않았거나 CANCELED 상태가 아닌 결제는 변경되지 않는다")
+    void completeCanceledPayments_PartiallyUpdated() {
         // given
-        String paymentKey = "invalid-key";
-        given(paymentRepository.findByPaymentKey(PaymentKey.of(paymentKey))).willReturn(Optional.empty());
+        String nodeId = "node-1";
+        List<String> paymentKeys = List.of("key-1", "key-2", "key-3");
+        given(paymentRepository.updateStatusOfClaimedPayments(
+                eq(paymentKeys), eq(nodeId), eq(PaymentStatus.CANCELED), eq(PaymentStatus.CANCEL_COMPLETED), any()))
+                .willReturn(1);
 
         // when
-        paymentService.processSingleCanceledPaymentAsync(paymentKey);
+        int updatedCount = paymentService.completeCanceledPayments(nodeId, paymentKeys);
 
         // then
-        verify(paymentRepository).findByPaymentKey(PaymentKey.of(paymentKey));
-        verify(paymentClient, never()).cancel(anyString());
-        verify(paymentRepository, never()).save(any());
+        assertThat(updatedCount).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("비동기 결제 취소 처리 - 외부 시스템 취소 실패")
-    void processSingleCanceledPaymentAsync_ExternalCancelFail() {
+    @DisplayName("취소 실패한 결제는 시도 횟수와 실패 사유를 기록하고 백오프 이후로 재시도를 예약한다")
+    void recordCancelFailures_ScheduleRetry() {
         // given
-        String paymentKey = "test-payment-key";
+        String nodeId = "node-1";
         payment.markAsCanceled();
+        given(paymentRepository.findClaimedPayments(anyCollection(), eq(nodeId), eq(PaymentStatus.CANCELED)))
+                .willReturn(List.of(payment));
+        LocalDateTime before = LocalDateTime.now();
 
-        given(paymentRepository.findByPaymentKey(PaymentKey.of(paymentKey))).willReturn(Optional.of(payment));
-        given(paymentClient.cancel(paymentKey))
-                .willReturn(CompletableFuture.completedFuture(PaymentResponse.failure("외부 시스템 오류")));
+        // when
+        int deadLetteredCount = paymentService.recordCancelFailures(nodeId, Map.of("test-payment-key", "외부 시스템 오류"));
+
+        // then
+        assertThat(deadLetteredCount).isZero();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        assertThat(payment.getCancelAttempts()).isEqualTo(1);
+        assertThat(payment.getCancelLastError()).isEqualTo("외부 시스템 오류");
+        assertThat(payment.getCancelNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(payment.getClaimedBy()).isNull();
+        verify(outbox, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 결제는 CANCEL_FAILED로 전환하여 재시도하지 않는다")
+    void recordCancelFailures_DeadLetter() {
+        // given
+        String nodeId = "node-1";
+        payment.markAsCanceled();
+        payment.scheduleCancelRetry("1차 실패", LocalDateTime.now());
+        payment.scheduleCancelRetry("2차 실패", LocalDateTime.now());
+        given(paymentRepository.findClaimedPayments(anyCollection(), eq(nodeId), eq(PaymentStatus.CANCELED)))
+                .willReturn(List.of(payment));
 
         // when
-        paymentService.processSingleCanceledPaymentAsync(paymentKey);
+        int deadLetteredCount = paymentService.recordCancelFailures(nodeId, Map.of("test-payment-key", "3차 실패"));
 
         // then
-        verify(paymentRepository).findByPaymentKey(PaymentKey.of(paymentKey));
-        verify(paymentClient).cancel(paymentKey);
-        verify(paymentRepository, never()).save(any()); // 실패 시 저장하지 않음
+        assertThat(deadLetteredCount).isEqualTo(1);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCEL_FAILED);
+        assertThat(payment.getCancelAttempts()).isEqualTo(3);
+        assertThat(payment.getCancelNextAttemptAt()).isNull();
+        verify(outbox).append(argThat(event -> event instanceof PaymentStatusChangedEvent changed
+                && changed.status() == PaymentStatus.CANCEL_FAILED));
     }
 
     @Test
@@ -302,4 +446,80 @@ class PaymentServiceImplTest {
 
         verify(paymentRepository).findByMemberId(memberId);
     }
+
+    @Test
+    @DisplayName("결제 대기 주문 정산 - 결제 성공 기록이 있으면 성공으로 정산한다")
+    void settleStalePayment_Success() {
+        // given
+        payment.markAsSuccess();
+        given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+
+        // when
+        boolean paymentSuccess = paymentService.settleStalePayment(orderId);
+
+        // then
+        assertThat(paymentSuccess).isTrue();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        verify(outbox, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("결제 대기 주문 정산 - 결과가 기록되지 않은 PENDING 결제는 취소 등록하고 실패로 정산한다")
+    void settleStalePayment_Pending() {
+        // given
+        given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+
+        // when
+        boolean paymentSuccess = paymentService.settleStalePayment(orderId);
+
+        // then
+        assertThat(paymentSuccess).isFalse();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        verify(outbox).append(argThat(event -> event instanceof PaymentStatusChangedEvent changed
+                && changed.status() == PaymentStatus.CANCELED));
+    }
+
+    @Test
+    @DisplayName("결제 대기 주문 정산 - 결제 기록이 없으면 실패로 정산한다")
+    void settleStalePayment_NotFound() {
+        // given
+        given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.empty());
+
+        // when
+        boolean paymentSuccess = paymentService.settleStalePayment(orderId);
+
+        // then
+        assertThat(paymentSuccess).isFalse();
+        verify(outbox, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("결과가 기록되지 않은 채 오래된 PENDING 결제를 취소 등록한다")
+    void cancelStalePendingPayments() {
+        // given
+        LocalDateTime createdBefore = LocalDateTime.now().minusMinutes(2);
+        Payment other = Payment.create("other-payment-key", 2L, memberId, Won.of(4500));
+        given(paymentRepository.findByStatusAndCreatedAtBefore(eq(PaymentStatus.PENDING), eq(createdBefore), any(Limit.class)))
+                .willReturn(List.of(payment, other));
+
+        // when
+        int canceledCount = paymentService.cancelStalePendingPayments(createdBefore, 100);
+
+        // then
+        assertThat(canceledCount).isEqualTo(2);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        assertThat(other.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        verify(outbox, times(2)).append(any(PaymentStatusChangedEvent.class));
+    }
+
+    // 같은 Payment 인스턴스를 여러 번 저장하므로 저장 시점의 상태를 기록
+    private List<PaymentStatus> recordSavedStatuses() {
+        List<PaymentStatus> savedStatuses = new ArrayList<>();
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> {
+            Payment saved = invocation.getArgument(0);
+            savedStatuses.add(saved.getStatus());
+            return saved;
+        });
+        return savedStatuses;
+    }
 }
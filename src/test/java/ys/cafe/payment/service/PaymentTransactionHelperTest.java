@@ -0,0 +1,71 @@
+package ys.cafe.payment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ys.cafe.common.outbox.Outbox;
+import ys.cafe.common.vo.Won;
+import ys.cafe.payment.domain.Payment;
+import ys.cafe.payment.domain.PaymentStatus;
+import ys.cafe.payment.domain.vo.PaymentKey;
+import ys.cafe.payment.event.PaymentStatusChangedEvent;
+import ys.cafe.payment.repository.PaymentRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentTransactionHelper 테스트")
+class PaymentTransactionHelperTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private Outbox outbox;
+
+    @InjectMocks
+    private PaymentTransactionHelper paymentTransactionHelper;
+
+    @Test
+    @DisplayName("결제 실패로 저장된 결제가 늦게 성공하면 취소 등록하고 취소 이벤트를 아웃박스에 기록한다")
+    void cancelLateSucceededPayment_Failed() {
+        // given
+        Payment payment = Payment.create("late-payment-key", 1L, 1L, Won.of(4500));
+        payment.markAsFailed();
+        given(paymentRepository.findByPaymentKey(PaymentKey.of("late-payment-key"))).willReturn(Optional.of(payment));
+
+        // when
+        paymentTransactionHelper.cancelLateSucceededPayment("late-payment-key");
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        verify(outbox).append(argThat(event -> event instanceof PaymentStatusChangedEvent changed
+                && changed.status() == PaymentStatus.CANCELED));
+    }
+
+    @Test
+    @DisplayName("결제 실패 상태가 아니면 상태를 바꾸지 않는다")
+    void cancelLateSucceededPayment_NotFailed() {
+        // given
+        Payment payment = Payment.create("late-payment-key", 1L, 1L, Won.of(4500));
+        payment.markAsSuccess();
+        given(paymentRepository.findByPaymentKey(PaymentKey.of("late-payment-key"))).willReturn(Optional.of(payment));
+
+        // when
+        paymentTransactionHelper.cancelLateSucceededPayment("late-payment-key");
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        verify(outbox, never()).append(any());
+    }
+}
@@ -8,7 +8,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ys.cafe.product.domain.Product;
 import ys.cafe.product.domain.ProductMother;
+import ys.cafe.product.domain.ProductStatus;
 import ys.cafe.product.service.dto.CreateProductRequest;
+import ys.cafe.product.service.dto.ProductCatalogItem;
 import ys.cafe.product.service.dto.ProductResponse;
 import ys.cafe.product.service.dto.UpdateProductRequest;
 import ys.cafe.common.exception.CommonException;
@@ -32,6 +34,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
     @InjectMocks
     private ProductService productService;
 
@@ -184,6 +189,7 @@ class ProductServiceTest {
         assertThat(response.name()).isEqualTo("카페라떼");
         assertThat(response.price()).isEqualTo("5000");
         verify(productRepository, times(1)).findById(productId);
+        verify(productCatalogCache).evictAfterCommit(productId);
     }
 
     @Test
@@ -219,6 +225,7 @@ class ProductServiceTest {
         // then
         verify(productRepository, times(1)).existsById(productId);
         verify(productRepository, times(1)).deleteById(productId);
+        verify(productCatalogCache).evictAfterCommit(productId);
     }
 
     @Test
@@ -233,6 +240,7 @@ class ProductServiceTest {
                 .isInstanceOf(CommonException.class);
         verify(productRepository, times(1)).existsById(productId);
         verify(productRepository, never()).deleteById(any());
+        verify(productCatalogCache, never()).evictAfterCommit(any());
     }
 
     @Test
@@ -251,6 +259,7 @@ class ProductServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.status()).isEqualTo("SOLD_OUT");
         verify(productRepository, times(1)).findById(productId);
+        verify(productCatalogCache).evictAfterCommit(productId);
     }
 
     @Test
@@ -333,4 +342,81 @@ class ProductServiceTest {
                 .isInstanceOf(ProductDomainException.class);
         verify(productRepository, times(1)).findAllByProductIds(productIds);
     }
+
+    @Test
+    @DisplayName("카탈로그 캐시에 모든 상품이 있으면 DB를 조회하지 않는다")
+    void getAvailableCatalogItemsByIds_AllCached() {
+        // given
+        ProductCatalogItem americano = new ProductCatalogItem(1L, "아메리카노", 4500L, ProductStatus.AVAILABLE);
+        ProductCatalogItem latte = new ProductCatalogItem(2L, "카페라떼", 5000L, ProductStatus.AVAILABLE);
+        when(productCatalogCache.get(1L)).thenReturn(Optional.of(americano));
+        when(productCatalogCache.get(2L)).thenReturn(Optional.of(latte));
+
+        // when
+        List<ProductCatalogItem> items = productService.getAvailableCatalogItemsByIds(List.of(1L, 2L));
+
+        // then
+        assertThat(items).containsExactly(americano, latte);
+        verify(productRepository, never()).findCatalogItemsByProductIds(any());
+    }
+
+    @Test
+    @DisplayName("카탈로그 캐시에 없는 상품만 DB에서 조회하여 캐시에 적재한다")
+    void getAvailableCatalogItemsByIds_PartiallyCached() {
+        // given
+        ProductCatalogItem americano = new ProductCatalogItem(1L, "아메리카노", 4500L, ProductStatus.AVAILABLE);
+        ProductCatalogItem latte = new ProductCatalogItem(2L, "카페라떼", 5000L, ProductStatus.AVAILABLE);
+        when(productCatalogCache.get(1L)).thenReturn(Optional.of(americano));
+        when(productCatalogCache.get(2L)).thenReturn(Optional.empty());
+        when(productCatalogCache.get(3L)).thenReturn(Optional.empty());
+        when(productCatalogCache.loadEpoch()).thenReturn(7L);
+        when(productRepository.findCatalogItemsByProductIds(List.of(2L, 3L))).thenReturn(List.of(latte));
+
+        // when
+        List<ProductCatalogItem> items = productService.getAvailableCatalogItemsByIds(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(items).containsExactly(americano, latte);
+        verify(productRepository).findCatalogItemsByProductIds(List.of(2L, 3L));
+        verify(productCatalogCache).putAll(List.of(latte), 7L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 상품이 변경되어 무효화되면 조회한 이전 값을 캐시에 적재하지 않는다")
+    void getAvailableCatalogItemsByIds_InvalidatedDuringLoad() {
+        // given - 조회 시작 → 관리자 가격 변경 커밋(무효화) → 조회 완료 후 적재 순서
+        ProductCatalogCache catalogCache = new ProductCatalogCache(100);
+        ProductService service = new ProductService(productRepository, catalogCache);
+        ProductCatalogItem stale = new ProductCatalogItem(2L, "카페라떼", 5000L, ProductStatus.AVAILABLE);
+        ProductCatalogItem updated = new ProductCatalogItem(2L, "카페라떼", 5500L, ProductStatus.AVAILABLE);
+        when(productRepository.findCatalogItemsByProductIds(List.of(2L)))
+                .thenAnswer(invocation -> {
+                    catalogCache.evictAfterCommit(2L);
+                    return List.of(stale);
+                })
+                .thenReturn(List.of(updated));
+
+        // when
+        List<ProductCatalogItem> first = service.getAvailableCatalogItemsByIds(List.of(2L));
+        List<ProductCatalogItem> second = service.getAvailableCatalogItemsByIds(List.of(2L));
+
+        // then
+        assertThat(first).containsExactly(stale);
+        assertThat(second).containsExactly(updated);
+        assertThat(catalogCache.get(2L)).contains(updated);
+        verify(productRepository, times(2)).findCatalogItemsByProductIds(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("캐시된 상품이 판매 불가 상태이면 예외가 발생한다")
+    void getAvailableCatalogItemsByIds_Unavailable() {
+        // given
+        ProductCatalogItem soldOut = new ProductCatalogItem(1L, "아메리카노", 4500L, ProductStatus.SOLD_OUT);
+        when(productCatalogCache.get(1L)).thenReturn(Optional.of(soldOut));
+
+        // when & then
+        assertThatThrownBy(() -> productService.getAvailableCatalogItemsByIds(List.of(1L)))
+                .isInstanceOf(ProductDomainException.class)
+                .hasMessageContaining("판매할 수 없는 상품");
+    }
 }